@@ -14,11 +14,13 @@ package org.assertj.core.api;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.function.DoublePredicate;
 
 import org.assertj.core.data.Index;
 import org.assertj.core.data.Offset;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.DoubleArrays;
+import org.assertj.core.presentation.PredicateDescription;
 import org.assertj.core.util.CheckReturnValue;
 
 public abstract class AbstractDoubleArrayAssert<SELF extends AbstractDoubleArrayAssert<SELF>>
@@ -1545,6 +1547,54 @@ public abstract class AbstractDoubleArrayAssert<SELF extends AbstractDoubleArray
     return myself;
   }
 
+  /**
+   * Verifies that all the elements of the actual array match the given {@link DoublePredicate}, the elements are not boxed to be
+   * evaluated.
+   * <p>
+   * Example :
+   * <pre><code class='java'> double[] oneTwoThree = { 1.0, 2.0, 3.0 };
+   *
+   * // assertion will pass
+   * assertThat(oneTwoThree).allMatch(d -&gt; d &gt; 0);
+   *
+   * // assertion will fail
+   * assertThat(oneTwoThree).allMatch(d -&gt; d &gt; 1);</code></pre>
+   *
+   * @param predicate the given {@link DoublePredicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if one or more elements don't satisfy the given predicate.
+   * @since 4.0.0
+   */
+  public SELF allMatch(DoublePredicate predicate) {
+    arrays.assertAllMatch(info, actual, predicate, PredicateDescription.GIVEN);
+    return myself;
+  }
+
+  /**
+   * Verifies that all the elements of the actual array match the given {@link DoublePredicate}, the predicate description is used
+   * to get an informative error message.
+   * <p>
+   * Example :
+   * <pre><code class='java'> double[] oneTwoThree = { 1.0, 2.0, 3.0 };
+   *
+   * // assertion will fail with "to match 'greater than 1' predicate"
+   * assertThat(oneTwoThree).allMatch(d -&gt; d &gt; 1, "greater than 1");</code></pre>
+   *
+   * @param predicate the given {@link DoublePredicate}.
+   * @param predicateDescription a description of the {@link DoublePredicate} used in the error message
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if one or more elements don't satisfy the given predicate.
+   * @since 4.0.0
+   */
+  public SELF allMatch(DoublePredicate predicate, String predicateDescription) {
+    arrays.assertAllMatch(info, actual, predicate, new PredicateDescription(predicateDescription));
+    return myself;
+  }
+
   private static double[] toPrimitiveDoubleArray(Double[] values) {
     return Arrays.stream(values).mapToDouble(Double::doubleValue).toArray();
   }
@@ -14,10 +14,12 @@ package org.assertj.core.api;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.function.IntPredicate;
 
 import org.assertj.core.data.Index;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.IntArrays;
+import org.assertj.core.presentation.PredicateDescription;
 import org.assertj.core.util.CheckReturnValue;
 
 public abstract class AbstractIntArrayAssert<SELF extends AbstractIntArrayAssert<SELF>>
@@ -838,6 +840,54 @@ public abstract class AbstractIntArrayAssert<SELF extends AbstractIntArrayAssert
     return myself;
   }
 
+  /**
+   * Verifies that all the elements of the actual array match the given {@link IntPredicate}, the elements are not boxed to be
+   * evaluated.
+   * <p>
+   * Example :
+   * <pre><code class='java'> int[] oneTwoThree = { 1, 2, 3 };
+   *
+   * // assertion will pass
+   * assertThat(oneTwoThree).allMatch(i -&gt; i &gt; 0);
+   *
+   * // assertion will fail
+   * assertThat(oneTwoThree).allMatch(i -&gt; i &gt; 1);</code></pre>
+   *
+   * @param predicate the given {@link IntPredicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if one or more elements don't satisfy the given predicate.
+   * @since 4.0.0
+   */
+  public SELF allMatch(IntPredicate predicate) {
+    arrays.assertAllMatch(info, actual, predicate, PredicateDescription.GIVEN);
+    return myself;
+  }
+
+  /**
+   * Verifies that all the elements of the actual array match the given {@link IntPredicate}, the predicate description is used
+   * to get an informative error message.
+   * <p>
+   * Example :
+   * <pre><code class='java'> int[] oneTwoThree = { 1, 2, 3 };
+   *
+   * // assertion will fail with "to match 'greater than 1' predicate"
+   * assertThat(oneTwoThree).allMatch(i -&gt; i &gt; 1, "greater than 1");</code></pre>
+   *
+   * @param predicate the given {@link IntPredicate}.
+   * @param predicateDescription a description of the {@link IntPredicate} used in the error message
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if one or more elements don't satisfy the given predicate.
+   * @since 4.0.0
+   */
+  public SELF allMatch(IntPredicate predicate, String predicateDescription) {
+    arrays.assertAllMatch(info, actual, predicate, new PredicateDescription(predicateDescription));
+    return myself;
+  }
+
   private static int[] toPrimitiveIntArray(Integer[] values) {
     return Arrays.stream(values).mapToInt(Integer::intValue).toArray();
   }
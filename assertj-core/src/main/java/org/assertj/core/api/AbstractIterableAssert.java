@@ -892,7 +892,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @Override
   @CheckReturnValue
   public SELF usingElementComparator(Comparator<? super ELEMENT> elementComparator) {
-    this.iterables = new Iterables(new ComparatorBasedComparisonStrategy(elementComparator));
+    this.iterables = sameParallelism(new Iterables(new ComparatorBasedComparisonStrategy(elementComparator)));
     // to have the same semantics on base assertions like isEqualTo, we need to use an iterable comparator comparing
     // elements with elementComparator parameter
     objects = new Objects(new IterableElementComparisonStrategy<>(elementComparator));
@@ -910,10 +910,43 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @Override
   @CheckReturnValue
   public SELF usingDefaultElementComparator() {
-    this.iterables = Iterables.instance();
+    this.iterables = sameParallelism(Iterables.instance());
     return usingDefaultComparator();
   }
 
+  /**
+   * Checks the elements in parallel for the assertions evaluating a {@link Consumer} or a {@link Condition} against each
+   * element, that is {@link #allSatisfy(Consumer)}, {@link #noneSatisfy(Consumer)}, {@link #satisfiesOnlyOnce(Consumer)},
+   * {@link #filteredOnAssertions(Consumer)} and the condition assertions like {@link #are(Condition)} or
+   * {@link #areAtLeast(int, Condition)}.
+   * <p>
+   * This is useful when checking an element is expensive, for example when the requirements perform a recursive comparison
+   * or parse some JSON, for cheap checks the cost of distributing the elements among threads exceeds its benefits. The
+   * elements are checked in the common {@link java.util.concurrent.ForkJoinPool} and the elements failing the requirements
+   * are reported in the iteration order, the error messages are thus the same as when the elements are checked sequentially.
+   * <p>
+   * Note that the given requirements and conditions are called from several threads and must thus be thread-safe.
+   * <p>
+   * Example:
+   * <pre><code class='java'> List&lt;Order&gt; orders = loadOrders();
+   *
+   * assertThat(orders).inParallel()
+   *                   .allSatisfy(order -&gt; assertThat(order).usingRecursiveComparison()
+   *                                                          .isEqualTo(expectedOrder(order.getId())));</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF inParallel() {
+    this.iterables = iterables.inParallel();
+    return myself;
+  }
+
+  private Iterables sameParallelism(Iterables newIterables) {
+    return iterables.isParallel() ? newIterables.inParallel() : newIterables;
+  }
+
   /**
    * Verifies that the actual {@link Iterable} contains at least one of the given values.
    * <p>
@@ -2801,7 +2834,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   }
 
   protected SELF usingComparisonStrategy(ComparisonStrategy comparisonStrategy) {
-    iterables = new Iterables(comparisonStrategy);
+    iterables = sameParallelism(new Iterables(comparisonStrategy));
     return myself;
   }
 
@@ -3279,8 +3312,10 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
 
   private SELF internalFilteredOnAssertions(Consumer<? super ELEMENT> elementAssertions) {
     checkArgument(elementAssertions != null, "The element assertions should not be null");
-    List<? extends ELEMENT> filteredIterable = stream(actual.spliterator(), false).filter(byPassingAssertions(elementAssertions))
-                                                                                  .collect(toList());
+    // the filtered elements stay in the iteration order when checked in parallel as the stream is ordered
+    Stream<? extends ELEMENT> elements = stream(actual.spliterator(), iterables.isParallel());
+    List<? extends ELEMENT> filteredIterable = elements.filter(byPassingAssertions(elementAssertions))
+                                                       .collect(toList());
     return newAbstractIterableAssert(filteredIterable).withAssertionState(myself);
   }
 
@@ -95,6 +95,26 @@ public abstract class AbstractIteratorAssert<SELF extends AbstractIteratorAssert
     return new IterableAssert<>(IterableAssert.toIterable(actual));
   }
 
+  /**
+   * Returns a {@link LazyIteratorAssert} reading the remaining iterator elements once and stopping as soon as the assertion
+   * result is known, unlike {@link #toIterable()} the elements are not collected which allows to verify very large or
+   * infinite iterators.
+   * <p>
+   * Only one assertion reading the elements can be chained, the error messages describe the elements read until the
+   * assertion failed.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Iterator&lt;Integer&gt; naturalNumbers = Stream.iterate(0, i -&gt; i + 1).iterator();
+   *
+   * assertThat(naturalNumbers).lazily().contains(1000);</code></pre>
+   *
+   * @return a {@link LazyIteratorAssert} on the remaining iterator elements.
+   * @since 4.0.0
+   */
+  public LazyIteratorAssert<ELEMENT> lazily() {
+    return new LazyIteratorAssert<ELEMENT>(actual).withAssertionState(myself);
+  }
+
   /**
    * Verifies that the actual iterator is unmodifiable, i.e., throws an {@link UnsupportedOperationException} with
    * any attempt to remove from the iterator.
@@ -14,10 +14,12 @@ package org.assertj.core.api;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.function.LongPredicate;
 
 import org.assertj.core.data.Index;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.LongArrays;
+import org.assertj.core.presentation.PredicateDescription;
 import org.assertj.core.util.CheckReturnValue;
 
 public abstract class AbstractLongArrayAssert<SELF extends AbstractLongArrayAssert<SELF>>
@@ -840,6 +842,54 @@ public abstract class AbstractLongArrayAssert<SELF extends AbstractLongArrayAsse
     return myself;
   }
 
+  /**
+   * Verifies that all the elements of the actual array match the given {@link LongPredicate}, the elements are not boxed to be
+   * evaluated.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] oneTwoThree = { 1L, 2L, 3L };
+   *
+   * // assertion will pass
+   * assertThat(oneTwoThree).allMatch(l -&gt; l &gt; 0);
+   *
+   * // assertion will fail
+   * assertThat(oneTwoThree).allMatch(l -&gt; l &gt; 1);</code></pre>
+   *
+   * @param predicate the given {@link LongPredicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if one or more elements don't satisfy the given predicate.
+   * @since 4.0.0
+   */
+  public SELF allMatch(LongPredicate predicate) {
+    arrays.assertAllMatch(info, actual, predicate, PredicateDescription.GIVEN);
+    return myself;
+  }
+
+  /**
+   * Verifies that all the elements of the actual array match the given {@link LongPredicate}, the predicate description is used
+   * to get an informative error message.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] oneTwoThree = { 1L, 2L, 3L };
+   *
+   * // assertion will fail with "to match 'greater than 1' predicate"
+   * assertThat(oneTwoThree).allMatch(l -&gt; l &gt; 1, "greater than 1");</code></pre>
+   *
+   * @param predicate the given {@link LongPredicate}.
+   * @param predicateDescription a description of the {@link LongPredicate} used in the error message
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if one or more elements don't satisfy the given predicate.
+   * @since 4.0.0
+   */
+  public SELF allMatch(LongPredicate predicate, String predicateDescription) {
+    arrays.assertAllMatch(info, actual, predicate, new PredicateDescription(predicateDescription));
+    return myself;
+  }
+
   private static long[] toPrimitiveLongArray(Long[] values) {
     return Arrays.stream(values).mapToLong(Long::longValue).toArray();
   }
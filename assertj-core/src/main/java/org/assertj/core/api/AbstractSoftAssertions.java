@@ -31,6 +31,9 @@ public abstract class AbstractSoftAssertions extends DefaultAssertionErrorCollec
 
   public static void assertAll(AssertionErrorCollector collector) {
     List<AssertionError> errors = collector.assertionErrorsCollected();
+    if (collector instanceof DefaultAssertionErrorCollector defaultCollector) {
+      errors = defaultCollector.summarizeUnrenderedErrors(errors);
+    }
     if (!errors.isEmpty()) throw ASSERTION_ERROR_CREATOR.multipleSoftAssertionsError(errors);
   }
 
@@ -0,0 +1,148 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.reflect.Modifier.FINAL;
+import static java.lang.reflect.Modifier.PUBLIC;
+import static java.lang.reflect.Modifier.STATIC;
+import static java.util.Comparator.comparing;
+import static org.assertj.core.api.Assumptions.PREGENERATED_ASSUMPTION_CLASS_SUFFIX;
+import static org.assertj.core.api.ClassLoadingStrategyFactory.PREGENERATED_CLASS_SIGNATURE_FIELD;
+import static org.assertj.core.api.ClassLoadingStrategyFactory.pregeneratedClassSignature;
+import static org.assertj.core.api.SoftProxies.PREGENERATED_PROXY_CLASS_SUFFIX;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Generates at build time the soft assertion proxy classes and the assumption classes that {@link SoftAssertions} and
+ * {@link Assumptions} otherwise generate at runtime the first time an assert type is used.
+ * <p>
+ * The classes are written in the given directory, if that directory is on the classpath of the tests (like the test
+ * classes output directory), they are loaded from there instead of being generated by each test JVM. Assert types
+ * without a generated class are still generated at runtime.
+ * <p>
+ * The generated classes depend on the AssertJ version used to generate them and on their assert type, stale classes are
+ * ignored (and generated at runtime) but should be generated again when AssertJ is upgraded or when an assert type changes,
+ * running the generator as part of the build takes care of that, for example with Maven:
+ * <pre><code class='xml'> &lt;plugin&gt;
+ *   &lt;groupId&gt;org.codehaus.mojo&lt;/groupId&gt;
+ *   &lt;artifactId&gt;exec-maven-plugin&lt;/artifactId&gt;
+ *   &lt;executions&gt;
+ *     &lt;execution&gt;
+ *       &lt;phase&gt;process-test-classes&lt;/phase&gt;
+ *       &lt;goals&gt;
+ *         &lt;goal&gt;java&lt;/goal&gt;
+ *       &lt;/goals&gt;
+ *       &lt;configuration&gt;
+ *         &lt;mainClass&gt;org.assertj.core.api.AssertionProxiesGenerator&lt;/mainClass&gt;
+ *         &lt;classpathScope&gt;test&lt;/classpathScope&gt;
+ *         &lt;arguments&gt;
+ *           &lt;argument&gt;${project.build.testOutputDirectory}&lt;/argument&gt;
+ *           &lt;!-- optional, all the AssertJ assert types by default --&gt;
+ *           &lt;argument&gt;com.example.PersonAssert&lt;/argument&gt;
+ *         &lt;/arguments&gt;
+ *       &lt;/configuration&gt;
+ *     &lt;/execution&gt;
+ *   &lt;/executions&gt;
+ * &lt;/plugin&gt;</code></pre>
+ * <p>
+ * The generated classes are in the package of their assert type, they are not used when AssertJ is loaded as a named
+ * module since another module can't add classes to its packages.
+ *
+ * @since 4.0.0
+ */
+public final class AssertionProxiesGenerator {
+
+  private AssertionProxiesGenerator() {}
+
+  /**
+   * Generates the soft assertion proxy classes and the assumption classes in the directory given as first argument, for
+   * the assert classes named by the other arguments or for all the AssertJ assert classes if there are none.
+   *
+   * @param args the directory to generate the classes in, followed by the optional assert classes names.
+   * @throws IOException if the classes can't be written.
+   * @throws ClassNotFoundException if one of the given assert classes can't be found.
+   */
+  public static void main(String[] args) throws IOException, ClassNotFoundException {
+    if (args.length == 0)
+      throw new IllegalArgumentException("Expecting the directory to generate the classes in, optionally followed by the assert classes names");
+    List<Class<?>> assertClasses = new ArrayList<>();
+    for (int i = 1; i < args.length; i++) {
+      assertClasses.add(Class.forName(args[i]));
+    }
+    generate(new File(args[0]), assertClasses.isEmpty() ? assertJAssertClasses() : assertClasses);
+  }
+
+  /**
+   * Generates the soft assertion proxy classes and the assumption classes of the given assert classes in the given
+   * directory.
+   *
+   * @param directory the directory to generate the classes in, usually the test classes output directory.
+   * @param assertClasses the assert classes to generate the classes of.
+   * @throws IOException if the classes can't be written.
+   */
+  public static void generate(File directory, Collection<Class<?>> assertClasses) throws IOException {
+    for (Class<?> assertClass : assertClasses) {
+      // the signature lets the generated classes be ignored once they are stale
+      String signature = pregeneratedClassSignature(assertClass);
+      SoftProxies.proxyClassBuilder(assertClass)
+                 .name(assertClass.getName() + PREGENERATED_PROXY_CLASS_SUFFIX)
+                 .defineField(PREGENERATED_CLASS_SIGNATURE_FIELD, String.class, PUBLIC | STATIC | FINAL)
+                 .value(signature)
+                 .make()
+                 .saveIn(directory);
+      Assumptions.assumptionClassBuilder(assertClass)
+                 .name(assertClass.getName() + PREGENERATED_ASSUMPTION_CLASS_SUFFIX)
+                 .defineField(PREGENERATED_CLASS_SIGNATURE_FIELD, String.class, PUBLIC | STATIC | FINAL)
+                 .value(signature)
+                 .make()
+                 .saveIn(directory);
+    }
+  }
+
+  /**
+   * Returns the AssertJ assert classes proxied by {@link SoftAssertions}, {@link BDDSoftAssertions}, {@link Assumptions}
+   * and {@link BDDAssumptions}.
+   *
+   * @return the AssertJ assert classes sorted by name.
+   */
+  public static Collection<Class<?>> assertJAssertClasses() {
+    Set<Class<?>> assertClasses = new TreeSet<>(comparing(Class::getName));
+    Stream.of(SoftAssertions.class, BDDSoftAssertions.class, Assumptions.class, BDDAssumptions.class)
+          .flatMap(type -> Stream.of(type.getMethods()))
+          .map(Method::getReturnType)
+          .filter(AssertionProxiesGenerator::isProxiable)
+          .forEach(assertClasses::add);
+    // returned by the navigation methods changing the object under test
+    Stream.of(BigDecimalScaleAssert.class, FileSizeAssert.class, IterableSizeAssert.class, MapSizeAssert.class,
+              RecursiveComparisonAssert.class)
+          .forEach(assertClasses::add);
+    return assertClasses;
+  }
+
+  private static boolean isProxiable(Class<?> type) {
+    int modifiers = type.getModifiers();
+    return AbstractAssert.class.isAssignableFrom(type) && Modifier.isPublic(modifiers) && !Modifier.isAbstract(modifiers)
+           && !Modifier.isFinal(modifiers);
+  }
+
+}
@@ -42,6 +42,17 @@ public class AssumptionExceptionFactory {
     AssumptionExceptionFactory.preferredAssumptionException = preferredAssumptionException;
   }
 
+  /**
+   * Returns whether an assumption is evaluated in the current thread, the {@link AssertionError} of its failure is only
+   * the cause of the exception thrown for the assumption.
+   *
+   * @return whether an assumption is evaluated in the current thread.
+   * @since 4.0.0
+   */
+  public static boolean isEvaluatingAssumption() {
+    return Assumptions.AssumptionMethodInterceptor.isInProgress();
+  }
+
   private static RuntimeException buildAssumptionException(Class<?> assumptionExceptionClass,
                                                            AssertionError assertionError) throws ReflectiveOperationException {
     return (RuntimeException) assumptionExceptionClass.getConstructor(String.class, Throwable.class)
@@ -17,6 +17,7 @@ import static net.bytebuddy.matcher.ElementMatchers.not;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.AssumptionExceptionFactory.assumptionNotMet;
 import static org.assertj.core.api.ClassLoadingStrategyFactory.classLoadingStrategy;
+import static org.assertj.core.api.ClassLoadingStrategyFactory.pregeneratedClass;
 import static org.assertj.core.api.SoftProxies.METHODS_NOT_TO_PROXY;
 import static org.assertj.core.util.Arrays.array;
 
@@ -81,6 +82,7 @@ import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.TypeCache;
 import net.bytebuddy.TypeCache.SimpleKey;
 import net.bytebuddy.TypeCache.Sort;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodDelegation;
@@ -108,14 +110,21 @@ public class Assumptions {
   private static final ByteBuddy BYTE_BUDDY = new ByteBuddy().with(TypeValidation.DISABLED)
                                                              .with(new AuxiliaryType.NamingStrategy.SuffixingRandom("Assertj$Assumptions"));
 
+  // name of the assumption classes generated at build time by AssertionProxiesGenerator: assert class name + suffix
+  static final String PREGENERATED_ASSUMPTION_CLASS_SUFFIX = "$AssertJ$Assumption";
+
   private static final Implementation ASSUMPTION = MethodDelegation.to(AssumptionMethodInterceptor.class);
 
   private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
 
-  private static final class AssumptionMethodInterceptor {
+  static final class AssumptionMethodInterceptor {
+
+    private static final ThreadLocal<CallsInProgress> CALLS_IN_PROGRESS = ThreadLocal.withInitial(CallsInProgress::new);
 
     @RuntimeType
     public static Object intercept(@This AbstractAssert<?, ?> assertion, @SuperCall Callable<Object> proxy) throws Exception {
+      CallsInProgress callsInProgress = CALLS_IN_PROGRESS.get();
+      callsInProgress.count++;
       try {
         Object result = proxy.call();
         if (result != assertion && result instanceof AbstractAssert<?, ?> abstractAssert) {
@@ -124,8 +133,19 @@ public class Assumptions {
         return result;
       } catch (AssertionError e) {
         throw assumptionNotMet(e);
+      } finally {
+        callsInProgress.count--;
       }
     }
+
+    static boolean isInProgress() {
+      return CALLS_IN_PROGRESS.get().count > 0;
+    }
+
+    // the intercept calls of the current thread that have not returned yet
+    private static final class CallsInProgress {
+      private int count;
+    }
   }
 
   /**
@@ -1586,17 +1606,27 @@ public class Assumptions {
     SimpleKey cacheKey = new SimpleKey(assertClass);
     return (Class<ASSERTION>) CACHE.findOrInsert(assertClass.getClassLoader(),
                                                  cacheKey,
-                                                 () -> generateAssumptionClass(assertClass));
+                                                 () -> pregeneratedOrGeneratedAssumptionClass(assertClass));
+  }
+
+  private static <ASSERTION> Class<? extends ASSERTION> pregeneratedOrGeneratedAssumptionClass(Class<ASSERTION> assertClass) {
+    Class<? extends ASSERTION> pregeneratedAssumptionClass = pregeneratedClass(assertClass,
+                                                                               PREGENERATED_ASSUMPTION_CLASS_SUFFIX);
+    return pregeneratedAssumptionClass != null ? pregeneratedAssumptionClass : generateAssumptionClass(assertClass);
   }
 
   protected static <ASSERTION> Class<? extends ASSERTION> generateAssumptionClass(Class<ASSERTION> assertionType) {
     ClassLoadingStrategyPair strategy = classLoadingStrategy(assertionType);
+    return assumptionClassBuilder(assertionType).make()
+                                                .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
+                                                .getLoaded();
+  }
+
+  // also used by AssertionProxiesGenerator to generate the assumption classes at build time
+  static <ASSERTION> DynamicType.Builder<ASSERTION> assumptionClassBuilder(Class<ASSERTION> assertionType) {
     return BYTE_BUDDY.subclass(assertionType)
                      .method(any().and(not(METHODS_NOT_TO_PROXY)))
-                     .intercept(ASSUMPTION)
-                     .make()
-                     .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
-                     .getLoaded();
+                     .intercept(ASSUMPTION);
   }
 
   // for method that change the object under test (e.g. extracting)
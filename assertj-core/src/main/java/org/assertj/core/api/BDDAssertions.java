@@ -1868,6 +1868,25 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link DoubleStreamAssert}</code> from the given {@link DoubleStream}.
+   * <p>
+   * The {@code DoubleStream} elements are collected in an array of {@code double}s when the assertion object is created, they are
+   * never boxed unlike with {@link #then(DoubleStream)} which converts the {@code DoubleStream} to a {@code List}, this is the
+   * assertion to use for large streams.
+   * <p>
+   * Example:
+   * <pre><code class='java'> thenDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).isSorted()
+   *                                                 .containsOnly(1.0, 2.0, 3.0);</code></pre>
+   *
+   * @param actual the actual {@link DoubleStream} value.
+   * @return the created assertion object.
+   * @since 4.0.0
+   */
+  public static DoubleStreamAssert thenDoubleStream(DoubleStream actual) {
+    return assertThatDoubleStream(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link ListAssert}</code> from the given {@link LongStream}.
    * <p>
@@ -1898,6 +1917,25 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link LongStreamAssert}</code> from the given {@link LongStream}.
+   * <p>
+   * The {@code LongStream} elements are collected in an array of {@code long}s when the assertion object is created, they are
+   * never boxed unlike with {@link #then(LongStream)} which converts the {@code LongStream} to a {@code List}, this is the
+   * assertion to use for large streams.
+   * <p>
+   * Example:
+   * <pre><code class='java'> thenLongStream(LongStream.of(1L, 2L, 3L)).isSorted()
+   *                                          .containsOnly(1L, 2L, 3L);</code></pre>
+   *
+   * @param actual the actual {@link LongStream} value.
+   * @return the created assertion object.
+   * @since 4.0.0
+   */
+  public static LongStreamAssert thenLongStream(LongStream actual) {
+    return assertThatLongStream(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link ListAssert}</code> from the given {@link IntStream}.
    * <p>
@@ -1928,6 +1966,25 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link IntStreamAssert}</code> from the given {@link IntStream}.
+   * <p>
+   * The {@code IntStream} elements are collected in an array of {@code int}s when the assertion object is created, they are
+   * never boxed unlike with {@link #then(IntStream)} which converts the {@code IntStream} to a {@code List}, this is the
+   * assertion to use for large streams.
+   * <p>
+   * Example:
+   * <pre><code class='java'> thenIntStream(IntStream.of(1, 2, 3)).isSorted()
+   *                                     .containsOnly(1, 2, 3);</code></pre>
+   *
+   * @param actual the actual {@link IntStream} value.
+   * @return the created assertion object.
+   * @since 4.0.0
+   */
+  public static IntStreamAssert thenIntStream(IntStream actual) {
+    return assertThatIntStream(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link SpliteratorAssert}</code> from the given {@link Spliterator}.
    * <p>
@@ -12,6 +12,9 @@
  */
 package org.assertj.core.api;
 
+import static java.lang.reflect.Modifier.isPrivate;
+import static java.lang.reflect.Modifier.isStatic;
+
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
@@ -19,6 +22,8 @@ import java.net.URL;
 import java.util.Enumeration;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.loading.ClassInjector;
@@ -26,6 +31,9 @@ import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 
 class ClassLoadingStrategyFactory {
 
+  // name of the static field holding the signature of the classes generated at build time by AssertionProxiesGenerator
+  static final String PREGENERATED_CLASS_SIGNATURE_FIELD = "assertj$signature";
+
   private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
   private static final Method PRIVATE_LOOKUP_IN;
   // Class loader of AssertJ
@@ -69,6 +77,42 @@ class ClassLoadingStrategyFactory {
     }
   }
 
+  // Returns the class generated at build time by AssertionProxiesGenerator for the given assert class if it is on the
+  // classpath of the assert class, null otherwise (the class is then generated at runtime).
+  static <T> Class<? extends T> pregeneratedClass(Class<T> assertClass, String classNameSuffix) {
+    ClassLoader assertClassLoader = assertClass.getClassLoader();
+    if (assertClassLoader == null) return null;
+    try {
+      Class<?> pregeneratedClass = Class.forName(assertClass.getName() + classNameSuffix, false, assertClassLoader);
+      // ignore a class having the expected name but not generated from the assert class
+      if (pregeneratedClass.getSuperclass() != assertClass) return null;
+      // ignore a stale class generated before the assert class or AssertJ changed, it would not proxy the new methods
+      Object signature = pregeneratedClass.getField(PREGENERATED_CLASS_SIGNATURE_FIELD).get(null);
+      return pregeneratedClassSignature(assertClass).equals(signature) ? pregeneratedClass.asSubclass(assertClass) : null;
+    } catch (ReflectiveOperationException | LinkageError e) {
+      return null;
+    }
+  }
+
+  // Returns the signature stored by AssertionProxiesGenerator in the classes it generates, it changes with the AssertJ
+  // version and with the methods that can be overridden by the generated classes.
+  static String pregeneratedClassSignature(Class<?> assertClass) {
+    Set<String> methods = new TreeSet<>();
+    for (Method method : assertClass.getMethods()) {
+      methods.add(method.toString());
+    }
+    for (Class<?> type = assertClass; type != null; type = type.getSuperclass()) {
+      for (Method method : type.getDeclaredMethods()) {
+        if (!isStatic(method.getModifiers()) && !isPrivate(method.getModifiers())) methods.add(method.toString());
+      }
+    }
+    long hash = String.valueOf(ClassLoadingStrategyFactory.class.getPackage().getImplementationVersion()).hashCode();
+    for (String method : methods) {
+      hash = 31 * hash + method.hashCode();
+    }
+    return methods.size() + "-" + Long.toHexString(hash);
+  }
+
   // Pair holder of class loader and class loading strategy to use
   // for ByteBuddy class generation.
   static class ClassLoadingStrategyPair {
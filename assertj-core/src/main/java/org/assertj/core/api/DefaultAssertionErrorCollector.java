@@ -12,25 +12,32 @@
  */
 package org.assertj.core.api;
 
-import static java.util.Collections.synchronizedList;
 import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.assertj.core.error.UnrenderedAssertionErrorsSummary;
 import org.assertj.core.util.Throwables;
 
 public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
 
-  // Marking this field as volatile doesn't ensure complete thread safety
-  // (mutual exclusion, race-free behavior), but guarantees eventual visibility
+  // Lock-free so that soft assertions shared by several threads don't contend on a lock (nor pin virtual threads to
+  // their carrier thread): errors are appended to a concurrent queue, callbacks are rarely registered but read each
+  // time an error is collected.
   private volatile boolean wasSuccess = true;
-  private final List<AssertionError> collectedAssertionErrors = synchronizedList(new ArrayList<>());
+  private final Queue<AssertionError> collectedAssertionErrors = new ConcurrentLinkedQueue<>();
 
-  private final List<AfterAssertionErrorCollected> callbacks = synchronizedList(new ArrayList<>());
+  private final List<AfterAssertionErrorCollected> callbacks = new CopyOnWriteArrayList<>();
 
-  private AssertionErrorCollector delegate = null;
+  private volatile AssertionErrorCollector delegate = null;
+
+  private volatile int maxRenderedErrors = Integer.MAX_VALUE;
 
   public DefaultAssertionErrorCollector() {
     super();
@@ -52,13 +59,16 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
 
   @Override
   public void collectAssertionError(AssertionError error) {
-    if (delegate == null) {
+    AssertionErrorCollector currentDelegate = delegate;
+    if (currentDelegate == null) {
       collectedAssertionErrors.add(error);
       wasSuccess = false;
     } else {
-      delegate.collectAssertionError(error);
+      currentDelegate.collectAssertionError(error);
+    }
+    for (AfterAssertionErrorCollected callback : callbacks) {
+      callback.onAssertionErrorCollected(error);
     }
-    callbacks.forEach(callback -> callback.onAssertionErrorCollected(error));
   }
 
   /**
@@ -70,10 +80,61 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
    */
   @Override
   public List<AssertionError> assertionErrorsCollected() {
-    List<AssertionError> errors = delegate != null
-        ? delegate.assertionErrorsCollected()
-        : unmodifiableList(collectedAssertionErrors);
-    return decorateErrorsCollected(errors);
+    AssertionErrorCollector currentDelegate = delegate;
+    List<AssertionError> errors = currentDelegate != null
+        ? currentDelegate.assertionErrorsCollected()
+        : unmodifiableList(new ArrayList<>(collectedAssertionErrors));
+    int renderedErrors = maxRenderedErrors;
+    if (errors.size() <= renderedErrors) return decorateErrorsCollected(errors);
+    // decorating an error renders its message, the errors beyond the limit are returned as they were collected
+    List<AssertionError> decoratedErrors = new ArrayList<>(decorateErrorsCollected(errors.subList(0, renderedErrors)));
+    decoratedErrors.addAll(errors.subList(renderedErrors, errors.size()));
+    return unmodifiableList(decoratedErrors);
+  }
+
+  /**
+   * Limits the number of collected errors whose message is rendered when the soft assertions are verified, the other
+   * errors are summarized by a final error giving their number.
+   * <p>
+   * Once a limit is set, the message of the errors is rendered the first time it is requested instead of when the
+   * assertion fails, it saves the rendering of thousands of messages nobody would read when many soft assertions fail,
+   * for example when asserting all the elements of a large data set. As a consequence, the message describes the
+   * objects under test as they are when it is rendered: mutating them after a failed assertion changes its message.
+   * <p>
+   * Example:
+   * <pre><code class='java'> SoftAssertions softly = new SoftAssertions();
+   * softly.setMaxRenderedErrors(2);
+   *
+   * for (int i = 0; i &lt; 10_000; i++) {
+   *   softly.assertThat(i).isNegative();
+   * }
+   *
+   * // fails with the messages of the 2 first errors followed by:
+   * // 9998 more soft assertion errors were collected but not rendered (see setMaxRenderedErrors)
+   * softly.assertAll();</code></pre>
+   *
+   * @param maxRenderedErrors the maximum number of collected errors whose message is rendered, must be positive.
+   * @throws IllegalArgumentException if {@code maxRenderedErrors} is not positive.
+   * @since 4.0.0
+   */
+  public void setMaxRenderedErrors(int maxRenderedErrors) {
+    checkArgument(maxRenderedErrors > 0, "The maximum number of rendered errors must be positive but was %s",
+                  maxRenderedErrors);
+    this.maxRenderedErrors = maxRenderedErrors;
+  }
+
+  boolean rendersErrorMessagesLazily() {
+    return maxRenderedErrors != Integer.MAX_VALUE;
+  }
+
+  // replaces the errors beyond the limit of rendered errors by an error summarizing them
+  List<AssertionError> summarizeUnrenderedErrors(List<AssertionError> errors) {
+    int renderedErrors = maxRenderedErrors;
+    if (errors.size() <= renderedErrors) return errors;
+    List<AssertionError> summarizedErrors = new ArrayList<>(errors.subList(0, renderedErrors));
+    int unrenderedErrors = errors.size() - renderedErrors;
+    summarizedErrors.add(new UnrenderedAssertionErrorsSummary(unrenderedErrors));
+    return summarizedErrors;
   }
 
   /**
@@ -136,16 +197,18 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
 
   @Override
   public void succeeded() {
-    if (delegate == null) {
+    AssertionErrorCollector currentDelegate = delegate;
+    if (currentDelegate == null) {
       wasSuccess = true;
     } else {
-      delegate.succeeded();
+      currentDelegate.succeeded();
     }
   }
 
   @Override
   public boolean wasSuccess() {
-    return delegate == null ? wasSuccess : delegate.wasSuccess();
+    AssertionErrorCollector currentDelegate = delegate;
+    return currentDelegate == null ? wasSuccess : currentDelegate.wasSuccess();
   }
 
   /**
@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.DoubleStream;
+
+/**
+ * Assertion methods for {@link DoubleStream}s, the stream elements are collected in an array of {@code double}s when the assertion
+ * object is created and then verified with the {@link AbstractDoubleArrayAssert} assertions.
+ * <p>
+ * Unlike the {@link ListAssert} returned by {@link Assertions#assertThat(DoubleStream)}, the elements are never boxed which
+ * keeps the memory used by the assertions on large streams to 8 bytes per element, use {@link #boxed()} to chain
+ * assertions requiring boxed elements.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThatDoubleStream(DoubleStream)}</code>.
+ * <p>
+ * Example :
+ * <pre><code class='java'> assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).isSorted()
+ *                                                       .allMatch(d -&gt; d &gt; 0)
+ *                                                       .containsOnly(1.0, 2.0, 3.0);</code></pre>
+ *
+ * @since 4.0.0
+ */
+public class DoubleStreamAssert extends AbstractDoubleArrayAssert<DoubleStreamAssert> {
+
+  public DoubleStreamAssert(DoubleStream actual) {
+    super(toArray(actual), DoubleStreamAssert.class);
+  }
+
+  private static double[] toArray(DoubleStream stream) {
+    if (stream == null) return null;
+    try (stream) {
+      return stream.toArray();
+    }
+  }
+
+  /**
+   * Returns a {@link ListAssert} on the boxed stream elements to use the assertions that are not available for arrays of
+   * {@code double}s, for example {@code filteredOn} or {@code extracting}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).boxed()
+   *                                                       .filteredOn(d -&gt; d &gt; 0)
+   *                                                       .hasSize(3);</code></pre>
+   *
+   * @return a {@link ListAssert} on the boxed stream elements.
+   */
+  public ListAssert<Double> boxed() {
+    List<Double> boxedElements = actual == null ? null : Arrays.stream(actual).boxed().toList();
+    return new ListAssert<>(boxedElements).withAssertionState(myself);
+  }
+
+}
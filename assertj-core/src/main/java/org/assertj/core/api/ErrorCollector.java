@@ -13,7 +13,6 @@
 package org.assertj.core.api;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.concurrent.Callable;
 
 import net.bytebuddy.implementation.bind.annotation.FieldValue;
@@ -28,8 +27,7 @@ public class ErrorCollector {
 
   public static final String FIELD_NAME = "errorCollector";
 
-  private static final String INTERCEPT_METHOD_NAME = "intercept";
-  private static final String CLASS_NAME = ErrorCollector.class.getName();
+  private static final ThreadLocal<ProxyCallsInProgress> PROXY_CALLS_IN_PROGRESS = ThreadLocal.withInitial(ProxyCallsInProgress::new);
 
   private AssertionErrorCollector assertionErrorCollector;
 
@@ -52,16 +50,20 @@ public class ErrorCollector {
                                  @SuperCall Callable<?> proxy,
                                  @SuperMethod(nullIfImpossible = true) Method method,
                                  @StubValue Object stub) throws Exception {
+    ProxyCallsInProgress proxyCallsInProgress = PROXY_CALLS_IN_PROGRESS.get();
+    proxyCallsInProgress.enter(errorCollector);
     try {
       Object result = proxy.call();
       errorCollector.succeeded();
       return result;
     } catch (AssertionError assertionError) {
-      if (isNestedErrorCollectorProxyCall()) {
+      if (proxyCallsInProgress.isNestedCall()) {
         // let the most outer call handle the assertion error
         throw assertionError;
       }
       errorCollector.addError(assertionError);
+    } finally {
+      proxyCallsInProgress.exit();
     }
     if (method != null && !method.getReturnType().isInstance(assertion)) {
       // In case the object is not an instance of the return type, just default value for the return type:
@@ -71,6 +73,30 @@ public class ErrorCollector {
     return assertion;
   }
 
+  /**
+   * Returns whether the assertion running in the current thread is a soft assertion.
+   *
+   * @return whether the assertion running in the current thread is a soft assertion.
+   * @since 4.0.0
+   */
+  public static boolean isCollectingErrors() {
+    return PROXY_CALLS_IN_PROGRESS.get().outermostErrorCollector != null;
+  }
+
+  /**
+   * Returns whether the assertion running in the current thread is a soft assertion whose collector renders the error
+   * messages lazily, see {@link DefaultAssertionErrorCollector#setMaxRenderedErrors(int)}.
+   *
+   * @return whether the error message of a failing assertion in the current thread can be rendered lazily.
+   * @since 4.0.0
+   */
+  public static boolean isCollectingErrorsWithLazyMessages() {
+    ErrorCollector outermostErrorCollector = PROXY_CALLS_IN_PROGRESS.get().outermostErrorCollector;
+    return outermostErrorCollector != null
+           && outermostErrorCollector.assertionErrorCollector instanceof DefaultAssertionErrorCollector defaultCollector
+           && defaultCollector.rendersErrorMessagesLazily();
+  }
+
   private void addError(AssertionError error) {
     assertionErrorCollector.collectAssertionError(error);
   }
@@ -79,14 +105,23 @@ public class ErrorCollector {
     assertionErrorCollector.succeeded();
   }
 
-  private static boolean isNestedErrorCollectorProxyCall() {
-    return countErrorCollectorProxyCalls() > 1;
-  }
+  // the intercept calls of the current thread that have not returned yet, an assertion calling other proxied assertions
+  // makes nested calls, counting them is much cheaper than looking for the intercept calls in the current stack trace
+  private static final class ProxyCallsInProgress {
+    private int count;
+    // the collector of the most outer call, the one collecting the assertion error
+    private ErrorCollector outermostErrorCollector;
+
+    private void enter(ErrorCollector errorCollector) {
+      if (count++ == 0) outermostErrorCollector = errorCollector;
+    }
 
-  private static long countErrorCollectorProxyCalls() {
-    return Arrays.stream(Thread.currentThread().getStackTrace())
-                 .filter(stackTraceElement -> CLASS_NAME.equals(stackTraceElement.getClassName())
-                                              && stackTraceElement.getMethodName().startsWith(INTERCEPT_METHOD_NAME))
-                 .count();
+    private void exit() {
+      if (--count == 0) outermostErrorCollector = null;
+    }
+
+    private boolean isNestedCall() {
+      return count > 1;
+    }
   }
 }
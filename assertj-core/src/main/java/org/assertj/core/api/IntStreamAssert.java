@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Assertion methods for {@link IntStream}s, the stream elements are collected in an array of {@code int}s when the assertion
+ * object is created and then verified with the {@link AbstractIntArrayAssert} assertions.
+ * <p>
+ * Unlike the {@link ListAssert} returned by {@link Assertions#assertThat(IntStream)}, the elements are never boxed which
+ * keeps the memory used by the assertions on large streams to 4 bytes per element, use {@link #boxed()} to chain
+ * assertions requiring boxed elements.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThatIntStream(IntStream)}</code>.
+ * <p>
+ * Example :
+ * <pre><code class='java'> assertThatIntStream(IntStream.of(1, 2, 3)).isSorted()
+ *                                           .allMatch(i -&gt; i &gt; 0)
+ *                                           .containsOnly(1, 2, 3);</code></pre>
+ *
+ * @since 4.0.0
+ */
+public class IntStreamAssert extends AbstractIntArrayAssert<IntStreamAssert> {
+
+  public IntStreamAssert(IntStream actual) {
+    super(toArray(actual), IntStreamAssert.class);
+  }
+
+  private static int[] toArray(IntStream stream) {
+    if (stream == null) return null;
+    try (stream) {
+      return stream.toArray();
+    }
+  }
+
+  /**
+   * Returns a {@link ListAssert} on the boxed stream elements to use the assertions that are not available for arrays of
+   * {@code int}s, for example {@code filteredOn} or {@code extracting}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatIntStream(IntStream.of(1, 2, 3)).boxed()
+   *                                           .filteredOn(i -&gt; i &gt; 0)
+   *                                           .hasSize(3);</code></pre>
+   *
+   * @return a {@link ListAssert} on the boxed stream elements.
+   */
+  public ListAssert<Integer> boxed() {
+    List<Integer> boxedElements = actual == null ? null : Arrays.stream(actual).boxed().toList();
+    return new ListAssert<>(boxedElements).withAssertionState(myself);
+  }
+
+}
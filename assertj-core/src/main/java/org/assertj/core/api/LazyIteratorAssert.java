@@ -0,0 +1,329 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.util.Iterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.assertj.core.internal.Iterators;
+import org.assertj.core.presentation.PredicateDescription;
+
+/**
+ * Assertions reading the elements of a {@link Stream} or an {@link Iterator} once, without collecting them, and stopping as
+ * soon as the assertion result is known, they can then be used on very large or infinite streams.
+ * <p>
+ * As the elements can only be read once, only one assertion reading the elements can be performed, chaining a second one
+ * throws an {@link IllegalStateException}. The error messages describe the elements read until the assertion failed, only
+ * the first and last ones are kept when there are more elements than what can be represented (see
+ * {@link Assertions#setMaxElementsForPrinting(int)}).
+ * <p>
+ * To create an instance of this class, invoke <code>{@link ListAssert#lazily()}</code> on a stream assertion or
+ * <code>{@link AbstractIteratorAssert#lazily()}</code>.
+ * <p>
+ * Example :
+ * <pre><code class='java'> Stream&lt;Integer&gt; naturalNumbers = Stream.iterate(0, i -&gt; i + 1);
+ *
+ * // assertions will pass
+ * assertThat(naturalNumbers).lazily()
+ *                           .containsSequence(1000, 1001, 1002);
+ * assertThat(Stream.iterate(0, i -&gt; i + 1)).lazily()
+ *                                          .anyMatch(i -&gt; i &gt; 1_000_000);
+ *
+ * // assertion will fail after reading 0, 1 and 2
+ * assertThat(Stream.iterate(0, i -&gt; i + 1)).lazily()
+ *                                          .hasSizeLessThan(3);</code></pre>
+ *
+ * @param <ELEMENT> the type of elements.
+ * @since 4.0.0
+ */
+public class LazyIteratorAssert<ELEMENT> extends AbstractAssert<LazyIteratorAssert<ELEMENT>, Iterator<? extends ELEMENT>> {
+
+  Iterators iterators = Iterators.instance();
+
+  private boolean elementsRead;
+
+  public LazyIteratorAssert(Iterator<? extends ELEMENT> actual) {
+    super(actual, LazyIteratorAssert.class);
+  }
+
+  /**
+   * Verifies that all the elements read match the given {@link Predicate}, the elements are read until one of them does
+   * not match.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.of(1, 2, 3)).lazily()
+   *                               .allMatch(i -&gt; i &gt; 0);
+   *
+   * // assertion will fail after reading 1 and 2
+   * assertThat(Stream.of(1, 2, 3)).lazily()
+   *                               .allMatch(i -&gt; i &lt; 2);</code></pre>
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws IllegalStateException if the elements have already been read by another assertion.
+   * @throws AssertionError if the actual iterator is {@code null} or if an element does not match the given predicate.
+   */
+  public LazyIteratorAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate) {
+    return allMatch(predicate, PredicateDescription.GIVEN);
+  }
+
+  /**
+   * Same as {@link #allMatch(Predicate)} but uses the given predicate description in the error message.
+   *
+   * @param predicate the given {@link Predicate}.
+   * @param predicateDescription a description of the {@link Predicate} used in the error message.
+   * @return {@code this} object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws IllegalStateException if the elements have already been read by another assertion.
+   * @throws AssertionError if the actual iterator is {@code null} or if an element does not match the given predicate.
+   */
+  public LazyIteratorAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
+    return allMatch(predicate, new PredicateDescription(predicateDescription));
+  }
+
+  private LazyIteratorAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate,
+                                               PredicateDescription predicateDescription) {
+    readElementsOnce();
+    iterators.assertAllMatch(info, actual, predicate, predicateDescription);
+    return myself;
+  }
+
+  /**
+   * Verifies that at least one of the elements read matches the given {@link Predicate}, the elements are read until one of
+   * them matches.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass after reading 0, 1 and 2
+   * assertThat(Stream.iterate(0, i -&gt; i + 1)).lazily()
+   *                                          .anyMatch(i -&gt; i == 2);
+   *
+   * // assertion will fail
+   * assertThat(Stream.of(1, 2, 3)).lazily()
+   *                               .anyMatch(i -&gt; i &gt; 3);</code></pre>
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws IllegalStateException if the elements have already been read by another assertion.
+   * @throws AssertionError if the actual iterator is {@code null} or if no element matches the given predicate.
+   */
+  public LazyIteratorAssert<ELEMENT> anyMatch(Predicate<? super ELEMENT> predicate) {
+    return anyMatch(predicate, PredicateDescription.GIVEN);
+  }
+
+  /**
+   * Same as {@link #anyMatch(Predicate)} but uses the given predicate description in the error message.
+   *
+   * @param predicate the given {@link Predicate}.
+   * @param predicateDescription a description of the {@link Predicate} used in the error message.
+   * @return {@code this} object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws IllegalStateException if the elements have already been read by another assertion.
+   * @throws AssertionError if the actual iterator is {@code null} or if no element matches the given predicate.
+   */
+  public LazyIteratorAssert<ELEMENT> anyMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
+    return anyMatch(predicate, new PredicateDescription(predicateDescription));
+  }
+
+  private LazyIteratorAssert<ELEMENT> anyMatch(Predicate<? super ELEMENT> predicate,
+                                               PredicateDescription predicateDescription) {
+    readElementsOnce();
+    iterators.assertAnyMatch(info, actual, predicate, predicateDescription);
+    return myself;
+  }
+
+  /**
+   * Verifies that none of the elements read match the given {@link Predicate}, the elements are read until one of them
+   * matches.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.of(1, 2, 3)).lazily()
+   *                               .noneMatch(i -&gt; i &gt; 3);
+   *
+   * // assertion will fail after reading 0, 1 and 2
+   * assertThat(Stream.iterate(0, i -&gt; i + 1)).lazily()
+   *                                          .noneMatch(i -&gt; i == 2);</code></pre>
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws IllegalStateException if the elements have already been read by another assertion.
+   * @throws AssertionError if the actual iterator is {@code null} or if an element matches the given predicate.
+   */
+  public LazyIteratorAssert<ELEMENT> noneMatch(Predicate<? super ELEMENT> predicate) {
+    return noneMatch(predicate, PredicateDescription.GIVEN);
+  }
+
+  /**
+   * Same as {@link #noneMatch(Predicate)} but uses the given predicate description in the error message.
+   *
+   * @param predicate the given {@link Predicate}.
+   * @param predicateDescription a description of the {@link Predicate} used in the error message.
+   * @return {@code this} object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws IllegalStateException if the elements have already been read by another assertion.
+   * @throws AssertionError if the actual iterator is {@code null} or if an element matches the given predicate.
+   */
+  public LazyIteratorAssert<ELEMENT> noneMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
+    return noneMatch(predicate, new PredicateDescription(predicateDescription));
+  }
+
+  private LazyIteratorAssert<ELEMENT> noneMatch(Predicate<? super ELEMENT> predicate,
+                                                PredicateDescription predicateDescription) {
+    readElementsOnce();
+    iterators.assertNoneMatch(info, actual, predicate, predicateDescription);
+    return myself;
+  }
+
+  /**
+   * Verifies that the elements read contain the given values, in any order, the elements are read until all the values
+   * have been found.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass after reading 0 to 10
+   * assertThat(Stream.iterate(0, i -&gt; i + 1)).lazily()
+   *                                          .contains(10, 2);
+   *
+   * // assertion will fail
+   * assertThat(Stream.of(1, 2, 3)).lazily()
+   *                               .contains(1, 4);</code></pre>
+   *
+   * @param values the given values.
+   * @return {@code this} object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalStateException if the elements have already been read by another assertion.
+   * @throws AssertionError if the actual iterator is {@code null} or if some values are not found.
+   */
+  @SafeVarargs
+  public final LazyIteratorAssert<ELEMENT> contains(ELEMENT... values) {
+    return containsForProxy(values);
+  }
+
+  // This method is protected in order to be proxied for SoftAssertions / Assumptions.
+  // The public method for it (the one not ending with "ForProxy") is marked as final and annotated with @SafeVarargs
+  // in order to avoid compiler warning in user code
+  protected LazyIteratorAssert<ELEMENT> containsForProxy(ELEMENT[] values) {
+    readElementsOnce();
+    iterators.assertContains(info, actual, values);
+    return myself;
+  }
+
+  /**
+   * Verifies that the first elements read are the given sequence, only the sequence length elements are read.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.iterate(0, i -&gt; i + 1)).lazily()
+   *                                          .startsWith(0, 1, 2);
+   *
+   * // assertion will fail
+   * assertThat(Stream.iterate(0, i -&gt; i + 1)).lazily()
+   *                                          .startsWith(1, 2);</code></pre>
+   *
+   * @param sequence the sequence to search for.
+   * @return {@code this} object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalStateException if the elements have already been read by another assertion.
+   * @throws AssertionError if the actual iterator is {@code null} or does not start with the given sequence.
+   */
+  @SafeVarargs
+  public final LazyIteratorAssert<ELEMENT> startsWith(ELEMENT... sequence) {
+    return startsWithForProxy(sequence);
+  }
+
+  // This method is protected in order to be proxied for SoftAssertions / Assumptions.
+  // The public method for it (the one not ending with "ForProxy") is marked as final and annotated with @SafeVarargs
+  // in order to avoid compiler warning in user code
+  protected LazyIteratorAssert<ELEMENT> startsWithForProxy(ELEMENT[] sequence) {
+    readElementsOnce();
+    iterators.assertStartsWith(info, actual, sequence);
+    return myself;
+  }
+
+  /**
+   * Verifies that the elements read contain the given sequence in the correct order and without extra values between the
+   * sequence values, the elements are read until the end of the first occurrence of the sequence.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass after reading 0 to 1002
+   * assertThat(Stream.iterate(0, i -&gt; i + 1)).lazily()
+   *                                          .containsSequence(1000, 1001, 1002);
+   *
+   * // assertion will fail
+   * assertThat(Stream.of(1, 2, 3)).lazily()
+   *                               .containsSequence(1, 3);</code></pre>
+   *
+   * @param sequence the sequence to search for.
+   * @return {@code this} object.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws IllegalArgumentException if the given sequence is empty.
+   * @throws IllegalStateException if the elements have already been read by another assertion.
+   * @throws AssertionError if the actual iterator is {@code null} or does not contain the given sequence.
+   */
+  @SafeVarargs
+  public final LazyIteratorAssert<ELEMENT> containsSequence(ELEMENT... sequence) {
+    return containsSequenceForProxy(sequence);
+  }
+
+  // This method is protected in order to be proxied for SoftAssertions / Assumptions.
+  // The public method for it (the one not ending with "ForProxy") is marked as final and annotated with @SafeVarargs
+  // in order to avoid compiler warning in user code
+  protected LazyIteratorAssert<ELEMENT> containsSequenceForProxy(ELEMENT[] sequence) {
+    readElementsOnce();
+    iterators.assertContainsSequence(info, actual, sequence);
+    return myself;
+  }
+
+  /**
+   * Verifies that the number of elements is less than the given boundary, at most boundary elements are read.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.of(1, 2, 3)).lazily()
+   *                               .hasSizeLessThan(4);
+   *
+   * // assertion will fail after reading 0, 1 and 2
+   * assertThat(Stream.iterate(0, i -&gt; i + 1)).lazily()
+   *                                          .hasSizeLessThan(3);</code></pre>
+   *
+   * @param boundary the given value to compare the number of elements to.
+   * @return {@code this} object.
+   * @throws IllegalStateException if the elements have already been read by another assertion.
+   * @throws AssertionError if the actual iterator is {@code null} or has at least boundary elements.
+   */
+  public LazyIteratorAssert<ELEMENT> hasSizeLessThan(int boundary) {
+    readElementsOnce();
+    iterators.assertHasSizeLessThan(info, actual, boundary);
+    return myself;
+  }
+
+  private void readElementsOnce() {
+    if (elementsRead)
+      throw new IllegalStateException("The elements have already been read by a previous assertion, only one assertion reading the elements can be performed in lazy mode");
+    elementsRead = true;
+  }
+
+  @SuppressWarnings("rawtypes")
+  @Override
+  LazyIteratorAssert<ELEMENT> withAssertionState(AbstractAssert assertInstance) {
+    // keep the element comparator of a stream assertion, soft assertion proxies also rely on this to copy it
+    if (assertInstance instanceof AbstractIterableAssert iterableAssert)
+      iterators = new Iterators(iterableAssert.iterables.getComparisonStrategy());
+    return super.withAssertionState(assertInstance);
+  }
+
+}
@@ -220,6 +220,31 @@ public class ListAssert<ELEMENT> extends
                    .failure(info, shouldStartWith("Stream under test", sequence, iterables.getComparisonStrategy()));
   }
 
+  /**
+   * Returns a {@link LazyIteratorAssert} reading the stream elements once without collecting them and stopping as soon as
+   * the assertion result is known, this allows to verify very large or infinite streams.
+   * <p>
+   * Only one assertion reading the elements can be chained, the error messages describe the elements read until the
+   * assertion failed.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass after reading 0 to 1002
+   * assertThat(Stream.iterate(0, i -&gt; i + 1)).lazily()
+   *                                          .containsSequence(1000, 1001, 1002);
+   *
+   * // assertion will fail after reading 0, 1 and 2
+   * assertThat(Stream.iterate(0, i -&gt; i + 1)).lazily()
+   *                                          .allMatch(i -&gt; i &lt; 2);</code></pre>
+   *
+   * @return a {@link LazyIteratorAssert} on the stream elements.
+   * @since 4.0.0
+   */
+  public LazyIteratorAssert<ELEMENT> lazily() {
+    Iterator<? extends ELEMENT> iterator = actual == null ? null
+        : actual instanceof ListFromStream ? asListFromStream().elementsIterator() : actual.iterator();
+    return new LazyIteratorAssert<ELEMENT>(iterator).withAssertionState(myself);
+  }
+
   @SuppressWarnings("unchecked")
   private ListFromStream<ELEMENT, Stream<ELEMENT>> asListFromStream() {
     return (ListFromStream<ELEMENT, Stream<ELEMENT>>) actual;
@@ -240,6 +265,11 @@ public class ListAssert<ELEMENT> extends
       return list.stream();
     }
 
+    // does not collect the stream elements if they have not been collected already
+    private Iterator<ELEMENT> elementsIterator() {
+      return list == null ? stream.iterator() : list.iterator();
+    }
+
     private List<ELEMENT> initList() {
       if (list == null) {
         list = newArrayList(stream.iterator());
@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Assertion methods for {@link LongStream}s, the stream elements are collected in an array of {@code long}s when the assertion
+ * object is created and then verified with the {@link AbstractLongArrayAssert} assertions.
+ * <p>
+ * Unlike the {@link ListAssert} returned by {@link Assertions#assertThat(LongStream)}, the elements are never boxed which
+ * keeps the memory used by the assertions on large streams to 8 bytes per element, use {@link #boxed()} to chain
+ * assertions requiring boxed elements.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThatLongStream(LongStream)}</code>.
+ * <p>
+ * Example :
+ * <pre><code class='java'> assertThatLongStream(LongStream.of(1L, 2L, 3L)).isSorted()
+ *                                                .allMatch(l -&gt; l &gt; 0)
+ *                                                .containsOnly(1L, 2L, 3L);</code></pre>
+ *
+ * @since 4.0.0
+ */
+public class LongStreamAssert extends AbstractLongArrayAssert<LongStreamAssert> {
+
+  public LongStreamAssert(LongStream actual) {
+    super(toArray(actual), LongStreamAssert.class);
+  }
+
+  private static long[] toArray(LongStream stream) {
+    if (stream == null) return null;
+    try (stream) {
+      return stream.toArray();
+    }
+  }
+
+  /**
+   * Returns a {@link ListAssert} on the boxed stream elements to use the assertions that are not available for arrays of
+   * {@code long}s, for example {@code filteredOn} or {@code extracting}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatLongStream(LongStream.of(1L, 2L, 3L)).boxed()
+   *                                                .filteredOn(l -&gt; l &gt; 0)
+   *                                                .hasSize(3);</code></pre>
+   *
+   * @return a {@link ListAssert} on the boxed stream elements.
+   */
+  public ListAssert<Long> boxed() {
+    List<Long> boxedElements = actual == null ? null : Arrays.stream(actual).boxed().toList();
+    return new ListAssert<>(boxedElements).withAssertionState(myself);
+  }
+
+}
@@ -30,6 +30,7 @@ import org.assertj.core.api.recursive.comparison.RecursiveComparator;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonIntrospectionStrategy;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonStatistics;
 import org.assertj.core.internal.TypeComparators;
 import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -205,8 +206,8 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
                                                                                                                     recursiveComparisonConfiguration,
                                                                                                                     info.representation()));
     if (other != null && actual != null) {
-      List<ComparisonDifference> differences = determineDifferencesWith(other);
-      if (differences.isEmpty())
+      // the differences are not reported, we only need to know if there is one
+      if (!recursiveComparisonDifferenceCalculator.hasDifferences(actual, other, recursiveComparisonConfiguration))
         throw objects.getFailures().failure(info, shouldNotBeEqualComparingFieldByFieldRecursively(actual, other,
                                                                                                    recursiveComparisonConfiguration,
                                                                                                    info.representation()));
@@ -1805,6 +1806,87 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Performs the recursive comparison with the given number of threads, independent subtrees of the compared graphs being
+   * compared concurrently in a dedicated {@link java.util.concurrent.ForkJoinPool}.
+   * <p>
+   * This is meant for comparing very large graphs of objects (millions of nodes), for small graphs the cost of
+   * distributing the comparison among threads exceeds its benefits. The reported differences are the same as with a
+   * sequential comparison and are sorted the same way, with the exception of values reachable from several locations in
+   * the graphs: they are compared once and their differences are reported at the location where a thread compared them
+   * first, which depends on the thread scheduling.
+   * <p>
+   * Note that any registered comparators, equals methods of the compared objects and the introspection strategy are
+   * called from several threads and must thus be thread-safe.
+   * <p>
+   * Example:
+   * <pre><code class='java'> OrderBook actual = loadOrderBook();
+   * OrderBook expected = loadExpectedOrderBook();
+   *
+   * // compares actual and expected with as many threads as available processors
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .withParallelism(Runtime.getRuntime().availableProcessors())
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @param parallelism the number of threads used to perform the recursive comparison, 1 (the default) means the
+   *          comparison is performed sequentially in the current thread.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   */
+  @CheckReturnValue
+  public SELF withParallelism(int parallelism) {
+    recursiveComparisonConfiguration.setParallelism(parallelism);
+    return myself;
+  }
+
+  /**
+   * Collects statistics about the recursive comparison in the given {@link RecursiveComparisonStatistics}: the number of
+   * compared nodes, the number of introspection calls and the time spent introspecting per class, the number of custom
+   * comparators invocations...
+   * <p>
+   * This is meant to understand why a recursive comparison is slow, the statistics are accumulated over all the comparisons
+   * performed with this assertion configuration (for example {@code isEqualTo} and {@code isNotEqualTo}). Nothing is
+   * collected when no statistics are given (the default).
+   * <p>
+   * Example:
+   * <pre><code class='java'> RecursiveComparisonStatistics statistics = new RecursiveComparisonStatistics();
+   *
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .collectingStatisticsIn(statistics)
+   *                   .isEqualTo(expected);
+   *
+   * // the Person instances introspection calls count and time
+   * Long personIntrospectionCalls = statistics.getIntrospectionCallsPerClass().get(Person.class);
+   * Duration personIntrospectionDuration = statistics.getIntrospectionDurationPerClass().get(Person.class);</code></pre>
+   *
+   * @param statistics the statistics to update.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @see #reportingStatisticsOnFailure()
+   */
+  @CheckReturnValue
+  public SELF collectingStatisticsIn(RecursiveComparisonStatistics statistics) {
+    recursiveComparisonConfiguration.setStatistics(statistics);
+    return myself;
+  }
+
+  /**
+   * Adds the statistics collected during the recursive comparison to the error message when it fails, statistics are
+   * collected if they were not already (see {@link #collectingStatisticsIn(RecursiveComparisonStatistics)}).
+   * <p>
+   * Example:
+   * <pre><code class='java'> // the error message ends with the number of compared nodes, the introspection calls per class...
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .reportingStatisticsOnFailure()
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   */
+  @CheckReturnValue
+  public SELF reportingStatisticsOnFailure() {
+    recursiveComparisonConfiguration.setReportStatisticsOnFailure(true);
+    return myself;
+  }
+
   SELF withTypeComparators(TypeComparators typeComparators) {
     Optional.ofNullable(typeComparators)
             .map(TypeComparators::comparatorByTypes)
@@ -19,6 +19,7 @@ import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 import static org.assertj.core.api.ClassLoadingStrategyFactory.classLoadingStrategy;
+import static org.assertj.core.api.ClassLoadingStrategyFactory.pregeneratedClass;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -33,6 +34,7 @@ import net.bytebuddy.TypeCache.SimpleKey;
 import net.bytebuddy.TypeCache.Sort;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.Implementation;
@@ -70,6 +72,7 @@ class SoftProxies {
                                                                                                                                    "get",
                                                                                                                                    "getCause", // deprecated
                                                                                                                                    "getRootCause", // deprecated
+                                                                                                                                   "lazily",
                                                                                                                                    "map",
                                                                                                                                    "message",
                                                                                                                                    "newAbstractIterableAssert",
@@ -86,6 +89,7 @@ class SoftProxies {
                                                                                     .or(named("getWritableAssertionInfo"))
                                                                                     .or(named("inBinary"))
                                                                                     .or(named("inHexadecimal"))
+                                                                                    .or(named("inParallel"))
                                                                                     .or(named("newAbstractIterableAssert"))
                                                                                     .or(named("newObjectArrayAssert"))
                                                                                     .or(named("overridingErrorMessage"))
@@ -105,6 +109,9 @@ class SoftProxies {
                                                                                     .or(named("withThreadDumpOnError"))
                                                                                     .or(named("withTypeComparators"));
 
+  // name of the proxy classes generated at build time by AssertionProxiesGenerator: assert class name + suffix
+  static final String PREGENERATED_PROXY_CLASS_SUFFIX = "$AssertJ$SoftProxy";
+
   private static final ByteBuddy BYTE_BUDDY = new ByteBuddy().with(new AuxiliaryType.NamingStrategy.SuffixingRandom("AssertJ$SoftProxies"))
                                                              .with(TypeValidation.DISABLED);
 
@@ -138,7 +145,12 @@ class SoftProxies {
   private static <ASSERT extends Assert<?, ?>> Class<ASSERT> createSoftAssertionProxyClass(Class<ASSERT> assertClass) {
     SimpleKey cacheKey = new SimpleKey(assertClass);
     return (Class<ASSERT>) CACHE.findOrInsert(assertClass.getClassLoader(), cacheKey,
-                                              () -> generateProxyClass(assertClass));
+                                              () -> pregeneratedOrGeneratedProxyClass(assertClass));
+  }
+
+  private static <V> Class<? extends V> pregeneratedOrGeneratedProxyClass(Class<V> assertClass) {
+    Class<? extends V> pregeneratedProxyClass = pregeneratedClass(assertClass, PREGENERATED_PROXY_CLASS_SUFFIX);
+    return pregeneratedProxyClass != null ? pregeneratedProxyClass : generateProxyClass(assertClass);
   }
 
   FileSizeAssert<?> createFileSizeAssertProxy(FileSizeAssert<?> fileSizeAssert) {
@@ -206,6 +218,13 @@ class SoftProxies {
 
   static <V> Class<? extends V> generateProxyClass(Class<V> assertClass) {
     ClassLoadingStrategyPair strategy = classLoadingStrategy(assertClass);
+    return proxyClassBuilder(assertClass).make()
+                                         .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
+                                         .getLoaded();
+  }
+
+  // also used by AssertionProxiesGenerator to generate the proxy classes at build time
+  static <V> DynamicType.Builder<V> proxyClassBuilder(Class<V> assertClass) {
     return BYTE_BUDDY.subclass(assertClass)
                      .defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
                                   ProxifyMethodChangingTheObjectUnderTest.class,
@@ -219,10 +238,7 @@ class SoftProxies {
                      .implement(AssertJProxySetup.class)
                      // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
                      .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
-                                             .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)))
-                     .make()
-                     .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
-                     .getLoaded();
+                                             .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)));
   }
 
   private static Junction<MethodDescription> methodsNamed(String... names) {
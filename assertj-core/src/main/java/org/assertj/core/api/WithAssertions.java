@@ -1465,6 +1465,25 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     return Assertions.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link DoubleStreamAssert}</code> from the given {@link DoubleStream}.
+   * <p>
+   * The {@code DoubleStream} elements are collected in an array of {@code double}s when the assertion object is created, they are
+   * never boxed unlike with {@link #assertThat(DoubleStream)} which converts the {@code DoubleStream} to a {@code List}, this is the
+   * assertion to use for large streams.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).isSorted()
+   *                                                       .containsOnly(1.0, 2.0, 3.0);</code></pre>
+   *
+   * @param actual the actual {@link DoubleStream} value.
+   * @return the created assertion object.
+   * @since 4.0.0
+   */
+  default DoubleStreamAssert assertThatDoubleStream(DoubleStream actual) {
+    return Assertions.assertThatDoubleStream(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link ListAssert}</code> from the given {@link LongStream}.
    * <p>
@@ -1495,6 +1514,25 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     return Assertions.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link LongStreamAssert}</code> from the given {@link LongStream}.
+   * <p>
+   * The {@code LongStream} elements are collected in an array of {@code long}s when the assertion object is created, they are
+   * never boxed unlike with {@link #assertThat(LongStream)} which converts the {@code LongStream} to a {@code List}, this is the
+   * assertion to use for large streams.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatLongStream(LongStream.of(1L, 2L, 3L)).isSorted()
+   *                                                .containsOnly(1L, 2L, 3L);</code></pre>
+   *
+   * @param actual the actual {@link LongStream} value.
+   * @return the created assertion object.
+   * @since 4.0.0
+   */
+  default LongStreamAssert assertThatLongStream(LongStream actual) {
+    return Assertions.assertThatLongStream(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link ListAssert}</code> from the given {@link IntStream}.
    * <p>
@@ -1525,6 +1563,25 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     return Assertions.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link IntStreamAssert}</code> from the given {@link IntStream}.
+   * <p>
+   * The {@code IntStream} elements are collected in an array of {@code int}s when the assertion object is created, they are
+   * never boxed unlike with {@link #assertThat(IntStream)} which converts the {@code IntStream} to a {@code List}, this is the
+   * assertion to use for large streams.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatIntStream(IntStream.of(1, 2, 3)).isSorted()
+   *                                           .containsOnly(1, 2, 3);</code></pre>
+   *
+   * @param actual the actual {@link IntStream} value.
+   * @return the created assertion object.
+   * @since 4.0.0
+   */
+  default IntStreamAssert assertThatIntStream(IntStream actual) {
+    return Assertions.assertThatIntStream(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link DoubleArrayAssert}</code>.
    *
@@ -18,16 +18,31 @@ import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInheri
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.EXTRACTION;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.core.internal.ChildNodeAccessors;
+import org.assertj.core.util.introspection.FieldSupport;
 
 public class DefaultRecursiveAssertionIntrospectionStrategy implements RecursiveAssertionIntrospectionStrategy {
 
+  // the child nodes of a class and how to read them are resolved once since recursive assertions usually go over many
+  // instances of the same classes
+  private final Map<Class<?>, List<ChildNodeDeclaration>> childNodeDeclarationsPerClass = new ConcurrentHashMap<>();
+  private final ChildNodeAccessors getterOrFieldAccessors = ChildNodeAccessors.getterOrFieldAccessors(FieldSupport.extraction());
+
   @Override
   public List<RecursiveAssertionNode> getChildNodesOf(Object node) {
-    return getDeclaredFieldsIncludingInherited(node.getClass()).stream()
-                                                               .map(field -> toNode(field, node))
-                                                               .collect(toList());
+    List<ChildNodeDeclaration> childNodeDeclarations = childNodeDeclarationsPerClass.computeIfAbsent(node.getClass(),
+                                                                                                     DefaultRecursiveAssertionIntrospectionStrategy::childNodeDeclarationsOf);
+    List<RecursiveAssertionNode> childNodes = new ArrayList<>(childNodeDeclarations.size());
+    for (ChildNodeDeclaration childNodeDeclaration : childNodeDeclarations) {
+      childNodes.add(toNode(childNodeDeclaration, node));
+    }
+    return childNodes;
   }
 
   @Override
@@ -35,15 +50,21 @@ public class DefaultRecursiveAssertionIntrospectionStrategy implements Recursive
     return "DefaultRecursiveAssertionIntrospectionStrategy which introspects all fields (including inherited ones)";
   }
 
-  private static RecursiveAssertionNode toNode(Field field, Object node) {
-    String fieldName = field.getName();
-    Object fieldValue = EXTRACTION.getSimpleValue(fieldName, node);
-    Class<?> fieldType = getFieldType(fieldValue, fieldName, node);
-    return new RecursiveAssertionNode(fieldValue, fieldName, fieldType);
+  private static List<ChildNodeDeclaration> childNodeDeclarationsOf(Class<?> objectClass) {
+    return getDeclaredFieldsIncludingInherited(objectClass).stream()
+                                                           .map(Field::getName)
+                                                           .map(fieldName -> new ChildNodeDeclaration(fieldName,
+                                                                                                      getFieldType(fieldName,
+                                                                                                                   objectClass)))
+                                                           .collect(toList());
   }
 
-  private static Class<?> getFieldType(Object fieldValue, String fieldName, Object targetObject) {
-    return fieldValue != null ? fieldValue.getClass() : getFieldType(fieldName, targetObject.getClass());
+  private RecursiveAssertionNode toNode(ChildNodeDeclaration childNodeDeclaration, Object node) {
+    String fieldName = childNodeDeclaration.name;
+    Object fieldValue = getterOrFieldAccessors.readChildNode(fieldName, node, EXTRACTION::getSimpleValue);
+    // the declared type is used when the value is null
+    Class<?> fieldType = fieldValue != null ? fieldValue.getClass() : childNodeDeclaration.declaredType;
+    return new RecursiveAssertionNode(fieldValue, fieldName, fieldType);
   }
 
   private static Class<?> getFieldType(String fieldName, Class<?> objectClass) {
@@ -62,4 +83,14 @@ public class DefaultRecursiveAssertionIntrospectionStrategy implements Recursive
     }
   }
 
+  private static final class ChildNodeDeclaration {
+    private final String name;
+    private final Class<?> declaredType;
+
+    private ChildNodeDeclaration(String name, Class<?> declaredType) {
+      this.name = name;
+      this.declaredType = declaredType;
+    }
+  }
+
 }
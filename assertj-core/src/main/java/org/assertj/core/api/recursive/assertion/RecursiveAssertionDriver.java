@@ -12,6 +12,7 @@
  */
 package org.assertj.core.api.recursive.assertion;
 
+import static java.util.Collections.newSetFromMap;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.CollectionAssertionPolicy.COLLECTION_OBJECT_ONLY;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.MapAssertionPolicy.MAP_OBJECT_AND_ENTRIES;
@@ -19,11 +20,11 @@ import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfigu
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.OptionalAssertionPolicy.OPTIONAL_OBJECT_ONLY;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
 import static org.assertj.core.util.Lists.list;
-import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.core.util.introspection.ClassUtils.isOptionalOrPrimitiveOptional;
 import static org.assertj.core.util.introspection.ClassUtils.isPrimitiveOrWrapper;
 
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -42,7 +43,8 @@ public class RecursiveAssertionDriver {
   private static final String KEY_FORMAT = "KEY[%s]";
   private static final String VALUE_FORMAT = "VAL[%s]";
 
-  private final Set<String> visitedNodeIds = newHashSet();
+  // identity based as we want to visit each object once, whatever its equals method says
+  private final Set<Object> visitedNodes = newSetFromMap(new IdentityHashMap<>());
   private final List<FieldLocation> fieldsFailingTheAssertion = list();
   private final RecursiveAssertionConfiguration configuration;
 
@@ -56,7 +58,7 @@ public class RecursiveAssertionDriver {
   }
 
   public void reset() {
-    visitedNodeIds.clear();
+    visitedNodes.clear();
     fieldsFailingTheAssertion.clear();
   }
 
@@ -247,20 +249,7 @@ public class RecursiveAssertionDriver {
     // Cannot mark null nodes, so just lie and say marking succeeded...
     if (node == null) return false;
 
-    String objectId = identityToString(node);
-    return !visitedNodeIds.add(objectId);
-  }
-
-  /*
-   * This is taken verbatim from org.apache.commons.lang3.ObjectUtils .
-   */
-  private static String identityToString(final Object object) {
-    if (object == null) {
-      return null;
-    }
-    final String name = object.getClass().getName();
-    final String hexString = Integer.toHexString(System.identityHashCode(object));
-    return name + '@' + hexString;
+    return !visitedNodes.add(node);
   }
 
   private boolean isCollection(Class<?> nodeType) {
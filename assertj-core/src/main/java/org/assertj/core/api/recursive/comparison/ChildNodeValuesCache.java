@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the child node values read from the elements of unordered collections, they are read once to fingerprint the
+ * elements and reused when comparing them to the elements of the other collection.
+ * <p>
+ * Instances are indexed by reference as elements equal to each other still have to be introspected. Values that can't be
+ * read are not kept, reading them again fails the same way. Not thread-safe, an unordered collection is compared by a
+ * single thread.
+ */
+class ChildNodeValuesCache {
+
+  private final Map<Object, Map<String, Object>> childNodeValuesByInstance = new IdentityHashMap<>();
+  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+
+  ChildNodeValuesCache(RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+  }
+
+  Object getValue(String childNodeName, Object instance) {
+    if (instance == null) return recursiveComparisonConfiguration.getValue(childNodeName, instance);
+    Map<String, Object> childNodeValues = childNodeValuesByInstance.computeIfAbsent(instance, key -> new HashMap<>());
+    // not using computeIfAbsent as child node values can be null
+    if (childNodeValues.containsKey(childNodeName)) return childNodeValues.get(childNodeName);
+    Object childNodeValue = recursiveComparisonConfiguration.getValue(childNodeName, instance);
+    childNodeValues.put(childNodeName, childNodeValue);
+    return childNodeValue;
+  }
+
+}
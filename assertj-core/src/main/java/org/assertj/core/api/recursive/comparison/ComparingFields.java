@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.assertj.core.internal.ChildNodeAccessors;
 import org.assertj.core.internal.Objects;
 import org.assertj.core.util.introspection.FieldSupport;
 
@@ -30,6 +31,7 @@ public class ComparingFields implements RecursiveComparisonIntrospectionStrategy
 
   // use ConcurrentHashMap in case this strategy instance is used in a multi-thread context
   private final Map<Class<?>, Set<String>> fieldNamesPerClass = new ConcurrentHashMap<>();
+  private final ChildNodeAccessors fieldAccessors = ChildNodeAccessors.fieldAccessors(FieldSupport.comparison());
 
   @Override
   public Set<String> getChildrenNodeNamesOf(Object node) {
@@ -39,7 +41,8 @@ public class ComparingFields implements RecursiveComparisonIntrospectionStrategy
 
   @Override
   public Object getChildNodeValue(String childNodeName, Object instance) {
-    return FieldSupport.comparison().fieldValue(childNodeName, Object.class, instance);
+    return fieldAccessors.readChildNode(childNodeName, instance,
+                                        (name, node) -> FieldSupport.comparison().fieldValue(name, Object.class, node));
   }
 
   @Override
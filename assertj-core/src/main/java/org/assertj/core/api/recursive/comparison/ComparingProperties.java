@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.assertj.core.internal.ChildNodeAccessors;
 import org.assertj.core.util.introspection.PropertySupport;
 
 /**
@@ -40,6 +41,7 @@ public class ComparingProperties implements RecursiveComparisonIntrospectionStra
 
   // use ConcurrentHashMap in case this strategy instance is used in a multi-thread context
   private final Map<Class<?>, Set<String>> propertiesNamesPerClass = new ConcurrentHashMap<>();
+  private final ChildNodeAccessors getterAccessors = ChildNodeAccessors.getterAccessors();
 
   @Override
   public Set<String> getChildrenNodeNamesOf(Object node) {
@@ -49,7 +51,8 @@ public class ComparingProperties implements RecursiveComparisonIntrospectionStra
 
   @Override
   public Object getChildNodeValue(String childNodeName, Object instance) {
-    return PropertySupport.instance().propertyValueOf(childNodeName, Object.class, instance);
+    return getterAccessors.readChildNode(childNodeName, instance,
+                                         (name, node) -> PropertySupport.instance().propertyValueOf(name, Object.class, node));
   }
 
   @Override
@@ -16,10 +16,13 @@ import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARI
 
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.assertj.core.internal.ChildNodeAccessors;
 import org.assertj.core.internal.Objects;
+import org.assertj.core.util.introspection.FieldSupport;
 import org.assertj.core.util.introspection.PropertyOrFieldSupport;
 
 /**
@@ -32,6 +35,8 @@ public class DefaultRecursiveComparisonIntrospectionStrategy implements Recursiv
 
   // use ConcurrentHashMap in case this strategy instance is used in a multi-thread context
   private final Map<Class<?>, Set<String>> fieldNamesPerClass = new ConcurrentHashMap<>();
+  // caches the getter or field to read per class and child node name, which is costly to find for fields without getter
+  private final ChildNodeAccessors getterOrFieldAccessors = ChildNodeAccessors.getterOrFieldAccessors(FieldSupport.comparison());
 
   @Override
   public Set<String> getChildrenNodeNamesOf(Object node) {
@@ -43,6 +48,8 @@ public class DefaultRecursiveComparisonIntrospectionStrategy implements Recursiv
 
   @Override
   public Object getChildNodeValue(String childNodeName, Object instance) {
-    return COMPARISON.getSimpleValue(childNodeName, instance);
+    // Optional value is read directly by the regular introspection
+    if (instance instanceof Optional) return COMPARISON.getSimpleValue(childNodeName, instance);
+    return getterOrFieldAccessors.readChildNode(childNodeName, instance, COMPARISON::getSimpleValue);
   }
 }
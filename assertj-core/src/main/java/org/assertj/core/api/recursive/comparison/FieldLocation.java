@@ -12,11 +12,10 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
-import static java.util.Collections.emptyList;
+import static java.util.Collections.reverse;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.joining;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
@@ -34,23 +33,49 @@ import java.util.regex.Pattern;
 public final class FieldLocation implements Comparable<FieldLocation> {
 
   public static final String FIELD_SEPARATOR = ".";
-  private final String pathToUseInRules;
-  private final List<String> decomposedPath;
-  private final Set<String> pathsHierarchyToUseInRules;
+  // a field location is linked to its parent location and only stores its own field name, this makes creating a child
+  // location cheap (no path copy), the different path representations are only computed when needed (i.e. to evaluate a
+  // rule, to report a difference or to sort) and then cached.
+  // parent is null for the root location
+  private final FieldLocation parent;
+  private final String fieldName;
+  private final int hash;
+  // lazily computed immutable values, a race condition only leads to computing them more than once
+  private String pathToUseInRules;
+  private List<String> decomposedPath;
+  private Set<String> pathsHierarchyToUseInRules;
 
   public FieldLocation(List<String> path) {
-    decomposedPath = unmodifiableList(requireNonNull(path, "path cannot be null"));
-    pathToUseInRules = pathToUseInRules(decomposedPath);
-    pathsHierarchyToUseInRules = pathsHierarchyToUseInRules();
+    this(parentLocation(requireNonNull(path, "path cannot be null")), path.isEmpty() ? null : path.get(path.size() - 1));
+    decomposedPath = unmodifiableList(path);
   }
 
   public FieldLocation(String s) {
     this(list(s.split("\\.")));
   }
 
+  private FieldLocation(FieldLocation parent, String fieldName) {
+    this.parent = parent;
+    this.fieldName = fieldName;
+    this.hash = computeHash();
+  }
+
+  private static FieldLocation parentLocation(List<String> path) {
+    if (path.isEmpty()) return null;
+    FieldLocation parentLocation = rootFieldLocation();
+    for (String field : path.subList(0, path.size() - 1)) {
+      parentLocation = parentLocation.field(field);
+    }
+    return parentLocation;
+  }
+
+  private int computeHash() {
+    return parent == null ? 1 : 31 * parent.hash + Objects.hashCode(fieldName);
+  }
+
   @Override
   public int compareTo(final FieldLocation other) {
-    return pathToUseInRules.compareTo(other.pathToUseInRules);
+    return getPathToUseInRules().compareTo(other.getPathToUseInRules());
   }
 
   @Override
@@ -58,42 +83,38 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     if (this == obj) return true;
     if (!(obj instanceof FieldLocation)) return false;
     FieldLocation that = (FieldLocation) obj;
-    return Objects.equals(pathToUseInRules, that.pathToUseInRules)
-           && Objects.equals(decomposedPath, that.decomposedPath)
-           && Objects.equals(pathsHierarchyToUseInRules, that.pathsHierarchyToUseInRules);
+    if (hash != that.hash) return false;
+    // two locations are equal if they have the same decomposed path, stop as soon as they share the same parent
+    for (FieldLocation location = this, other = that; location != other; location = location.parent, other = other.parent) {
+      if (location == null || other == null || !Objects.equals(location.fieldName, other.fieldName)) return false;
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    int result = Objects.hashCode(pathToUseInRules);
-    result = 31 * result + Objects.hashCode(decomposedPath);
-    result = 31 * result + Objects.hashCode(pathsHierarchyToUseInRules);
-    return result;
+    return hash;
   }
 
   @Override
   public String toString() {
-    return "<%s>".formatted(pathToUseInRules);
+    return "<%s>".formatted(getPathToUseInRules());
   }
 
   public String shortDescription() {
-    return pathToUseInRules;
+    return getPathToUseInRules();
   }
 
-  private static String pathToUseInRules(List<String> path) {
-    // remove the array sub-path, so person.children.[2].name -> person.children.name
-    // rules for ignoring fields don't apply at the element level (ex: children.[2]) but at the group level (ex: children).
-    return path.stream()
-               .filter(subpath -> !subpath.startsWith("["))
-               .collect(joining(FIELD_SEPARATOR));
+  private static boolean isElementPath(String path) {
+    return path.startsWith("[");
   }
 
   public boolean exactlyMatches(FieldLocation field) {
-    return exactlyMatches(field.pathToUseInRules);
+    return exactlyMatches(field.getPathToUseInRules());
   }
 
   public boolean exactlyMatches(String fieldPath) {
-    return pathToUseInRules.equals(fieldPath);
+    return getPathToUseInRules().equals(fieldPath);
   }
 
   /**
@@ -144,7 +165,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true if this fieldLocation is the given fieldPath or a child of it, false otherwise.
    */
   public boolean hierarchyMatches(String fieldPath) {
-    return pathsHierarchyToUseInRules.contains(fieldPath);
+    return getPathsHierarchyToUseInRules().contains(fieldPath);
   }
 
   /**
@@ -172,41 +193,64 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true, this fieldLocation or any of its parent matches the given regex., false otherwise.
    */
   public boolean hierarchyMatchesRegex(Pattern regex) {
-    return pathsHierarchyToUseInRules.stream().anyMatch(path -> regex.matcher(path).matches());
+    return getPathsHierarchyToUseInRules().stream().anyMatch(path -> regex.matcher(path).matches());
   }
 
   public List<String> getDecomposedPath() {
+    if (decomposedPath == null) {
+      List<String> path = new ArrayList<>();
+      for (FieldLocation location = this; location.parent != null; location = location.parent) {
+        path.add(location.fieldName);
+      }
+      reverse(path);
+      decomposedPath = unmodifiableList(path);
+    }
     return decomposedPath;
   }
 
   public String getPathToUseInRules() {
+    if (pathToUseInRules == null) pathToUseInRules = computePathToUseInRules();
     return pathToUseInRules;
   }
 
+  private String computePathToUseInRules() {
+    if (parent == null) return "";
+    // remove the array sub-path, so person.children.[2].name -> person.children.name
+    // rules for ignoring fields don't apply at the element level (ex: children.[2]) but at the group level (ex: children).
+    if (isElementPath(fieldName)) return parent.getPathToUseInRules();
+    return parent.hasPathToUseInRules() ? parent.getPathToUseInRules() + FIELD_SEPARATOR + fieldName : fieldName;
+  }
+
+  // true if this location or one of its parents is not an element location (ex: [2])
+  private boolean hasPathToUseInRules() {
+    for (FieldLocation location = this; location.parent != null; location = location.parent) {
+      if (!isElementPath(location.fieldName)) return true;
+    }
+    return false;
+  }
+
   public String getPathToUseInRulesForChildField(String fieldName) {
-    return pathToUseInRules.isEmpty() ? fieldName : pathToUseInRules + FIELD_SEPARATOR + fieldName;
+    String path = getPathToUseInRules();
+    return path.isEmpty() ? fieldName : path + FIELD_SEPARATOR + fieldName;
   }
 
   public FieldLocation field(String field) {
-    List<String> decomposedPathWithField = new ArrayList<>(decomposedPath);
-    decomposedPathWithField.add(field);
-    return new FieldLocation(decomposedPathWithField);
+    return new FieldLocation(this, field);
   }
 
   public String getPathToUseInErrorReport() {
-    return String.join(FIELD_SEPARATOR, decomposedPath);
+    return String.join(FIELD_SEPARATOR, getDecomposedPath());
   }
 
   public String getFieldName() {
-    if (decomposedPath.isEmpty()) return "";
-    return decomposedPath.get(decomposedPath.size() - 1);
+    return parent == null ? "" : fieldName;
   }
 
   public boolean isRoot() {
     // Root is the top level object compared or in case of the top level is an iterable/array the elements are
     // considered as roots.
     // We don't do it for optional since it has a 'value' field (at least for now)
-    return isRootPath(pathToUseInRules);
+    return isRootPath(getPathToUseInRules());
   }
 
   private boolean isRootPath(String pathToUseInRules) {
@@ -214,11 +258,11 @@ public final class FieldLocation implements Comparable<FieldLocation> {
   }
 
   public boolean isTopLevelField() {
-    return !isRoot() && !pathToUseInRules.contains(FIELD_SEPARATOR);
+    return !isRoot() && !getPathToUseInRules().contains(FIELD_SEPARATOR);
   }
 
   public static FieldLocation rootFieldLocation() {
-    return new FieldLocation(emptyList());
+    return new FieldLocation(null, null);
   }
 
   /**
@@ -243,7 +287,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    */
   public boolean hasParent(FieldLocation parent) {
     // FIELD_SEPARATOR guarantees that we compare path elements, this avoids making "name" a parent of "names"
-    return pathToUseInRules.startsWith(parent.pathToUseInRules + FIELD_SEPARATOR);
+    return getPathToUseInRules().startsWith(parent.getPathToUseInRules() + FIELD_SEPARATOR);
   }
 
   /**
@@ -271,11 +315,16 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     return child.hasParent(this);
   }
 
-  private Set<String> pathsHierarchyToUseInRules() {
+  private Set<String> getPathsHierarchyToUseInRules() {
+    if (pathsHierarchyToUseInRules == null) pathsHierarchyToUseInRules = computePathsHierarchyToUseInRules();
+    return pathsHierarchyToUseInRules;
+  }
+
+  private Set<String> computePathsHierarchyToUseInRules() {
     // using LinkedHashSet to maintain leaf to root iteration order
     // so that hierarchyMatchesRegex can try matching from the longest to the shortest path
     Set<String> fieldAndParentFields = newLinkedHashSet();
-    String currentPath = this.pathToUseInRules;
+    String currentPath = getPathToUseInRules();
     while (!isRootPath(currentPath)) {
       fieldAndParentFields.add(currentPath);
       currentPath = parent(currentPath);
@@ -16,17 +16,18 @@ import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.data.MapEntry.entry;
 import static org.assertj.core.internal.RecursiveHelper.isContainer;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +35,8 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -85,7 +88,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   // track field locations of fields of type to compare, needed to compare child nodes
   // for example if we want to compare Person type, we must compare Person fields too event though they are not of type Person
-  private final Set<FieldLocation> fieldLocationsToCompareBecauseOfTypesToCompare = new LinkedHashSet<>();
+  // concurrent set as it is updated during the comparison which can be performed by several threads (see parallelism)
+  private final Set<FieldLocation> fieldLocationsToCompareBecauseOfTypesToCompare = ConcurrentHashMap.newKeySet();
 
   public void registerFieldLocationToCompareBecauseOfTypesToCompare(FieldLocation fieldLocation) {
     fieldLocationsToCompareBecauseOfTypesToCompare.add(fieldLocation);
@@ -95,6 +99,16 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   private boolean compareEnumAgainstString = false;
 
+  private int parallelism = 1;
+
+  // null when statistics are not collected, which is checked before recording anything to not slow down the comparison
+  RecursiveComparisonStatistics statistics;
+  private boolean reportStatisticsOnFailure = false;
+
+  // the field location rules decisions by path, they are memoized during a comparison only as rules can change between two
+  // comparisons, see memoizeFieldLocationRules().
+  private volatile Map<String, FieldLocationRules> fieldLocationRulesByPath;
+
   private RecursiveComparisonConfiguration(Builder builder) {
     super(builder);
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
@@ -115,6 +129,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     this.fieldMessages = builder.fieldMessages;
     this.typeMessages = builder.typeMessages;
     this.introspectionStrategy = builder.introspectionStrategy;
+    this.parallelism = builder.parallelism;
+    this.statistics = builder.statistics;
+    setReportStatisticsOnFailure(builder.reportStatisticsOnFailure);
     this.representation = builder.representation != null ? builder.representation : STANDARD_REPRESENTATION;
   }
 
@@ -132,11 +149,18 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public boolean hasComparatorForField(String fieldName) {
-    return fieldComparators.hasComparatorForField(fieldName);
+    return getComparatorForField(fieldName) != null;
   }
 
   public Comparator<?> getComparatorForField(String fieldName) {
-    return fieldComparators.getComparatorForField(fieldName);
+    Map<String, FieldLocationRules> memoizedRules = fieldLocationRulesByPath;
+    if (memoizedRules == null) return fieldComparators.getComparatorForField(fieldName);
+    FieldLocationRules fieldLocationRules = memoizedRules.get(fieldName);
+    if (fieldLocationRules != null) return fieldLocationRules.fieldComparator;
+    FieldLocation fieldLocation = new FieldLocation(fieldName);
+    // only memoize paths to use in rules (i.e. without element index)
+    if (!fieldLocation.exactlyMatches(fieldName)) return fieldComparators.getComparatorForField(fieldName);
+    return fieldLocationRulesOf(fieldLocation, memoizedRules).fieldComparator;
   }
 
   public boolean hasCustomMessageForField(String fieldName) {
@@ -619,6 +643,63 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return this.compareEnumAgainstString;
   }
 
+  /**
+   * Sets the number of threads used to perform the recursive comparison, a parallelism of 1 (the default) means the
+   * comparison is performed sequentially in the current thread.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withParallelism(int)} for details.
+   *
+   * @param parallelism the number of threads used to perform the recursive comparison.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   */
+  public void setParallelism(int parallelism) {
+    checkArgument(parallelism > 0, "The parallelism must be greater than 0 but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the {@link RecursiveComparisonStatistics} updated by the recursive comparisons performed with this configuration,
+   * statistics are not collected if none are set (the default).
+   * <p>
+   * See {@link RecursiveComparisonAssert#collectingStatisticsIn(RecursiveComparisonStatistics)} for details.
+   *
+   * @param statistics the statistics to update, null to stop collecting statistics.
+   */
+  public void setStatistics(RecursiveComparisonStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  /**
+   * Returns the {@link RecursiveComparisonStatistics} updated by the recursive comparisons performed with this configuration
+   * if any.
+   *
+   * @return the statistics updated by the recursive comparisons or empty if statistics are not collected.
+   */
+  public Optional<RecursiveComparisonStatistics> getStatistics() {
+    return Optional.ofNullable(statistics);
+  }
+
+  /**
+   * Sets whether the collected statistics are added to the error message when the recursive comparison fails, statistics
+   * are collected if they were not already.
+   * <p>
+   * See {@link RecursiveComparisonAssert#reportingStatisticsOnFailure()} for details.
+   *
+   * @param reportStatisticsOnFailure whether to add the collected statistics to the error message.
+   */
+  public void setReportStatisticsOnFailure(boolean reportStatisticsOnFailure) {
+    this.reportStatisticsOnFailure = reportStatisticsOnFailure;
+    if (reportStatisticsOnFailure && statistics == null) statistics = new RecursiveComparisonStatistics();
+  }
+
+  public boolean isReportingStatisticsOnFailure() {
+    return reportStatisticsOnFailure;
+  }
+
   @Override
   public String toString() {
     return multiLineDescription(CONFIGURATION_PROVIDER.representation());
@@ -632,7 +713,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
                                   getIgnoredFields(), getIgnoredFieldsRegexes(), ignoredOverriddenEqualsForFields,
                                   ignoredOverriddenEqualsForTypes, ignoredOverriddenEqualsForFieldsMatchingRegexes,
                                   getIgnoredTypes(), strictTypeChecking, typeComparators, comparedFields, comparedTypes,
-                                  fieldMessages, typeMessages, compareEnumAgainstString);
+                                  fieldMessages, typeMessages, compareEnumAgainstString, parallelism);
   }
 
   @Override
@@ -662,7 +743,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            && java.util.Objects.equals(ignoredCollectionOrderInFieldsMatchingRegexes,
                                        other.ignoredCollectionOrderInFieldsMatchingRegexes)
            && java.util.Objects.equals(fieldMessages, other.fieldMessages)
-           && java.util.Objects.equals(typeMessages, other.typeMessages);
+           && java.util.Objects.equals(typeMessages, other.typeMessages)
+           && parallelism == other.parallelism;
   }
 
   public String multiLineDescription(Representation representation) {
@@ -687,6 +769,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     describeRegisteredErrorMessagesForTypes(description);
     describeIntrospectionStrategy(description);
     describeCompareEnumAgainstString(description);
+    describeParallelism(description);
     return description.toString();
   }
 
@@ -703,12 +786,12 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            || shouldIgnoreFieldBasedOnFieldValue(dualValue);
   }
 
-  private boolean shouldBeCompared(DualValue dualValue) {
+  boolean shouldBeCompared(DualValue dualValue) {
     // no comparedFields and comparedTypes <=> no restriction on compared fields => everything must be compared
     if (comparedFields.isEmpty() && comparedTypes.isEmpty()) return true;
     // if we have compared types, we can't ignore any values since they could have fields of types to compare
     if (!comparedTypes.isEmpty()) return true;
-    return comparedFields.stream().anyMatch(matchesComparedField(dualValue.fieldLocation));
+    return fieldLocationRulesOf(dualValue.fieldLocation).compared;
   }
 
   private static Predicate<FieldLocation> matchesComparedField(FieldLocation field) {
@@ -723,37 +806,80 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public Set<String> getActualChildrenNodeNamesToCompare(DualValue dualValue) {
+    return getActualChildrenNodesToCompare(dualValue).keySet();
+  }
+
+  /**
+   * Returns the actual children nodes to compare by name with their {@link DualValue} so that the comparison does not need
+   * to read the children values again (they may be costly to get), a {@code null} {@link DualValue} means the child values
+   * were not read (or could not be) and must be read by the comparison.
+   */
+  Map<String, DualValue> getActualChildrenNodesToCompare(DualValue dualValue) {
+    return getActualChildrenNodesToCompare(dualValue, this::getValue);
+  }
+
+  // same as getActualChildrenNodesToCompare(DualValue) but reading the children values with the given function, it takes
+  // the child node name and the instance to read it from
+  Map<String, DualValue> getActualChildrenNodesToCompare(DualValue dualValue,
+                                                         BiFunction<String, Object, Object> childNodeValueReader) {
     Set<String> actualChildrenNodeNames = getChildrenNodeNamesOf(dualValue.actual);
+    Map<String, DualValue> actualChildrenNodesToCompare = new HashMap<>();
     // if we have some compared types, we can't discard any nodes since they could have fields we need to compare.
     // we could evaluate the whole graphs to figure that but that would be bad performance wise so add everything
     // and exclude later on any differences that were on fields not to compare
     if (!comparedTypes.isEmpty()) {
       registerFieldLocationOfFieldsOfTypesToCompare(dualValue);
-      return actualChildrenNodeNames;
+      actualChildrenNodeNames.forEach(childNodeName -> actualChildrenNodesToCompare.put(childNodeName, null));
+      return actualChildrenNodesToCompare;
     }
     // we are doing the same as shouldIgnore(DualValue dualValue) but in two steps for performance reasons:
     // - we filter first ignored nodes by names that don't need building DualValues
     // - then we filter field DualValues with the remaining criteria that need to get the node value
-    // DualValues are built by introspecting node values which is expensive.
-    return actualChildrenNodeNames.stream()
-                                  // evaluate field name ignoring criteria on dualValue field location + field name
-                                  .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName)))
-                                  .map(fieldName -> dualValueForField(dualValue, fieldName))
-                                  // evaluate field value ignoring criteria
-                                  .filter(fieldDualValue -> !shouldIgnoreFieldBasedOnFieldValue(fieldDualValue))
-                                  .filter(this::shouldBeCompared)
-                                  // back to field name
-                                  .map(DualValue::getFieldName)
-                                  .filter(fieldName -> !fieldName.isEmpty())
-                                  .collect(toSet());
+    // DualValues are built by introspecting node values which is expensive, they are kept to be compared afterwards.
+    for (String childNodeName : actualChildrenNodeNames) {
+      if (childNodeName.isEmpty()) continue;
+      FieldLocation childNodeLocation = dualValue.fieldLocation.field(childNodeName);
+      // evaluate field name ignoring criteria on dualValue field location + field name
+      if (shouldIgnoreFieldBasedOnFieldLocation(childNodeLocation)) continue;
+      Object actualChildNodeValue = childNodeValueReader.apply(childNodeName, dualValue.actual);
+      // no guarantees we have a field in expected named as childNodeName
+      Object expectedChildNodeValue;
+      boolean expectedChildNodeValueRead = true;
+      try {
+        expectedChildNodeValue = childNodeValueReader.apply(childNodeName, dualValue.expected);
+      } catch (@SuppressWarnings("unused") Exception e) {
+        // set the field to null to express it is absent, this not 100% accurate as the value could be null,
+        // but it works to evaluate if dualValue should be ignored with matchesAnIgnoredFieldType
+        expectedChildNodeValue = null;
+        expectedChildNodeValueRead = false;
+      }
+      DualValue childDualValue = new DualValue(childNodeLocation, actualChildNodeValue, expectedChildNodeValue);
+      // evaluate field value ignoring criteria
+      if (shouldIgnoreFieldBasedOnFieldValue(childDualValue) || !shouldBeCompared(childDualValue)) continue;
+      // when the expected value could not be read, let the comparison read it again and report the error if any
+      actualChildrenNodesToCompare.put(childNodeName, expectedChildNodeValueRead ? childDualValue : null);
+    }
+    return actualChildrenNodesToCompare;
   }
 
   Set<String> getChildrenNodeNamesOf(Object instance) {
-    return introspectionStrategy.getChildrenNodeNamesOf(instance);
+    if (statistics == null || instance == null) return introspectionStrategy.getChildrenNodeNamesOf(instance);
+    long start = System.nanoTime();
+    try {
+      return introspectionStrategy.getChildrenNodeNamesOf(instance);
+    } finally {
+      statistics.introspected(instance.getClass(), System.nanoTime() - start);
+    }
   }
 
   Object getValue(String name, Object instance) {
-    return introspectionStrategy.getChildNodeValue(name, instance);
+    if (statistics == null || instance == null) return introspectionStrategy.getChildNodeValue(name, instance);
+    long start = System.nanoTime();
+    try {
+      return introspectionStrategy.getChildNodeValue(name, instance);
+    } finally {
+      statistics.introspected(instance.getClass(), System.nanoTime() - start);
+    }
   }
 
   // non accessible stuff
@@ -764,23 +890,42 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            || matchesAnIgnoredEmptyOptionalField(dualValue);
   }
 
-  private boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation) {
-    return matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation);
+  boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation) {
+    return fieldLocationRulesOf(fieldLocation).ignored;
   }
 
-  private DualValue dualValueForField(DualValue parentDualValue, String fieldName) {
-    Object actualFieldValue = getValue(fieldName, parentDualValue.actual);
-    // no guarantees we have a field in expected named as fieldName
-    Object expectedFieldValue;
-    try {
-      expectedFieldValue = getValue(fieldName, parentDualValue.expected);
-    } catch (@SuppressWarnings("unused") Exception e) {
-      // set the field to null to express it is absent, this not 100% accurate as the value could be null,
-      // but it works to evaluate if dualValue should be ignored with matchesAnIgnoredFieldType
-      expectedFieldValue = null;
-    }
-    FieldLocation fieldLocation = parentDualValue.fieldLocation.field(fieldName);
-    return new DualValue(fieldLocation, actualFieldValue, expectedFieldValue);
+  /**
+   * Memoizes the decisions of the rules depending on field locations (ignored fields, compared fields, comparators by
+   * field ...) until {@link #forgetFieldLocationRules()} is called, this avoids evaluating all the rules (some being
+   * regexes) for each compared node, the rules must not change meanwhile.
+   * <p>
+   * Nothing is done if the decisions are already memoized (a comparison is in progress).
+   *
+   * @return true if this call started memoizing the rules decisions, false if they were already memoized.
+   */
+  synchronized boolean memoizeFieldLocationRules() {
+    if (fieldLocationRulesByPath != null) return false;
+    // concurrent map as the comparison can be performed by several threads (see parallelism)
+    fieldLocationRulesByPath = new ConcurrentHashMap<>();
+    return true;
+  }
+
+  synchronized void forgetFieldLocationRules() {
+    fieldLocationRulesByPath = null;
+  }
+
+  private FieldLocationRules fieldLocationRulesOf(FieldLocation fieldLocation) {
+    Map<String, FieldLocationRules> memoizedRules = fieldLocationRulesByPath;
+    if (memoizedRules == null) return new FieldLocationRules(fieldLocation);
+    return fieldLocationRulesOf(fieldLocation, memoizedRules);
+  }
+
+  private FieldLocationRules fieldLocationRulesOf(FieldLocation fieldLocation,
+                                                  Map<String, FieldLocationRules> memoizedRules) {
+    // rules only depend on the path to use in rules, for example "people.[0].name" and "people.[1].name" share them
+    FieldLocationRules fieldLocationRules = memoizedRules.get(fieldLocation.getPathToUseInRules());
+    if (fieldLocationRules != null) return fieldLocationRules;
+    return memoizedRules.computeIfAbsent(fieldLocation.getPathToUseInRules(), path -> new FieldLocationRules(fieldLocation));
   }
 
   boolean hasCustomComparator(DualValue dualValue) {
@@ -804,7 +949,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     // field then we treat as usual and ignore its equals method and introspects it
     if (someComparedFieldsHaveBeenSpecified() && !exactlyMatchesAnyComparedFields(dualValue)) return true;
     return ignoreAllOverriddenEquals
-           || matchesAnIgnoredOverriddenEqualsField(dualValue)
+           || fieldLocationRulesOf(dualValue.fieldLocation).ignoredOverriddenEquals
            || (dualValue.actual != null && shouldIgnoreOverriddenEqualsOf(dualValue.actual.getClass()));
   }
 
@@ -815,9 +960,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public boolean shouldIgnoreCollectionOrder(FieldLocation fieldLocation) {
-    return ignoreCollectionOrder
-           || matchesAnIgnoredCollectionOrderInField(fieldLocation)
-           || matchesAnIgnoredCollectionOrderInFieldRegex(fieldLocation);
+    return ignoreCollectionOrder || fieldLocationRulesOf(fieldLocation).ignoredCollectionOrder;
   }
 
   private void describeComparedFields(StringBuilder description) {
@@ -916,6 +1059,11 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       description.append("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal%n".formatted());
   }
 
+  private void describeParallelism(StringBuilder description) {
+    if (parallelism > 1)
+      description.append("- the comparison was performed in parallel by %s threads%n".formatted(parallelism));
+  }
+
   private boolean matchesAnIgnoredOverriddenEqualsRegex(FieldLocation fieldLocation) {
     if (ignoredOverriddenEqualsForFieldsMatchingRegexes.isEmpty()) return false; // shortcut
     String pathToUseInRules = fieldLocation.getPathToUseInRules();
@@ -926,8 +1074,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return ignoredOverriddenEqualsForTypes.contains(clazz);
   }
 
-  private boolean matchesAnIgnoredOverriddenEqualsField(DualValue dualValue) {
-    FieldLocation fieldLocation = dualValue.fieldLocation;
+  private boolean matchesAnIgnoredOverriddenEqualsField(FieldLocation fieldLocation) {
     return ignoredOverriddenEqualsForFields.stream().anyMatch(fieldLocation::exactlyMatches)
            || matchesAnIgnoredOverriddenEqualsRegex(fieldLocation);
   }
@@ -1167,7 +1314,29 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   boolean exactlyMatchesAnyComparedFields(DualValue dualValue) {
-    return comparedFields.stream().anyMatch(comparedField -> comparedField.exactlyMatches(dualValue.fieldLocation));
+    return fieldLocationRulesOf(dualValue.fieldLocation).exactlyCompared;
+  }
+
+  /**
+   * The decisions of the rules depending on a field location.
+   */
+  private final class FieldLocationRules {
+    private final boolean ignored;
+    private final boolean compared;
+    private final boolean exactlyCompared;
+    private final boolean ignoredOverriddenEquals;
+    private final boolean ignoredCollectionOrder;
+    private final Comparator<?> fieldComparator;
+
+    private FieldLocationRules(FieldLocation fieldLocation) {
+      ignored = matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation);
+      compared = comparedFields.stream().anyMatch(matchesComparedField(fieldLocation));
+      exactlyCompared = comparedFields.stream().anyMatch(comparedField -> comparedField.exactlyMatches(fieldLocation));
+      ignoredOverriddenEquals = matchesAnIgnoredOverriddenEqualsField(fieldLocation);
+      ignoredCollectionOrder = matchesAnIgnoredCollectionOrderInField(fieldLocation)
+                               || matchesAnIgnoredCollectionOrderInFieldRegex(fieldLocation);
+      fieldComparator = fieldComparators.getComparatorForField(fieldLocation.getPathToUseInRules());
+    }
   }
 
   /**
@@ -1194,6 +1363,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     private final TypeMessages typeMessages = new TypeMessages();
 
     private RecursiveComparisonIntrospectionStrategy introspectionStrategy = DEFAULT_RECURSIVE_COMPARISON_INTROSPECTION_STRATEGY;
+    private int parallelism = 1;
+    private RecursiveComparisonStatistics statistics;
+    private boolean reportStatisticsOnFailure;
 
     private Builder() {
       super(Builder.class);
@@ -1570,6 +1742,50 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       return this;
     }
 
+    /**
+     * Sets the number of threads used to perform the recursive comparison, a parallelism of 1 (the default) means the
+     * comparison is performed sequentially in the current thread.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withParallelism(int)} for details.
+     *
+     * @param parallelism the number of threads used to perform the recursive comparison.
+     * @return This builder.
+     * @throws IllegalArgumentException if parallelism is less than 1.
+     */
+    public Builder withParallelism(int parallelism) {
+      checkArgument(parallelism > 0, "The parallelism must be greater than 0 but was %s", parallelism);
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Sets the {@link RecursiveComparisonStatistics} updated by the recursive comparisons performed with the built
+     * configuration.
+     * <p>
+     * See {@link RecursiveComparisonAssert#collectingStatisticsIn(RecursiveComparisonStatistics)} for details.
+     *
+     * @param statistics the statistics to update.
+     * @return This builder.
+     */
+    public Builder withStatistics(RecursiveComparisonStatistics statistics) {
+      this.statistics = statistics;
+      return this;
+    }
+
+    /**
+     * Sets whether the collected statistics are added to the error message when the recursive comparison fails, statistics
+     * are collected if they were not already.
+     * <p>
+     * See {@link RecursiveComparisonAssert#reportingStatisticsOnFailure()} for details.
+     *
+     * @param reportStatisticsOnFailure whether to add the collected statistics to the error message.
+     * @return This builder.
+     */
+    public Builder withStatisticsReportedOnFailure(boolean reportStatisticsOnFailure) {
+      this.reportStatisticsOnFailure = reportStatisticsOnFailure;
+      return this;
+    }
+
     public RecursiveComparisonConfiguration build() {
       return new RecursiveComparisonConfiguration(this);
     }
@@ -14,10 +14,8 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
 import static java.util.Objects.deepEquals;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 import static org.assertj.core.api.recursive.comparison.ComparisonDifference.rootComparisonDifference;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
@@ -30,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -39,6 +38,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -46,6 +47,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collector;
@@ -73,6 +75,7 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String DIFFERENT_SIZE_ERROR = "actual and expected values are %s of different size, actual size=%s when expected size=%s";
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
+  private static final Map<Integer, ForkJoinPool> forkJoinPoolsPerParallelism = new ConcurrentHashMap<>();
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
@@ -80,12 +83,25 @@ public class RecursiveComparisonDifferenceCalculator {
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+    // when true, the comparison stops at the first relevant difference without building any ComparisonDifference, this
+    // is used when we only need to know whether the compared values are equal or not.
+    final boolean stopAtFirstDifference;
+    boolean differenceFound;
+    // null when statistics are not collected
+    final RecursiveComparisonStatistics statistics;
 
     public ComparisonState(VisitedDualValues visitedDualValues,
                            RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+      this(visitedDualValues, recursiveComparisonConfiguration, false);
+    }
+
+    private ComparisonState(VisitedDualValues visitedDualValues,
+                            RecursiveComparisonConfiguration recursiveComparisonConfiguration, boolean stopAtFirstDifference) {
       this.visitedDualValues = visitedDualValues;
       this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration);
       this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+      this.stopAtFirstDifference = stopAtFirstDifference;
+      this.statistics = recursiveComparisonConfiguration.statistics;
     }
 
     void addDifference(DualValue dualValue) {
@@ -109,6 +125,16 @@ public class RecursiveComparisonDifferenceCalculator {
         if (recursiveComparisonConfiguration.shouldIgnore(dualValue)) return;
       }
 
+      if (stopAtFirstDifference) {
+        differenceFound = true;
+        // the difference is only built if these dual values were visited as it must be reported if they are visited again
+        if (visitedDualValues.registeredComparisonDifferencesOf(dualValue).isPresent()) {
+          ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue, description,
+                                                                               getCustomErrorMessage(dualValue));
+          visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+        }
+        return;
+      }
       String customErrorMessage = getCustomErrorMessage(dualValue);
       ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue, description, customErrorMessage);
       differences.add(comparisonDifference);
@@ -117,6 +143,10 @@ public class RecursiveComparisonDifferenceCalculator {
     }
 
     void addKeyDifference(DualValue parentDualValue, Object actualKey, Object expectedKey) {
+      if (stopAtFirstDifference) {
+        differenceFound = true;
+        return;
+      }
       differences.add(new ComparisonKeyDifference(parentDualValue, actualKey, expectedKey));
     }
 
@@ -126,7 +156,7 @@ public class RecursiveComparisonDifferenceCalculator {
     }
 
     public boolean hasDualValuesToCompare() {
-      return !dualValuesToCompare.isEmpty();
+      return !differenceFound && !dualValuesToCompare.isEmpty();
     }
 
     public DualValue pickDualValueToCompare() {
@@ -135,9 +165,25 @@ public class RecursiveComparisonDifferenceCalculator {
 
     private void registerForComparison(DualValue dualValue) {
       dualValuesToCompare.addFirst(dualValue);
+      if (statistics != null) statistics.nodesToCompare(dualValuesToCompare.size());
+    }
+
+    // moves the last half of the dual values to compare (the shallowest ones) to a new state sharing the visited dual values
+    private ComparisonState splitDualValuesToCompare() {
+      ComparisonState splitComparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration);
+      int dualValuesToMove = dualValuesToCompare.size() / 2;
+      for (int i = 0; i < dualValuesToMove; i++) {
+        splitComparisonState.dualValuesToCompare.addFirst(dualValuesToCompare.removeLast());
+      }
+      return splitComparisonState;
     }
 
     private void initDualValuesToCompare(Object actual, Object expected, FieldLocation nodeLocation) {
+      initDualValuesToCompare(actual, expected, nodeLocation, recursiveComparisonConfiguration::getValue);
+    }
+
+    private void initDualValuesToCompare(Object actual, Object expected, FieldLocation nodeLocation,
+                                         BiFunction<String, Object, Object> childNodeValueReader) {
       // before anything are these values to be compared at all?
       DualValue dualValue = new DualValue(nodeLocation, actual, expected);
       if (recursiveComparisonConfiguration.shouldNotEvaluate(dualValue)) return;
@@ -150,19 +196,16 @@ public class RecursiveComparisonDifferenceCalculator {
           recursiveComparisonConfiguration.checkComparedFieldsExist(actual);
         }
         // TODO should fail if actual and expected don't have the same fields (taking into account ignored/compared fields)
-        Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue);
-        if (!actualChildrenNodeNamesToCompare.isEmpty()) {
+        Map<String, DualValue> actualChildrenNodesToCompare = recursiveComparisonConfiguration.getActualChildrenNodesToCompare(dualValue,
+                                                                                                                                childNodeValueReader);
+        if (!actualChildrenNodesToCompare.isEmpty()) {
           // fields to ignore are evaluated when adding their corresponding dualValues to dualValuesToCompare which filters
           // ignored fields according to recursiveComparisonConfiguration
           Set<String> expectedChildrenNodesNames = recursiveComparisonConfiguration.getChildrenNodeNamesOf(expected);
-          if (expectedChildrenNodesNames.containsAll(actualChildrenNodeNamesToCompare)) {
+          if (expectedChildrenNodesNames.containsAll(actualChildrenNodesToCompare.keySet())) {
             // we compare actual fields vs expected, ignoring expected additional fields
-            for (String actualChildNodeName : actualChildrenNodeNamesToCompare) {
-              Object actualChildNodeValue = recursiveComparisonConfiguration.getValue(actualChildNodeName, actual);
-              Object expectedChildNodeValue = recursiveComparisonConfiguration.getValue(actualChildNodeName, expected);
-              DualValue childNodeDualValue = new DualValue(nodeLocation.field(actualChildNodeName), actualChildNodeValue,
-                                                           expectedChildNodeValue);
-              registerForComparison(childNodeDualValue);
+            for (Entry<String, DualValue> actualChildNode : actualChildrenNodesToCompare.entrySet()) {
+              registerForComparison(childNodeDualValue(dualValue, actualChildNode, recursiveComparisonConfiguration));
             }
           } else {
             registerForComparison(dualValue);
@@ -232,7 +275,95 @@ public class RecursiveComparisonDifferenceCalculator {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
       return list(expectedAndActualTypeDifference(actual, expected));
     }
-    return determineDifferences(actual, expected, rootFieldLocation(), new VisitedDualValues(), recursiveComparisonConfiguration);
+    // the rules can't change during the comparison, their decisions for a given field location can thus be reused
+    boolean fieldLocationRulesMemoized = recursiveComparisonConfiguration.memoizeFieldLocationRules();
+    try {
+      if (recursiveComparisonConfiguration.getParallelism() > 1) {
+        return determineDifferencesInParallel(actual, expected, recursiveComparisonConfiguration);
+      }
+      return determineDifferences(actual, expected, rootFieldLocation(), new VisitedDualValues(),
+                                  recursiveComparisonConfiguration);
+    } finally {
+      if (fieldLocationRulesMemoized) recursiveComparisonConfiguration.forgetFieldLocationRules();
+    }
+  }
+
+  /**
+   * Returns whether the two given objects have any difference according to the given configuration, the result is the same
+   * as {@code !determineDifferences(actual, expected, recursiveComparisonConfiguration).isEmpty()} but the comparison stops
+   * at the first difference found and does not build any {@link ComparisonDifference}.
+   * <p>
+   * This is meant to be used when the differences are not reported, for example to compare the elements of iterables or
+   * arrays with a recursive comparison, the comparison is always performed by the current thread.
+   *
+   * @param actual                           Object one to compare
+   * @param expected                         Object two to compare
+   * @param recursiveComparisonConfiguration the recursive comparison configuration
+   * @return true if the objects have at least one difference, false if they are equivalent.
+   */
+  public boolean hasDifferences(Object actual, Object expected,
+                                RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
+      return true;
+    }
+    boolean fieldLocationRulesMemoized = recursiveComparisonConfiguration.memoizeFieldLocationRules();
+    try {
+      return hasDifferences(actual, expected, rootFieldLocation(), new VisitedDualValues(), recursiveComparisonConfiguration,
+                            recursiveComparisonConfiguration::getValue);
+    } finally {
+      if (fieldLocationRulesMemoized) recursiveComparisonConfiguration.forgetFieldLocationRules();
+    }
+  }
+
+  private static List<ComparisonDifference> determineDifferencesInParallel(Object actual, Object expected,
+                                                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    // the visited dual values are shared by all the tasks to detect cycles across subtrees compared by different threads
+    ComparisonState comparisonState = new ComparisonState(VisitedDualValues.concurrentVisitedDualValues(),
+                                                          recursiveComparisonConfiguration);
+    // done in the current thread as it checks the compared fields existence which can fail the comparison right away
+    comparisonState.initDualValuesToCompare(actual, expected, rootFieldLocation());
+    ForkJoinPool forkJoinPool = forkJoinPoolOf(recursiveComparisonConfiguration.getParallelism());
+    List<ComparisonDifference> differences = forkJoinPool.invoke(new DualValuesComparisonTask(comparisonState));
+    Collections.sort(differences);
+    return differences;
+  }
+
+  // creating a pool for each comparison is costly when comparing many small graphs, pools are thus shared per parallelism,
+  // their idle worker threads are daemon ones that terminate after a while, so they don't need to be shut down
+  private static ForkJoinPool forkJoinPoolOf(int parallelism) {
+    if (parallelism == ForkJoinPool.getCommonPoolParallelism()) return ForkJoinPool.commonPool();
+    return forkJoinPoolsPerParallelism.computeIfAbsent(parallelism, ForkJoinPool::new);
+  }
+
+  /**
+   * Compares the dual values of the given {@link ComparisonState} and hands over half of the dual values left to compare
+   * to a new forked task whenever the pool has idle workers, the dual values left to compare being independent subtrees.
+   */
+  @SuppressWarnings("serial")
+  private static class DualValuesComparisonTask extends RecursiveTask<List<ComparisonDifference>> {
+
+    private final ComparisonState comparisonState;
+
+    DualValuesComparisonTask(ComparisonState comparisonState) {
+      this.comparisonState = comparisonState;
+    }
+
+    @Override
+    protected List<ComparisonDifference> compute() {
+      List<DualValuesComparisonTask> forkedTasks = new ArrayList<>();
+      while (comparisonState.hasDualValuesToCompare()) {
+        if (comparisonState.dualValuesToCompare.size() > 1 && getSurplusQueuedTaskCount() == 0) {
+          DualValuesComparisonTask forkedTask = new DualValuesComparisonTask(comparisonState.splitDualValuesToCompare());
+          forkedTask.fork();
+          forkedTasks.add(forkedTask);
+        }
+        compareDualValue(comparisonState.pickDualValueToCompare(), comparisonState);
+      }
+      // differences are sorted once all tasks are done
+      List<ComparisonDifference> differences = comparisonState.differences;
+      forkedTasks.forEach(forkedTask -> differences.addAll(forkedTask.join()));
+      return differences;
+    }
   }
 
   // TODO keep track of ignored fields in an RecursiveComparisonExecution class ?
@@ -244,184 +375,213 @@ public class RecursiveComparisonDifferenceCalculator {
     comparisonState.initDualValuesToCompare(actual, expected, fieldLocation);
 
     while (comparisonState.hasDualValuesToCompare()) {
+      compareDualValue(comparisonState.pickDualValueToCompare(), comparisonState);
+    }
+    return comparisonState.getDifferences();
+  }
 
-      final DualValue dualValue = comparisonState.pickDualValueToCompare();
-      if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue)) {
-        // keep track of field locations of type to compare, needed to compare child nodes, for example if we want to
-        // only compare the Person type, we must compare the Person fields too even though they are not of type Person
-        recursiveComparisonConfiguration.registerFieldLocationToCompareBecauseOfTypesToCompare(dualValue.fieldLocation);
-      }
+  private static boolean hasDifferences(Object actual, Object expected, FieldLocation fieldLocation,
+                                        VisitedDualValues visitedDualValues,
+                                        RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                        BiFunction<String, Object, Object> childNodeValueReader) {
+    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration, true);
+    comparisonState.initDualValuesToCompare(actual, expected, fieldLocation, childNodeValueReader);
 
-      // if we have already visited the dual value, no need to compute the comparison differences again, this also avoid cycles
-      Optional<List<ComparisonDifference>> comparisonDifferences = comparisonState.visitedDualValues.registeredComparisonDifferencesOf(dualValue);
-      if (comparisonDifferences.isPresent()) {
-        if (!comparisonDifferences.get().isEmpty()) {
-          comparisonState.addDifference(dualValue, "already visited node but now location is: " + dualValue.fieldLocation);
-        }
-        continue;
-      }
+    while (comparisonState.hasDualValuesToCompare()) {
+      compareDualValue(comparisonState.pickDualValueToCompare(), comparisonState);
+    }
+    return comparisonState.differenceFound;
+  }
 
-      // first time we evaluate this dual value, perform the usual recursive comparison from there
-
-      // visited dual values are tracked to avoid cycle
-      if (recursiveComparisonConfiguration.someComparedFieldsHaveBeenSpecified()) {
-        // only track dual values if their field location is a compared field or a child of one that could have cycles,
-        // before we get to a compared field, tracking dual values is wrong, ex: given a person root object with a
-        // neighbour.neighbour field that cycles back to itself, and we compare neighbour.neighbour.name, if we track
-        // visited all dual values, we would not introspect neighbour.neighbour as it was already visited as root.
-        if (recursiveComparisonConfiguration.isOrIsChildOfAnyComparedFields(dualValue.fieldLocation)
-            && dualValue.hasPotentialCyclingValues()) {
-          comparisonState.visitedDualValues.registerVisitedDualValue(dualValue);
-        }
-      } else if (dualValue.hasPotentialCyclingValues()) {
-        comparisonState.visitedDualValues.registerVisitedDualValue(dualValue);
-      }
+  // visited dual values are tracked to avoid cycle
+  private static boolean mustTrackVisitedDualValue(DualValue dualValue,
+                                                   RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    if (recursiveComparisonConfiguration.someComparedFieldsHaveBeenSpecified()) {
+      // only track dual values if their field location is a compared field or a child of one that could have cycles,
+      // before we get to a compared field, tracking dual values is wrong, ex: given a person root object with a
+      // neighbour.neighbour field that cycles back to itself, and we compare neighbour.neighbour.name, if we track
+      // visited all dual values, we would not introspect neighbour.neighbour as it was already visited as root.
+      return recursiveComparisonConfiguration.isOrIsChildOfAnyComparedFields(dualValue.fieldLocation)
+             && dualValue.hasPotentialCyclingValues();
+    }
+    return dualValue.hasPotentialCyclingValues();
+  }
 
-      final Object actualFieldValue = dualValue.actual;
-      final Object expectedFieldValue = dualValue.expected;
+  private static void compareDualValue(final DualValue dualValue, ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    if (comparisonState.statistics != null) comparisonState.statistics.nodeVisited();
+    if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue)) {
+      // keep track of field locations of type to compare, needed to compare child nodes, for example if we want to
+      // only compare the Person type, we must compare the Person fields too even though they are not of type Person
+      recursiveComparisonConfiguration.registerFieldLocationToCompareBecauseOfTypesToCompare(dualValue.fieldLocation);
+    }
 
-      // Custom comparators take precedence over all other types of comparison
-      if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
-        if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
-        // since we used a custom comparator we don't need to inspect the nested fields any further
-        continue;
+    // if we have already visited the dual value, no need to compute the comparison differences again, this also avoid cycles,
+    // tracked dual values are checked and registered at once as other threads may visit them concurrently
+    boolean alreadyVisited = mustTrackVisitedDualValue(dualValue, recursiveComparisonConfiguration)
+        ? !comparisonState.visitedDualValues.registerVisitedDualValue(dualValue)
+        : comparisonState.visitedDualValues.registeredComparisonDifferencesOf(dualValue).isPresent();
+    if (alreadyVisited) {
+      if (comparisonState.statistics != null) comparisonState.statistics.alreadyVisitedNode();
+      if (!comparisonState.visitedDualValues.registeredComparisonDifferencesOf(dualValue).get().isEmpty()) {
+        comparisonState.addDifference(dualValue, "already visited node but now location is: " + dualValue.fieldLocation);
       }
+      return;
+    }
 
-      if (actualFieldValue == expectedFieldValue) continue;
+    // first time we evaluate this dual value, perform the usual recursive comparison from there
 
-      if (actualFieldValue == null || expectedFieldValue == null) {
-        // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
-        comparisonState.addDifference(dualValue);
-        continue;
-      }
+    final Object actualFieldValue = dualValue.actual;
+    final Object expectedFieldValue = dualValue.expected;
 
-      if (dualValue.isExpectedAnEnum()) {
-        compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
-        continue;
-      }
-      if (dualValue.isActualAnEnum()) {
-        compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
-        continue;
-      }
-      // TODO move hasFieldTypesDifference check into each compareXXX
+    // Custom comparators take precedence over all other types of comparison
+    if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
+      if (comparisonState.statistics != null) comparisonState.statistics.customComparatorInvoked();
+      if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
+      // since we used a custom comparator we don't need to inspect the nested fields any further
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnArray()) {
-        compareArrays(dualValue, comparisonState);
-        continue;
-      }
+    if (actualFieldValue == expectedFieldValue) return;
 
-      // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
-      // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
-      if (dualValue.isExpectedFieldAnOrderedCollection()
-          && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
-        compareOrderedCollections(dualValue, comparisonState);
-        continue;
-      }
+    if (actualFieldValue == null || expectedFieldValue == null) {
+      // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
+      comparisonState.addDifference(dualValue);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnIterable()) {
-        compareUnorderedIterables(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedAnEnum()) {
+      compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
+      return;
+    }
+    if (dualValue.isActualAnEnum()) {
+      compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
+      return;
+    }
+    // TODO move hasFieldTypesDifference check into each compareXXX
 
-      if (dualValue.isExpectedFieldAnOptional()) {
-        compareOptional(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnArray()) {
+      compareArrays(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
-      if (dualValue.isExpectedFieldASortedMap()) {
-        compareSortedMap(dualValue, comparisonState);
-        continue;
-      }
+    // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
+    // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
+    if (dualValue.isExpectedFieldAnOrderedCollection()
+        && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
+      compareOrderedCollections(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
-      // temporary Map must be created, however the comparison still runs in O(N) time.
-      if (dualValue.isExpectedFieldAMap()) {
-        compareUnorderedMap(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnIterable()) {
+      compareUnorderedIterables(dualValue, comparisonState);
+      return;
+    }
 
-      // compare Atomic types by value manually as they are container type and we can't use introspection in java 17+
-      if (dualValue.isExpectedFieldAnAtomicBoolean()) {
-        compareAtomicBoolean(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicInteger()) {
-        compareAtomicInteger(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicIntegerArray()) {
-        compareAtomicIntegerArray(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicLong()) {
-        compareAtomicLong(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicLongArray()) {
-        compareAtomicLongArray(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicReference()) {
-        compareAtomicReference(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicReferenceArray()) {
-        compareAtomicReferenceArray(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnOptional()) {
+      compareOptional(dualValue, comparisonState);
+      return;
+    }
 
-      boolean shouldHonorJavaTypeEquals = shouldHonorJavaTypeEquals(dualValue);
-      if (shouldHonorJavaTypeEquals || shouldHonorOverriddenEquals(dualValue, recursiveComparisonConfiguration)) {
-        if (!actualFieldValue.equals(expectedFieldValue)) {
-          String description = shouldHonorJavaTypeEquals
-              ? "Compared objects have java types and were thus compared with equals method"
-              : "Compared objects were compared with equals method";
-          comparisonState.addDifference(dualValue, description);
-        }
-        continue;
-      }
+    // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
+    if (dualValue.isExpectedFieldASortedMap()) {
+      compareSortedMap(dualValue, comparisonState);
+      return;
+    }
+
+    // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
+    // temporary Map must be created, however the comparison still runs in O(N) time.
+    if (dualValue.isExpectedFieldAMap()) {
+      compareUnorderedMap(dualValue, comparisonState);
+      return;
+    }
+
+    // compare Atomic types by value manually as they are container type and we can't use introspection in java 17+
+    if (dualValue.isExpectedFieldAnAtomicBoolean()) {
+      compareAtomicBoolean(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicInteger()) {
+      compareAtomicInteger(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicIntegerArray()) {
+      compareAtomicIntegerArray(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicLong()) {
+      compareAtomicLong(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicLongArray()) {
+      compareAtomicLongArray(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicReference()) {
+      compareAtomicReference(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicReferenceArray()) {
+      compareAtomicReferenceArray(dualValue, comparisonState);
+      return;
+    }
 
-      Class<?> actualFieldValueClass = actualFieldValue.getClass();
-      Class<?> expectedFieldClass = expectedFieldValue.getClass();
-      if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
-        comparisonState.addDifference(dualValue,
-                                      STRICT_TYPE_ERROR.formatted(expectedFieldClass.getName(), actualFieldValueClass.getName()));
-        continue;
+    boolean shouldHonorJavaTypeEquals = shouldHonorJavaTypeEquals(dualValue);
+    if (shouldHonorJavaTypeEquals || shouldHonorOverriddenEquals(dualValue, recursiveComparisonConfiguration)) {
+      if (!actualFieldValue.equals(expectedFieldValue)) {
+        String description = shouldHonorJavaTypeEquals
+            ? "Compared objects have java types and were thus compared with equals method"
+            : "Compared objects were compared with equals method";
+        comparisonState.addDifference(dualValue, description);
       }
+      return;
+    }
 
-      Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue);
-      Set<String> expectedChildrenNodesNames = recursiveComparisonConfiguration.getChildrenNodeNamesOf(expectedFieldValue);
-      // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
-
-      // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
-      if (!expectedChildrenNodesNames.containsAll(actualChildrenNodeNamesToCompare)) {
-        // report missing nodes in actual
-        Set<String> actualNodesNamesNotInExpected = newHashSet(actualChildrenNodeNamesToCompare);
-        actualNodesNamesNotInExpected.removeAll(expectedChildrenNodesNames);
-        String missingNodes = actualNodesNamesNotInExpected.toString();
-        String expectedClassName = expectedFieldClass.getName();
-        String actualClassName = actualFieldValueClass.getName();
-        String missingNodesDescription = MISSING_FIELDS.formatted(actualClassName, expectedClassName,
-                                                                  expectedFieldClass.getSimpleName(),
-                                                                  actualFieldValueClass.getSimpleName(),
-                                                                  missingNodes);
-        comparisonState.addDifference(dualValue, missingNodesDescription);
-      } else { // TODO remove else to report more diff
-        // compare actual's children nodes against expected:
-        // - if actual has more nodes than expected, the additional nodes are ignored as expected is the reference
-        for (String actualChildNodeName : actualChildrenNodeNamesToCompare) {
-          if (expectedChildrenNodesNames.contains(actualChildNodeName)) {
-            Object actualChildNodeValue = recursiveComparisonConfiguration.getValue(actualChildNodeName, actualFieldValue);
-            Object expectedChildNodeValue = recursiveComparisonConfiguration.getValue(actualChildNodeName, expectedFieldValue);
-            DualValue newDualValue = new DualValue(dualValue.fieldLocation.field(actualChildNodeName),
-                                                   actualChildNodeValue, expectedChildNodeValue);
-            comparisonState.registerForComparison(newDualValue);
-          }
+    Class<?> actualFieldValueClass = actualFieldValue.getClass();
+    Class<?> expectedFieldClass = expectedFieldValue.getClass();
+    if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
+      comparisonState.addDifference(dualValue,
+                                    STRICT_TYPE_ERROR.formatted(expectedFieldClass.getName(), actualFieldValueClass.getName()));
+      return;
+    }
+
+    Map<String, DualValue> actualChildrenNodesToCompare = recursiveComparisonConfiguration.getActualChildrenNodesToCompare(dualValue);
+    Set<String> actualChildrenNodeNamesToCompare = actualChildrenNodesToCompare.keySet();
+    Set<String> expectedChildrenNodesNames = recursiveComparisonConfiguration.getChildrenNodeNamesOf(expectedFieldValue);
+    // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
+
+    // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
+    if (!expectedChildrenNodesNames.containsAll(actualChildrenNodeNamesToCompare)) {
+      // report missing nodes in actual
+      Set<String> actualNodesNamesNotInExpected = newHashSet(actualChildrenNodeNamesToCompare);
+      actualNodesNamesNotInExpected.removeAll(expectedChildrenNodesNames);
+      String missingNodes = actualNodesNamesNotInExpected.toString();
+      String expectedClassName = expectedFieldClass.getName();
+      String actualClassName = actualFieldValueClass.getName();
+      String missingNodesDescription = MISSING_FIELDS.formatted(actualClassName, expectedClassName,
+                                                                expectedFieldClass.getSimpleName(),
+                                                                actualFieldValueClass.getSimpleName(),
+                                                                missingNodes);
+      comparisonState.addDifference(dualValue, missingNodesDescription);
+    } else { // TODO remove else to report more diff
+      // compare actual's children nodes against expected:
+      // - if actual has more nodes than expected, the additional nodes are ignored as expected is the reference
+      for (Entry<String, DualValue> actualChildNode : actualChildrenNodesToCompare.entrySet()) {
+        if (expectedChildrenNodesNames.contains(actualChildNode.getKey())) {
+          comparisonState.registerForComparison(childNodeDualValue(dualValue, actualChildNode, recursiveComparisonConfiguration));
         }
       }
     }
-    return comparisonState.getDifferences();
+  }
+
+  // reuses the child node DualValue built when evaluating whether to compare it so that its values are only read once
+  private static DualValue childNodeDualValue(DualValue dualValue, Entry<String, DualValue> childNode,
+                                              RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    if (childNode.getValue() != null) return childNode.getValue();
+    String childNodeName = childNode.getKey();
+    Object actualChildNodeValue = recursiveComparisonConfiguration.getValue(childNodeName, dualValue.actual);
+    Object expectedChildNodeValue = recursiveComparisonConfiguration.getValue(childNodeName, dualValue.expected);
+    return new DualValue(dualValue.fieldLocation.field(childNodeName), actualChildNodeValue, expectedChildNodeValue);
   }
 
   // avoid comparing enum recursively since they contain static fields which are ignored in recursive comparison
@@ -560,33 +720,40 @@ public class RecursiveComparisonDifferenceCalculator {
       // no need to inspect elements, iterables are not equal as they don't have the same size
       return;
     }
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    // speed up comparison by selecting first the actual elements with the same fingerprint as the expected one, the
+    // fingerprint takes into account the comparison configuration but it is only a heuristic, worst case we compare all
+    // actual elements. The children values read to fingerprint the elements are kept to compare them afterwards.
+    ChildNodeValuesCache childNodeValues = new ChildNodeValuesCache(recursiveComparisonConfiguration);
+    Map<Integer, List<Object>> actualElementsGroupedByFingerprint = new HashMap<>();
+    for (Object actualElement : actual) {
+      int actualFingerprint = fingerprintOf(actualElement, dualValue.fieldLocation, recursiveComparisonConfiguration,
+                                            childNodeValues);
+      actualElementsGroupedByFingerprint.computeIfAbsent(actualFingerprint, fingerprint -> new ArrayList<>()).add(actualElement);
+    }
     List<Object> expectedElementsNotFound = list();
     for (Object expectedElement : expected) {
-      boolean expectedElementMatched = false;
-      // speed up comparison by selecting actual elements matching expected hash code, note that the hash code might not be
-      // relevant if fields used to compute it are ignored in the recursive comparison, it's a good heuristic though to check
-      // the first actual elements that could match the expected one, worst case we compare all actual elements.
-      // actualElementsGroupedByHashCode must be initialized for each expectedElement, as we remove elements from its
-      // entries when a match with expectedElement is found, the next expectedElement comparison is done on a smaller
-      // set of entries which leads to incorrect results.
-      Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode = actualElementsGroupedByHashCode(actual);
-      Integer expectedHash = Objects.hashCode(expectedElement);
-      List<?> actualHashBucket = actualElementsGroupedByHashCode.get(expectedHash);
-      if (actualHashBucket != null) {
-        Iterator<?> actualIterator = actualHashBucket.iterator();
-        expectedElementMatched = searchExpectedElementIn(actualIterator, expectedElement, dualValue, comparisonState);
-      }
-      // It may be that expectedElement matches an actual element in a different hash bucket, to account for this, we check the
-      // other actual elements for matches. This may result in O(n^2) complexity in the worst case.
+      Integer expectedFingerprint = fingerprintOf(expectedElement, dualValue.fieldLocation, recursiveComparisonConfiguration,
+                                                  childNodeValues);
+      List<Object> actualFingerprintBucket = actualElementsGroupedByFingerprint.get(expectedFingerprint);
+      boolean expectedElementMatched = actualFingerprintBucket != null
+                                       && searchExpectedElementIn(actualFingerprintBucket, expectedElement, dualValue,
+                                                                  comparisonState, childNodeValues, false);
+      // It may be that expectedElement matches an actual element with a different fingerprint, to account for this, we check
+      // the other actual elements for matches. This may result in O(n^2) complexity in the worst case.
       if (!expectedElementMatched) {
-        for (Entry<Integer, ? extends List<?>> actualElementsEntry : actualElementsGroupedByHashCode.entrySet()) {
+        for (Entry<Integer, List<Object>> actualElementsEntry : actualElementsGroupedByFingerprint.entrySet()) {
           // avoid checking the same bucket twice
-          if (actualElementsEntry.getKey().equals(expectedHash)) continue;
-          Iterator<?> actualElementsIterator = actualElementsEntry.getValue().iterator();
-          expectedElementMatched = searchExpectedElementIn(actualElementsIterator, expectedElement, dualValue, comparisonState);
+          if (actualElementsEntry.getKey().equals(expectedFingerprint)) continue;
+          expectedElementMatched = searchExpectedElementIn(actualElementsEntry.getValue(), expectedElement, dualValue,
+                                                           comparisonState, childNodeValues, true);
           if (expectedElementMatched) break;
         }
-        if (!expectedElementMatched) expectedElementsNotFound.add(expectedElement);
+        if (!expectedElementMatched) {
+          expectedElementsNotFound.add(expectedElement);
+          // no need to look for the other expected elements, we already know the iterables are different
+          if (comparisonState.stopAtFirstDifference) break;
+        }
       }
     }
     if (!expectedElementsNotFound.isEmpty()) {
@@ -600,24 +767,55 @@ public class RecursiveComparisonDifferenceCalculator {
     }
   }
 
-  private static Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode(Iterable<?> actual) {
-    return stream(actual.spliterator(), false).collect(groupingBy(Objects::hashCode, toList()));
+  /**
+   * Computes a fingerprint of an unordered collection element, elements that would be compared with equals or a comparator
+   * are fingerprinted by their hash code, the other elements by the hash codes of their children compared with equals
+   * (ignored children or children compared with a comparator are not taken into account).
+   * <p>
+   * Elements matching each other are likely to have the same fingerprint but this is not guaranteed, for example when
+   * ignoring actual null fields, the fingerprint is thus only used to select the first elements to compare.
+   */
+  private static int fingerprintOf(Object element, FieldLocation elementLocation,
+                                   RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                   ChildNodeValuesCache childNodeValues) {
+    DualValue elementDualValue = new DualValue(elementLocation, element, element);
+    if (element == null
+        || !elementDualValue.hasNoContainerValues()
+        || recursiveComparisonConfiguration.hasCustomComparator(elementDualValue)
+        || shouldHonorEquals(elementDualValue, recursiveComparisonConfiguration)) {
+      return Objects.hashCode(element);
+    }
+    int fingerprint = 0;
+    for (String childNodeName : recursiveComparisonConfiguration.getChildrenNodeNamesOf(element)) {
+      FieldLocation childNodeLocation = elementLocation.field(childNodeName);
+      // like the comparison, don't read the values of the children ignored by location
+      if (recursiveComparisonConfiguration.shouldIgnoreFieldBasedOnFieldLocation(childNodeLocation)) continue;
+      Object childNodeValue = childNodeValues.getValue(childNodeName, element);
+      DualValue childDualValue = new DualValue(childNodeLocation, childNodeValue, childNodeValue);
+      if (childNodeValue != null
+          && shouldHonorJavaTypeEquals(childDualValue)
+          && !recursiveComparisonConfiguration.hasCustomComparator(childDualValue)
+          && !recursiveComparisonConfiguration.shouldIgnore(childDualValue)
+          && recursiveComparisonConfiguration.shouldBeCompared(childDualValue)) {
+        // children are not ordered, combine their hash codes with a commutative operation
+        fingerprint += 31 * childNodeName.hashCode() ^ childNodeValue.hashCode();
+      }
+    }
+    return fingerprint;
   }
 
-  private static boolean searchExpectedElementIn(Iterator<?> actualIterator, Object expectedElement,
-                                                 DualValue dualValue, ComparisonState comparisonState) {
-    while (actualIterator.hasNext()) {
-      Object actualElement = actualIterator.next();
+  private static boolean searchExpectedElementIn(List<Object> actualElements, Object expectedElement,
+                                                 DualValue dualValue, ComparisonState comparisonState,
+                                                 ChildNodeValuesCache childNodeValues, boolean fallbackSearch) {
+    for (Object actualElement : actualElements) {
+      if (fallbackSearch && comparisonState.statistics != null) comparisonState.statistics.unorderedCollectionFallbackComparison();
       // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
-      List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement,
-                                                                    dualValue.fieldLocation,
-                                                                    comparisonState.visitedDualValues,
-                                                                    comparisonState.recursiveComparisonConfiguration);
-      if (differences.isEmpty()) {
-        // found an element in actual matching expectedElement, remove it as it can't be used to match other expected elements
-        actualIterator.remove();
-        return true;
-      }
+      // the differences are not reported, we only need to know if the elements match.
+      boolean hasDifferences = hasDifferences(actualElement, expectedElement, dualValue.fieldLocation,
+                                              comparisonState.visitedDualValues,
+                                              comparisonState.recursiveComparisonConfiguration, childNodeValues::getValue);
+      // found an element in actual matching expectedElement
+      if (!hasDifferences) return true;
     }
     return false;
   }
@@ -0,0 +1,211 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Statistics collected by the recursive comparisons performed with a {@link RecursiveComparisonConfiguration}, they help
+ * understanding why a recursive comparison is slow, for example an introspection strategy that is slow for some class, or
+ * unordered collections whose elements are mostly compared one against the other.
+ * <p>
+ * The statistics are collected only if they have been set in the configuration, see
+ * {@link RecursiveComparisonConfiguration#setStatistics(RecursiveComparisonStatistics)}; they are accumulated over all the
+ * comparisons performed with the configuration and can be collected by several threads (see parallelism).
+ * <p>
+ * Example:
+ * <pre><code class='java'> RecursiveComparisonStatistics statistics = new RecursiveComparisonStatistics();
+ *
+ * assertThat(actual).usingRecursiveComparison()
+ *                   .collectingStatisticsIn(statistics)
+ *                   .isEqualTo(expected);
+ *
+ * System.out.println(statistics.multiLineDescription());</code></pre>
+ *
+ * @since 4.0.0
+ */
+public final class RecursiveComparisonStatistics {
+
+  private final LongAdder visitedNodes = new LongAdder();
+  private final LongAdder alreadyVisitedNodes = new LongAdder();
+  private final LongAdder customComparatorInvocations = new LongAdder();
+  private final LongAdder unorderedCollectionFallbackComparisons = new LongAdder();
+  private final LongAccumulator maxNodesToCompare = new LongAccumulator(Math::max, 0);
+  private final Map<Class<?>, IntrospectionStatistics> introspectionStatisticsPerClass = new ConcurrentHashMap<>();
+
+  void nodeVisited() {
+    visitedNodes.increment();
+  }
+
+  void alreadyVisitedNode() {
+    alreadyVisitedNodes.increment();
+  }
+
+  void customComparatorInvoked() {
+    customComparatorInvocations.increment();
+  }
+
+  void unorderedCollectionFallbackComparison() {
+    unorderedCollectionFallbackComparisons.increment();
+  }
+
+  void nodesToCompare(int count) {
+    maxNodesToCompare.accumulate(count);
+  }
+
+  void introspected(Class<?> introspectedClass, long durationInNanos) {
+    introspectionStatisticsPerClass.computeIfAbsent(introspectedClass, key -> new IntrospectionStatistics())
+                                   .record(durationInNanos);
+  }
+
+  /**
+   * Returns the number of compared nodes, a node being a pair of actual and expected values at a given location.
+   *
+   * @return the number of compared nodes.
+   */
+  public long getVisitedNodes() {
+    return visitedNodes.sum();
+  }
+
+  /**
+   * Returns the number of compared nodes whose values had already been compared, their comparison result is then reused
+   * (this is also how cycles are detected).
+   *
+   * @return the number of compared nodes whose values had already been compared.
+   */
+  public long getAlreadyVisitedNodes() {
+    return alreadyVisitedNodes.sum();
+  }
+
+  /**
+   * Returns the number of nodes compared with a registered field or type comparator.
+   *
+   * @return the number of nodes compared with a registered comparator.
+   */
+  public long getCustomComparatorInvocations() {
+    return customComparatorInvocations.sum();
+  }
+
+  /**
+   * Returns the number of comparisons of unordered collections elements performed because an expected element was not
+   * matched by any of the actual elements selected first (the ones having the same fingerprint), a high number means the
+   * unordered collections comparisons are close to comparing every element against every other element.
+   *
+   * @return the number of unordered collections elements compared after the elements selected first.
+   */
+  public long getUnorderedCollectionFallbackComparisons() {
+    return unorderedCollectionFallbackComparisons.sum();
+  }
+
+  /**
+   * Returns the maximum number of nodes waiting to be compared, which grows with the width and the depth of the compared
+   * graphs.
+   *
+   * @return the maximum number of nodes waiting to be compared.
+   */
+  public long getMaxNodesToCompare() {
+    return maxNodesToCompare.get();
+  }
+
+  /**
+   * Returns the number of introspection calls (to get the children nodes names or values of an object) per introspected
+   * class.
+   *
+   * @return the number of introspection calls per introspected class.
+   */
+  public Map<Class<?>, Long> getIntrospectionCallsPerClass() {
+    return introspectionStatisticsPer(IntrospectionStatistics::calls);
+  }
+
+  /**
+   * Returns the time spent introspecting objects (to get their children nodes names or values) per introspected class.
+   *
+   * @return the time spent introspecting objects per introspected class.
+   */
+  public Map<Class<?>, Duration> getIntrospectionDurationPerClass() {
+    return introspectionStatisticsPer(introspectionStatistics -> Duration.ofNanos(introspectionStatistics.durationInNanos()));
+  }
+
+  private <T> Map<Class<?>, T> introspectionStatisticsPer(Function<IntrospectionStatistics, T> statistic) {
+    Map<Class<?>, T> statisticPerClass = new LinkedHashMap<>();
+    introspectionStatisticsPerClass.forEach((introspectedClass, statistics) -> statisticPerClass.put(introspectedClass,
+                                                                                                     statistic.apply(statistics)));
+    return Collections.unmodifiableMap(statisticPerClass);
+  }
+
+  /**
+   * Returns a description of the statistics, the introspected classes are listed from the most to the least time
+   * consuming to introspect.
+   *
+   * @return a description of the statistics.
+   */
+  public String multiLineDescription() {
+    StringBuilder description = new StringBuilder();
+    description.append("- compared nodes: %s (already compared: %s)%n".formatted(getVisitedNodes(), getAlreadyVisitedNodes()));
+    description.append("- maximum number of nodes waiting to be compared: %s%n".formatted(getMaxNodesToCompare()));
+    description.append("- custom comparator invocations: %s%n".formatted(getCustomComparatorInvocations()));
+    description.append("- unordered collections elements compared after the ones with the same fingerprint: %s%n".formatted(getUnorderedCollectionFallbackComparisons()));
+    if (!introspectionStatisticsPerClass.isEmpty()) {
+      description.append("- introspection calls per class (from the most to the least time consuming):%n".formatted());
+      introspectionStatisticsPerClass.entrySet().stream()
+                                     .sorted(comparingLong(RecursiveComparisonStatistics::introspectionDurationInNanos).reversed())
+                                     .forEach(entry -> description.append(describeIntrospectionStatistics(entry)));
+    }
+    return description.toString();
+  }
+
+  private static long introspectionDurationInNanos(Entry<Class<?>, IntrospectionStatistics> introspectionStatistics) {
+    return introspectionStatistics.getValue().durationInNanos();
+  }
+
+  private static String describeIntrospectionStatistics(Entry<Class<?>, IntrospectionStatistics> introspectionStatistics) {
+    return "  - %s: %s calls in %s ms%n".formatted(introspectionStatistics.getKey().getName(),
+                                                  introspectionStatistics.getValue().calls(),
+                                                  NANOSECONDS.toMillis(introspectionStatistics.getValue().durationInNanos()));
+  }
+
+  @Override
+  public String toString() {
+    return multiLineDescription();
+  }
+
+  private static final class IntrospectionStatistics {
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder durationInNanos = new LongAdder();
+
+    void record(long duration) {
+      calls.increment();
+      durationInNanos.add(duration);
+    }
+
+    long calls() {
+      return calls.sum();
+    }
+
+    long durationInNanos() {
+      return durationInNanos.sum();
+    }
+  }
+
+}
@@ -12,50 +12,87 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static java.lang.System.identityHashCode;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 class VisitedDualValues {
 
-  private final List<VisitedDualValue> dualValues;
+  // visited dual values are indexed by their actual and expected references (agnostic of location) to make lookups O(1),
+  // only the first registration of given values is kept, later ones would map to the same differences anyway.
+  private final Map<VisitedValues, List<ComparisonDifference>> dualValues;
+  private final Supplier<List<ComparisonDifference>> comparisonDifferencesSupplier;
 
   VisitedDualValues() {
-    this.dualValues = new ArrayList<>();
+    this(new HashMap<>(), ArrayList::new);
+  }
+
+  private VisitedDualValues(Map<VisitedValues, List<ComparisonDifference>> dualValues,
+                            Supplier<List<ComparisonDifference>> comparisonDifferencesSupplier) {
+    this.dualValues = dualValues;
+    this.comparisonDifferencesSupplier = comparisonDifferencesSupplier;
   }
 
-  void registerVisitedDualValue(DualValue dualValue) {
-    this.dualValues.add(new VisitedDualValue(dualValue));
+  // used when the recursive comparison is performed by several threads
+  static VisitedDualValues concurrentVisitedDualValues() {
+    return new VisitedDualValues(new ConcurrentHashMap<>(), () -> Collections.synchronizedList(new ArrayList<>()));
+  }
+
+  // returns whether the dual values were registered, i.e. whether they were not already visited, the check and the
+  // registration are atomic so that concurrent visits of the same dual values are compared once
+  boolean registerVisitedDualValue(DualValue dualValue) {
+    VisitedValues visitedValues = new VisitedValues(dualValue);
+    if (this.dualValues.containsKey(visitedValues)) return false;
+    return this.dualValues.putIfAbsent(visitedValues, comparisonDifferencesSupplier.get()) == null;
   }
 
   void registerComparisonDifference(DualValue dualValue, ComparisonDifference comparisonDifference) {
-    this.dualValues.stream()
-                   // register difference on dual values agnostic of location, to take care of values visited several times
-                   .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                   .findFirst()
-                   .ifPresent(visitedDualValue -> visitedDualValue.comparisonDifferences.add(comparisonDifference));
+    // register difference on dual values agnostic of location, to take care of values visited several times
+    List<ComparisonDifference> comparisonDifferences = this.dualValues.get(new VisitedValues(dualValue));
+    if (comparisonDifferences != null) comparisonDifferences.add(comparisonDifference);
   }
 
   Optional<List<ComparisonDifference>> registeredComparisonDifferencesOf(DualValue dualValue) {
-    return this.dualValues.stream()
-                          // use sameValues to get already visited dual values with different location
-                          .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                          .findFirst()
-                          .map(visitedDualValue -> visitedDualValue.comparisonDifferences);
+    // use the values references only to get already visited dual values with different location
+    return Optional.ofNullable(this.dualValues.get(new VisitedValues(dualValue)));
   }
 
-  private static class VisitedDualValue {
-    DualValue dualValue;
-    List<ComparisonDifference> comparisonDifferences;
+  /**
+   * Key matching dual values referencing the same actual and expected values, see {@link DualValue#sameValues(DualValue)}.
+   */
+  private static final class VisitedValues {
+    private final Object actual;
+    private final Object expected;
+    private final int hashCode;
 
-    VisitedDualValue(DualValue dualValue) {
-      this.dualValue = dualValue;
-      this.comparisonDifferences = new ArrayList<>();
+    VisitedValues(DualValue dualValue) {
+      this.actual = dualValue.actual;
+      this.expected = dualValue.expected;
+      this.hashCode = 31 * identityHashCode(actual) + identityHashCode(expected);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof VisitedValues)) return false;
+      VisitedValues that = (VisitedValues) other;
+      return actual == that.actual && expected == that.expected;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
     }
 
     @Override
     public String toString() {
-      return "VisitedDualValue[dualValue=%s, comparisonDifferences=%s]".formatted(this.dualValue, this.comparisonDifferences);
+      return "VisitedValues[actual=%s, expected=%s]".formatted(actual, expected);
     }
   }
 }
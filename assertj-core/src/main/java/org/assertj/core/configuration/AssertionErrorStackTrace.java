@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.configuration;
+
+/**
+ * The stack trace given to the {@link AssertionError}s of soft assertions and assumptions, see
+ * {@link Configuration#setSoftAssertionsAndAssumptionsStackTrace(AssertionErrorStackTrace)}.
+ *
+ * @since 4.0.0
+ */
+public enum AssertionErrorStackTrace {
+
+  /**
+   * The full stack trace, without the AssertJ elements if
+   * {@link Configuration#removeAssertJRelatedElementsFromStackTraceEnabled()} is true.
+   */
+  FULL,
+  /**
+   * The first {@value #TRUNCATED_STACK_TRACE_MAX_ELEMENTS} elements of the code calling AssertJ, only these elements
+   * are looked up. The line of the failing soft assertions is still added to their message.
+   */
+  TRUNCATED,
+  /**
+   * No stack trace at all, the cheapest option. The line of the failing soft assertions is not added to their message.
+   */
+  NONE;
+
+  /**
+   * The maximum number of elements of a {@link #TRUNCATED} stack trace.
+   */
+  public static final int TRUNCATED_STACK_TRACE_MAX_ELEMENTS = 10;
+
+}
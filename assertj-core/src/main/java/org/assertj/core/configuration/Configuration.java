@@ -26,6 +26,7 @@ import org.assertj.core.api.AbstractDateAssert;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Assumptions;
 import org.assertj.core.description.Description;
+import org.assertj.core.internal.Failures;
 import org.assertj.core.presentation.Representation;
 
 /**
@@ -47,6 +48,7 @@ public class Configuration {
   public static final boolean PRINT_ASSERTIONS_DESCRIPTION_ENABLED = false;
   public static final int MAX_STACKTRACE_ELEMENTS_DISPLAYED = 3;
   public static final PreferredAssumptionException PREFERRED_ASSUMPTION_EXCEPTION = PreferredAssumptionException.AUTO_DETECT;
+  public static final AssertionErrorStackTrace SOFT_ASSERTIONS_AND_ASSUMPTIONS_STACK_TRACE = AssertionErrorStackTrace.FULL;
 
   // load default configuration after default values are initialized otherwise PREFERRED_ASSUMPTION_EXCEPTION is null
   public static final Configuration DEFAULT_CONFIGURATION = new Configuration();
@@ -63,6 +65,7 @@ public class Configuration {
   private Consumer<Description> descriptionConsumer;
   private int maxStackTraceElementsDisplayed;
   private PreferredAssumptionException preferredAssumptionException;
+  private AssertionErrorStackTrace softAssertionsAndAssumptionsStackTrace;
 
   public Configuration() {
     setDefaults();
@@ -84,6 +87,7 @@ public class Configuration {
     descriptionConsumer = null;
     maxStackTraceElementsDisplayed = MAX_STACKTRACE_ELEMENTS_DISPLAYED;
     preferredAssumptionException = PREFERRED_ASSUMPTION_EXCEPTION;
+    softAssertionsAndAssumptionsStackTrace = SOFT_ASSERTIONS_AND_ASSUMPTIONS_STACK_TRACE;
   }
 
   /**
@@ -374,6 +378,36 @@ public class Configuration {
     this.preferredAssumptionException = preferredAssumptionException;
   }
 
+  /**
+   * Returns the stack trace given to the errors of soft assertions and assumptions.
+   * <p>
+   * See {@link #setSoftAssertionsAndAssumptionsStackTrace(AssertionErrorStackTrace)} for a detailed description.
+   *
+   * @return the stack trace given to the errors of soft assertions and assumptions.
+   * @since 4.0.0
+   */
+  public AssertionErrorStackTrace softAssertionsAndAssumptionsStackTrace() {
+    return softAssertionsAndAssumptionsStackTrace;
+  }
+
+  /**
+   * Sets the stack trace given to the errors of soft assertions and assumptions, default is
+   * {@link AssertionErrorStackTrace#FULL FULL}.
+   * <p>
+   * Soft assertions can collect thousands of errors and the errors of assumptions are only the cause of the exception
+   * aborting the test, looking up the full stack trace of each of these errors is most of the cost of a failure when the
+   * tests run deep in a test framework. {@link AssertionErrorStackTrace#TRUNCATED TRUNCATED} only looks up the first
+   * elements of the code calling AssertJ, {@link AssertionErrorStackTrace#NONE NONE} does not give any stack trace.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param softAssertionsAndAssumptionsStackTrace the stack trace given to the errors of soft assertions and assumptions.
+   * @since 4.0.0
+   */
+  public void setSoftAssertionsAndAssumptionsStackTrace(AssertionErrorStackTrace softAssertionsAndAssumptionsStackTrace) {
+    this.softAssertionsAndAssumptionsStackTrace = softAssertionsAndAssumptionsStackTrace;
+  }
+
   /**
    * Applies this configuration to AssertJ.
    */
@@ -394,6 +428,7 @@ public class Configuration {
     AbstractDateAssert.useDefaultDateFormatsOnly();
     additionalDateFormats().forEach(Assertions::registerCustomDateFormat);
     Assumptions.setPreferredAssumptionException(preferredAssumptionException());
+    Failures.instance().setSoftAssertionsAndAssumptionsStackTrace(softAssertionsAndAssumptionsStackTrace());
   }
 
   /**
@@ -418,7 +453,8 @@ public class Configuration {
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n" +
-                  "- preferredAssumptionException .................... = %s%n",
+                  "- preferredAssumptionException .................... = %s%n" +
+                  "- softAssertionsAndAssumptionsStackTrace .......... = %s%n",
                   getClass().getName(),
                   representation(),
                   comparingPrivateFieldsEnabled(),
@@ -432,7 +468,8 @@ public class Configuration {
                   printAssertionsDescription(),
                   descriptionConsumer(),
                   removeAssertJRelatedElementsFromStackTraceEnabled(),
-                  preferredAssumptionException());
+                  preferredAssumptionException(),
+                  softAssertionsAndAssumptionsStackTrace());
   }
 
   private String describeAdditionalDateFormats() {
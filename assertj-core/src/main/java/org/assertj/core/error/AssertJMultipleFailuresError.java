@@ -44,6 +44,10 @@ public class AssertJMultipleFailuresError extends MultipleFailuresError {
 
     if (failureCount == 0) return super.getMessage();
 
+    for (Throwable failure : failures) {
+      // the summary of the errors not rendered counts as the errors it stands for
+      if (failure instanceof UnrenderedAssertionErrorsSummary summary) failureCount += summary.getUnrenderedErrors() - 1;
+    }
     heading = isBlank(heading) ? "Multiple Failures" : heading.trim();
     StringBuilder builder = new StringBuilder(EOL).append(heading)
                                                   .append(" (")
@@ -51,7 +55,11 @@ public class AssertJMultipleFailuresError extends MultipleFailuresError {
                                                   .append(pluralize(failureCount, "failure", "failures"))
                                                   .append(")");
     List<Throwable> failuresWithLineNumbers = addLineNumberToErrorMessages(failures);
-    for (int i = 0; i < failureCount; i++) {
+    for (int i = 0; i < failures.size(); i++) {
+      if (failures.get(i) instanceof UnrenderedAssertionErrorsSummary summary) {
+        builder.append(summary.getMessage());
+        continue;
+      }
       builder.append(errorSeparator(i + 1));
       String message = nullSafeMessage(failuresWithLineNumbers.get(i));
       // when we have a description, we add a line before for readability
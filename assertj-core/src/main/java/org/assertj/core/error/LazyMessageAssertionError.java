@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.util.function.Supplier;
+
+/**
+ * An {@link AssertionError} whose message is rendered the first time it is requested, soft assertions collecting many
+ * errors use it to avoid rendering messages nobody reads (see
+ * {@link org.assertj.core.api.DefaultAssertionErrorCollector#setMaxRenderedErrors(int)}).
+ * <p>
+ * The message describes the state of the objects under test when it is rendered, not when the assertion failed.
+ *
+ * @since 4.0.0
+ */
+public class LazyMessageAssertionError extends AssertionError {
+
+  @Serial
+  private static final long serialVersionUID = 2466236207624474413L;
+
+  // not serialized, the message is rendered before serializing the error
+  private transient volatile Supplier<String> messageSupplier;
+  private volatile String message;
+
+  /**
+   * Creates a new {@link LazyMessageAssertionError} whose message is given by the given supplier the first time it is
+   * requested.
+   *
+   * @param messageSupplier supplies the error message.
+   */
+  public LazyMessageAssertionError(Supplier<String> messageSupplier) {
+    this.messageSupplier = requireNonNull(messageSupplier, "The message supplier should not be null");
+  }
+
+  /**
+   * Creates a new {@link LazyMessageAssertionError} with an already rendered message, used to copy an error with a
+   * modified message.
+   *
+   * @param message the error message.
+   * @param cause the cause of the error.
+   */
+  public LazyMessageAssertionError(String message, Throwable cause) {
+    super(message, cause);
+    this.message = message;
+  }
+
+  /**
+   * Returns whether the error message has been rendered.
+   *
+   * @return whether the error message has been rendered.
+   */
+  public boolean isMessageRendered() {
+    return message != null || messageSupplier == null;
+  }
+
+  @Override
+  public String getMessage() {
+    String renderedMessage = message;
+    if (renderedMessage != null) return renderedMessage;
+    Supplier<String> supplier = messageSupplier;
+    // the supplier is released after the message is set, a concurrent call may have rendered it since it was read
+    if (supplier == null) return message;
+    // the message may be rendered twice by concurrent calls, both renderings give the same message
+    renderedMessage = supplier.get();
+    message = renderedMessage;
+    messageSupplier = null;
+    return renderedMessage;
+  }
+
+  @Serial
+  private Object writeReplace() {
+    getMessage();
+    return this;
+  }
+
+}
@@ -50,6 +50,12 @@ public class ShouldBeEqualByComparingFieldByFieldRecursively extends BasicErrorM
                                                     .map(difference -> difference.multiLineDescription(representation))
                                                     .collect(toList())).with("%n%n".formatted());
     String recursiveComparisonConfigurationDescription = recursiveComparisonConfiguration.multiLineDescription(representation);
+    if (recursiveComparisonConfiguration.isReportingStatisticsOnFailure()) {
+      recursiveComparisonConfigurationDescription += recursiveComparisonConfiguration.getStatistics()
+                                                                                     .map(statistics -> "%nThe recursive comparison statistics were:%n".formatted()
+                                                                                                        + statistics.multiLineDescription())
+                                                                                     .orElse("");
+    }
     String differencesCount = differences.size() == 1 ? "difference:%n" : "%s differences:%n";
     // @format:off
     return new ShouldBeEqualByComparingFieldByFieldRecursively("%n" +
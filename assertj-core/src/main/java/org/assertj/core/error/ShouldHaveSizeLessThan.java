@@ -33,6 +33,17 @@ public class ShouldHaveSizeLessThan extends BasicErrorMessageFactory {
     return new ShouldHaveSizeLessThan(actual, actualSize, expectedMaxSize);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveSizeLessThan}</code> when {@code actual} elements are read one by one, they are not
+   * read anymore once the expected size is reached so that the actual size is unknown.
+   * @param actual the elements of {@code actual} read in the failed assertion.
+   * @param expectedMaxSize the expected size.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSizeLessThan(Object actual, int expectedMaxSize) {
+    return new ShouldHaveSizeLessThan(actual, expectedMaxSize);
+  }
+
   private ShouldHaveSizeLessThan(Object actual, int actualSize, int expectedSize) {
     // format the sizes in a standard way, otherwise if we use (for ex) an Hexadecimal representation
     // it will format sizes in hexadecimal while we only want actual to be formatted in hexadecimal
@@ -43,4 +54,12 @@ public class ShouldHaveSizeLessThan extends BasicErrorMessageFactory {
                  "to be less than %s but was %s", expectedSize, actualSize),
           actual);
   }
+
+  private ShouldHaveSizeLessThan(Object actual, int expectedSize) {
+    super(format("%n" +
+                 "Expecting size of:%n" +
+                 "  %%s%n" +
+                 "to be less than %s but was at least %s", expectedSize, expectedSize),
+          actual);
+  }
 }
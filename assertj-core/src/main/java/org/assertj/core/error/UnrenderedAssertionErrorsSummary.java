@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import java.io.Serial;
+
+/**
+ * An {@link AssertionError} standing for the soft assertion errors whose message was not rendered (see
+ * {@link org.assertj.core.api.DefaultAssertionErrorCollector#setMaxRenderedErrors(int)}), it is reported after the
+ * rendered errors and counts as the number of errors it summarizes.
+ *
+ * @since 4.0.0
+ */
+public class UnrenderedAssertionErrorsSummary extends AssertionError {
+
+  @Serial
+  private static final long serialVersionUID = -3370718240964914311L;
+
+  private final int unrenderedErrors;
+
+  /**
+   * Creates a new {@link UnrenderedAssertionErrorsSummary}.
+   *
+   * @param unrenderedErrors the number of errors whose message was not rendered.
+   */
+  public UnrenderedAssertionErrorsSummary(int unrenderedErrors) {
+    super("%n%s more soft assertion errors were collected but not rendered (see setMaxRenderedErrors)".formatted(unrenderedErrors));
+    this.unrenderedErrors = unrenderedErrors;
+  }
+
+  /**
+   * Returns the number of errors whose message was not rendered.
+   *
+   * @return the number of errors whose message was not rendered.
+   */
+  public int getUnrenderedErrors() {
+    return unrenderedErrors;
+  }
+
+}
@@ -34,11 +34,7 @@ public abstract class AbstractComparisonStrategy implements ComparisonStrategy {
     Set<Object> noDuplicates = newSetUsingComparisonStrategy();
     Set<Object> duplicatesWithOrderPreserved = new LinkedHashSet<>();
     for (Object element : iterable) {
-      if (noDuplicates.contains(element)) {
-        duplicatesWithOrderPreserved.add(element);
-      } else {
-        noDuplicates.add(element);
-      }
+      if (!noDuplicates.add(element)) duplicatesWithOrderPreserved.add(element);
     }
     return duplicatesWithOrderPreserved;
   }
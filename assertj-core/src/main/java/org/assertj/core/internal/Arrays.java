@@ -200,9 +200,16 @@ public class Arrays {
     if (commonChecks(info, failures, actual, values)) return;
     Set<Object> notFound = new LinkedHashSet<>();
     int valueCount = sizeOf(values);
-    for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (!arrayContains(actual, value)) notFound.add(value);
+    if (PrimitiveArrays.isSupportedBy(comparisonStrategy, actual, values)) {
+      int[] occurrences = PrimitiveArrays.occurrencesOf(actual, values);
+      for (int i = 0; i < valueCount; i++) {
+        if (occurrences[i] == 0) notFound.add(Array.get(values, i));
+      }
+    } else {
+      for (int i = 0; i < valueCount; i++) {
+        Object value = Array.get(values, i);
+        if (!arrayContains(actual, value)) notFound.add(value);
+      }
     }
     if (!notFound.isEmpty())
       throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
@@ -245,6 +252,10 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (PrimitiveArrays.isSupportedBy(comparisonStrategy, actual, values)
+        && PrimitiveArrays.haveSameElementsIgnoringDuplicates(actual, values)) return;
+    if (SortedMerge.isSupportedBy(comparisonStrategy)
+        && SortedMerge.haveSameElementsIgnoringDuplicates(comparisonStrategy, asList(actual), asList(values))) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -278,6 +289,8 @@ public class Arrays {
     if (commonChecks(info, failures, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    // primitive arrays are compared with java.util.Arrays.equals
+    if (PrimitiveArrays.isSupportedBy(comparisonStrategy, actual, values) && areEqual(actual, values)) return;
 
     List<Object> actualAsList = asList(actual);
     IterableDiff<?> diff = diff(actualAsList, asList(values), comparisonStrategy);
@@ -299,6 +312,16 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (PrimitiveArrays.isSupportedBy(comparisonStrategy, actual, values)
+        && PrimitiveArrays.haveSameElements(actual, values)) return;
+    if (HashMultiset.isSupportedBy(comparisonStrategy)) {
+      IterableDiff<Object> diff = diff(asList(actual), asList(values), comparisonStrategy);
+      if (!diff.differencesFound()) return;
+      throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected,
+                                                                  comparisonStrategy));
+    }
+    if (SortedMerge.isSupportedBy(comparisonStrategy)
+        && SortedMerge.haveSameElements(comparisonStrategy, asList(actual), asList(values))) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -317,9 +340,31 @@ public class Arrays {
   void assertContainsOnlyOnce(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values))
       return;
-    Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(asList(actual));
     Set<Object> notFound = new LinkedHashSet<>();
     Set<Object> notOnlyOnce = new LinkedHashSet<>();
+    if (PrimitiveArrays.isSupportedBy(comparisonStrategy, actual, values)) {
+      int[] occurrences = PrimitiveArrays.occurrencesOf(actual, values);
+      for (int i = 0; i < occurrences.length; i++) {
+        if (occurrences[i] == 0) notFound.add(Array.get(values, i));
+        else if (occurrences[i] > 1) notOnlyOnce.add(Array.get(values, i));
+      }
+    } else if (HashMultiset.isSupportedBy(comparisonStrategy)) {
+      HashMultiset actualElements = HashMultiset.of(asList(actual));
+      for (Object expectedElement : asList(values)) {
+        int occurrences = actualElements.count(expectedElement);
+        if (occurrences == 0) notFound.add(expectedElement);
+        else if (occurrences > 1) notOnlyOnce.add(expectedElement);
+      }
+    } else {
+      checkOnlyOnceOccurrences(actual, values, notFound, notOnlyOnce);
+    }
+    if (!notFound.isEmpty() || !notOnlyOnce.isEmpty())
+      throw failures.failure(info, shouldContainsOnlyOnce(actual, values, notFound, notOnlyOnce, comparisonStrategy));
+    // assertion succeeded
+  }
+
+  private void checkOnlyOnceOccurrences(Object actual, Object values, Set<Object> notFound, Set<Object> notOnlyOnce) {
+    Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(asList(actual));
     for (Object expectedElement : asList(values)) {
       if (!arrayContains(actual, expectedElement)) {
         notFound.add(expectedElement);
@@ -327,9 +372,6 @@ public class Arrays {
         notOnlyOnce.add(expectedElement);
       }
     }
-    if (!notFound.isEmpty() || !notOnlyOnce.isEmpty())
-      throw failures.failure(info, shouldContainsOnlyOnce(actual, values, notFound, notOnlyOnce, comparisonStrategy));
-    // assertion succeeded
   }
 
   private boolean iterableContains(Iterable<?> actual, Object value) {
@@ -346,41 +388,28 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) return;
-    }
+    if (indexOfSequence(actual, sequence) >= 0) return;
     throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
   }
 
   void assertDoesNotContainSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
-
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) {
-        throw failures.failure(info, shouldNotContainSequence(actual, sequence, actualIndex, comparisonStrategy));
-      }
-    }
-  }
-
-  /**
-   * Return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   *
-   * @param actualStartIndex the index to start looking for sequence in actualArray
-   * @param actualArray the actual array to search sequence in
-   * @param sequence the sequence to look for
-   * @return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(int actualStartIndex, Object actualArray, Object sequence) {
-    int sequenceSize = sizeOf(sequence);
-    for (int i = 0; i < sequenceSize; i++) {
-      if (areEqual(Array.get(sequence, i), Array.get(actualArray, i + actualStartIndex))) continue;
-      return false;
+    int sequenceIndex = indexOfSequence(actual, sequence);
+    if (sequenceIndex >= 0)
+      throw failures.failure(info, shouldNotContainSequence(actual, sequence, sequenceIndex, comparisonStrategy));
+  }
+
+  // index of the first occurrence of sequence in actualArray or -1 if there is none
+  private int indexOfSequence(Object actualArray, Object sequence) {
+    int actualSize = sizeOf(actualArray);
+    if (actualSize < sizeOf(sequence)) return -1;
+    if (PrimitiveArrays.isSupportedBy(comparisonStrategy, actualArray, sequence))
+      return PrimitiveArrays.indexOfSequence(actualArray, sequence);
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(asList(sequence).toArray(), comparisonStrategy);
+    for (int i = 0; i < actualSize; i++) {
+      if (sequenceMatcher.accept(Array.get(actualArray, i))) return sequenceMatcher.matchStartIndex();
     }
-    return true;
+    return -1;
   }
 
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
@@ -461,9 +490,16 @@ public class Arrays {
     assertNotNull(info, array);
     Set<Object> found = new LinkedHashSet<>();
     int valuesSize = sizeOf(values);
-    for (int i = 0; i < valuesSize; i++) {
-      Object value = Array.get(values, i);
-      if (arrayContains(array, value)) found.add(value);
+    if (PrimitiveArrays.isSupportedBy(comparisonStrategy, array, values)) {
+      int[] occurrences = PrimitiveArrays.occurrencesOf(array, values);
+      for (int i = 0; i < valuesSize; i++) {
+        if (occurrences[i] > 0) found.add(Array.get(values, i));
+      }
+    } else {
+      for (int i = 0; i < valuesSize; i++) {
+        Object value = Array.get(values, i);
+        if (arrayContains(array, value)) found.add(value);
+      }
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
@@ -474,6 +510,7 @@ public class Arrays {
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    if (PrimitiveArrays.isSupportedBy(comparisonStrategy, array, array) && !PrimitiveArrays.hasDuplicates(array)) return;
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
     if (!isNullOrEmpty(duplicates))
@@ -486,6 +523,10 @@ public class Arrays {
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
+    if (PrimitiveArrays.isSupportedBy(comparisonStrategy, actual, sequence)) {
+      if (PrimitiveArrays.containsSequenceAt(actual, sequence, 0)) return;
+      throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
+    }
     for (int i = 0; i < sequenceSize; i++) {
       if (!areEqual(Array.get(sequence, i), Array.get(actual, i)))
         throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
@@ -521,6 +562,10 @@ public class Arrays {
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) throw arrayDoesNotEndWithSequence(info, failures, actual, sequence);
+    if (PrimitiveArrays.isSupportedBy(comparisonStrategy, actual, sequence)) {
+      if (PrimitiveArrays.containsSequenceAt(actual, sequence, arraySize - sequenceSize)) return;
+      throw arrayDoesNotEndWithSequence(info, failures, actual, sequence);
+    }
     for (int i = 0; i < sequenceSize; i++) {
       int sequenceIndex = sequenceSize - (i + 1);
       int arrayIndex = arraySize - (i + 1);
@@ -630,7 +675,18 @@ public class Arrays {
     if (commonChecks(info, failures, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    if (PrimitiveArrays.isSupportedBy(comparisonStrategy, actual, values)) {
+      if (PrimitiveArrays.containsAnyOf(actual, values)) return;
+      throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
+    }
 
+    if (HashMultiset.isSupportedBy(comparisonStrategy)) {
+      HashMultiset valuesToSearchFor = HashMultiset.of(asList(values));
+      for (Object element : asList(actual)) {
+        if (valuesToSearchFor.contains(element)) return;
+      }
+      throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
+    }
     List<Object> valuesToSearchFor = asList(values);
     for (Object element : asList(actual)) {
       if (iterableContains(valuesToSearchFor, element)) return;
@@ -677,6 +733,12 @@ public class Arrays {
     }
     // empty arrays are considered sorted even if component type is not sortable.
     if (sizeOf(array) == 0) return;
+    if (array.getClass().getComponentType().isPrimitive()) {
+      // compare primitive elements without boxing them
+      int unsortedElementIndex = PrimitiveArrays.indexOfFirstUnsortedElement(array);
+      if (unsortedElementIndex >= 0) throw failures.failure(info, shouldBeSorted(unsortedElementIndex, array));
+      return;
+    }
     assertThatArrayComponentTypeIsSortable(info, failures, array);
     try {
       // sorted assertion is only relevant if array elements are Comparable
@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Computes the size of a maximum matching of a bipartite graph with the Hopcroft-Karp algorithm in O(E * sqrt(V)), it is
+ * used to check whether each requirement can be assigned a distinct element satisfying it.
+ * <p>
+ * The graph is given as the right vertices adjacent to each left vertex, vertices being identified by their index.
+ */
+final class BipartiteMatching {
+
+  private static final int FREE = -1;
+  private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+  private final int[][] rightVerticesPerLeftVertex;
+  private final int[] rightVertexMatchedTo;
+  private final int[] leftVertexMatchedTo;
+  private final int[] layerOf;
+
+  private BipartiteMatching(int[][] rightVerticesPerLeftVertex, int numberOfRightVertices) {
+    this.rightVerticesPerLeftVertex = rightVerticesPerLeftVertex;
+    leftVertexMatchedTo = new int[rightVerticesPerLeftVertex.length];
+    rightVertexMatchedTo = new int[numberOfRightVertices];
+    layerOf = new int[rightVerticesPerLeftVertex.length];
+    java.util.Arrays.fill(leftVertexMatchedTo, FREE);
+    java.util.Arrays.fill(rightVertexMatchedTo, FREE);
+  }
+
+  /**
+   * Returns the size of a maximum matching of the given bipartite graph.
+   *
+   * @param rightVerticesPerLeftVertex the indices of the right vertices adjacent to each left vertex
+   * @param numberOfRightVertices the number of right vertices
+   * @return the size of a maximum matching.
+   */
+  static int maximumMatchingSize(int[][] rightVerticesPerLeftVertex, int numberOfRightVertices) {
+    return new BipartiteMatching(rightVerticesPerLeftVertex, numberOfRightVertices).maximumMatchingSize();
+  }
+
+  private int maximumMatchingSize() {
+    int matchingSize = 0;
+    // each phase augments the matching along a maximal set of vertex-disjoint shortest augmenting paths
+    while (layerLeftVerticesFromFreeOnes()) {
+      for (int leftVertex = 0; leftVertex < leftVertexMatchedTo.length; leftVertex++) {
+        if (leftVertexMatchedTo[leftVertex] == FREE && augmentFrom(leftVertex)) matchingSize++;
+      }
+    }
+    return matchingSize;
+  }
+
+  // breadth-first search from the free left vertices alternating unmatched and matched edges, returns true if a free right
+  // vertex was reached, i.e. if there is an augmenting path.
+  private boolean layerLeftVerticesFromFreeOnes() {
+    int[] queue = new int[leftVertexMatchedTo.length];
+    int head = 0;
+    int tail = 0;
+    for (int leftVertex = 0; leftVertex < leftVertexMatchedTo.length; leftVertex++) {
+      if (leftVertexMatchedTo[leftVertex] == FREE) {
+        layerOf[leftVertex] = 0;
+        queue[tail++] = leftVertex;
+      } else {
+        layerOf[leftVertex] = UNREACHABLE;
+      }
+    }
+    boolean freeRightVertexReached = false;
+    while (head < tail) {
+      int leftVertex = queue[head++];
+      for (int rightVertex : rightVerticesPerLeftVertex[leftVertex]) {
+        int matchedLeftVertex = rightVertexMatchedTo[rightVertex];
+        if (matchedLeftVertex == FREE) {
+          freeRightVertexReached = true;
+        } else if (layerOf[matchedLeftVertex] == UNREACHABLE) {
+          layerOf[matchedLeftVertex] = layerOf[leftVertex] + 1;
+          queue[tail++] = matchedLeftVertex;
+        }
+      }
+    }
+    return freeRightVertexReached;
+  }
+
+  // depth-first search following the layers, the recursion depth is bounded by the length of the shortest augmenting path
+  private boolean augmentFrom(int leftVertex) {
+    for (int rightVertex : rightVerticesPerLeftVertex[leftVertex]) {
+      int matchedLeftVertex = rightVertexMatchedTo[rightVertex];
+      if (matchedLeftVertex == FREE
+          || (layerOf[matchedLeftVertex] == layerOf[leftVertex] + 1 && augmentFrom(matchedLeftVertex))) {
+        leftVertexMatchedTo[leftVertex] = rightVertex;
+        rightVertexMatchedTo[rightVertex] = leftVertex;
+        return true;
+      }
+    }
+    // dead end, don't visit it again in this phase
+    layerOf[leftVertex] = UNREACHABLE;
+    return false;
+  }
+
+}
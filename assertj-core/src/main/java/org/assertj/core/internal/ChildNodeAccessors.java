@@ -0,0 +1,218 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Locale.ENGLISH;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.assertj.core.util.introspection.FieldSupport;
+import org.assertj.core.util.introspection.Introspection;
+import org.assertj.core.util.introspection.IntrospectionError;
+
+/**
+ * Caches per class how to read the child nodes of its instances, this is the plan used by the recursive comparison and
+ * recursive assertion introspection strategies to get a child node value without looking up its getter or field by name
+ * each time.
+ * <p>
+ * Resolving a child node by name is costly, in particular when it fails (i.e. a field without getter) as it builds an
+ * exception, this does not matter much for a single object but it does when comparing large collections of objects of the
+ * same class.
+ * <p>
+ * A child node that does not have a cached accessor, or whose field can't be read anymore, is read with the regular
+ * introspection so that the behavior (and the error messages) are the same as without the cache. A getter is never invoked
+ * twice though, when it fails its exception is reported like the regular introspection does.
+ */
+public final class ChildNodeAccessors {
+
+  private static final ChildNodeAccessor NO_ACCESSOR = instance -> null;
+  // returned by an accessor that can't read a child node without side effects, i.e. a private field not allowed to be read
+  private static final Object UNREADABLE = new Object();
+
+  private final BiFunction<Class<?>, String, ChildNodeAccessor> accessorResolver;
+  // the accessors are cached by class then by child node name, ConcurrentHashMap is used as the introspection strategies can
+  // be used in a multi-thread context
+  private final Map<Class<?>, Map<String, ChildNodeAccessor>> accessorsPerClass = new ConcurrentHashMap<>();
+  // the getters resolution depends on Introspection.canExtractBareNamePropertyMethods() which can change at any time
+  private final Map<Class<?>, Map<String, ChildNodeAccessor>> bareNameAccessorsPerClass = new ConcurrentHashMap<>();
+
+  private ChildNodeAccessors(BiFunction<Class<?>, String, ChildNodeAccessor> accessorResolver) {
+    this.accessorResolver = accessorResolver;
+  }
+
+  /**
+   * @param fieldSupport the {@link FieldSupport} telling whether private fields can be read
+   * @return a {@link ChildNodeAccessors} reading child nodes from fields.
+   */
+  public static ChildNodeAccessors fieldAccessors(FieldSupport fieldSupport) {
+    return new ChildNodeAccessors((clazz, fieldName) -> fieldAccessor(clazz, fieldName, fieldSupport));
+  }
+
+  /**
+   * @return a {@link ChildNodeAccessors} reading child nodes from getters.
+   */
+  public static ChildNodeAccessors getterAccessors() {
+    return new ChildNodeAccessors(ChildNodeAccessors::getterAccessor);
+  }
+
+  /**
+   * @param fieldSupport the {@link FieldSupport} telling whether private fields can be read
+   * @return a {@link ChildNodeAccessors} reading child nodes from getters first and then from fields.
+   */
+  public static ChildNodeAccessors getterOrFieldAccessors(FieldSupport fieldSupport) {
+    return new ChildNodeAccessors((clazz, childNodeName) -> {
+      ChildNodeAccessor getterAccessor = getterAccessor(clazz, childNodeName);
+      ChildNodeAccessor fieldAccessor = fieldAccessor(clazz, childNodeName, fieldSupport);
+      if (getterAccessor == NO_ACCESSOR) return fieldAccessor;
+      if (fieldAccessor == NO_ACCESSOR) return getterAccessor;
+      // like PropertyOrFieldSupport, the field is read when the getter fails and its error is reported if it can't be
+      return instance -> {
+        try {
+          return getterAccessor.read(instance);
+        } catch (IntrospectionError getterError) {
+          Object fieldValue = fieldAccessor.read(instance);
+          if (fieldValue == UNREADABLE) throw getterError;
+          return fieldValue;
+        }
+      };
+    });
+  }
+
+  /**
+   * Reads the given child node value with the cached accessor of the instance class, if there is none or if it is a field
+   * that is not allowed to be read anymore, the given introspection is used.
+   *
+   * @param childNodeName the name of the child node to read
+   * @param instance the object to read the child node from
+   * @param introspection the regular way of reading a child node value
+   * @return the child node value
+   * @throws IntrospectionError if the cached accessor fails to read the child node value
+   */
+  public Object readChildNode(String childNodeName, Object instance, BiFunction<String, Object, Object> introspection) {
+    if (instance == null) return introspection.apply(childNodeName, instance);
+    ChildNodeAccessor accessor = accessorOf(instance.getClass(), childNodeName);
+    if (accessor == NO_ACCESSOR) return introspection.apply(childNodeName, instance);
+    Object value = accessor.read(instance);
+    return value != UNREADABLE ? value : introspection.apply(childNodeName, instance);
+  }
+
+  private ChildNodeAccessor accessorOf(Class<?> clazz, String childNodeName) {
+    Map<Class<?>, Map<String, ChildNodeAccessor>> accessors = Introspection.canExtractBareNamePropertyMethods()
+        ? bareNameAccessorsPerClass
+        : accessorsPerClass;
+    return accessors.computeIfAbsent(clazz, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(childNodeName, name -> accessorResolver.apply(clazz, name));
+  }
+
+  // same lookup as FieldUtils: the first field declared with the given name walking up the class hierarchy, static and
+  // synthetic fields are not supported
+  private static ChildNodeAccessor fieldAccessor(Class<?> clazz, String fieldName, FieldSupport fieldSupport) {
+    for (Class<?> declaringClass = clazz; declaringClass != null; declaringClass = declaringClass.getSuperclass()) {
+      Field field;
+      try {
+        field = declaringClass.getDeclaredField(fieldName);
+      } catch (NoSuchFieldException | SecurityException e) {
+        continue;
+      }
+      if (isStatic(field.getModifiers()) || field.isSynthetic() || !trySetAccessible(field)) return NO_ACCESSOR;
+      return instance -> {
+        // the use of private fields can be disabled at any time
+        if (!fieldSupport.isAllowedToRead(field)) return UNREADABLE;
+        try {
+          return field.get(instance);
+        } catch (IllegalAccessException e) {
+          // same error as FieldSupport
+          String message = "Unable to obtain the value of the field <'%s'> from <%s>, check that field is public.".formatted(fieldName,
+                                                                                                                             instance);
+          throw new IntrospectionError(message, e);
+        }
+      };
+    }
+    return NO_ACCESSOR;
+  }
+
+  // same lookup as Introspection: getProperty(), then property() for records or if bare name properties are allowed and
+  // finally isProperty(), the getter must be public
+  private static ChildNodeAccessor getterAccessor(Class<?> clazz, String propertyName) {
+    if (propertyName.isEmpty()) return NO_ACCESSOR;
+    String capitalized = propertyName.substring(0, 1).toUpperCase(ENGLISH) + propertyName.substring(1);
+    Method getter = findMethod("get" + capitalized, clazz);
+    if (!isValidGetter(getter) && (Introspection.canExtractBareNamePropertyMethods() || Record.class.isAssignableFrom(clazz))) {
+      getter = findMethod(propertyName, clazz);
+    }
+    if (!isValidGetter(getter)) getter = findMethod("is" + capitalized, clazz);
+    if (!isValidGetter(getter) || !isPublic(getter.getModifiers()) || !trySetAccessible(getter)) return NO_ACCESSOR;
+    Method resolvedGetter = getter;
+    return instance -> {
+      try {
+        return resolvedGetter.invoke(instance);
+      } catch (InvocationTargetException e) {
+        // same error as Introspection, the getter exception is kept to be reported
+        String message = "Unable to invoke getter %s in %s, exception: %s".formatted(resolvedGetter.getName(),
+                                                                                     instance.getClass().getSimpleName(),
+                                                                                     e.getTargetException());
+        throw new IntrospectionError(message, e, e.getTargetException());
+      } catch (IllegalAccessException e) {
+        // same error as PropertySupport
+        String message = "Unable to obtain the value of the property <'%s'> from <%s>".formatted(propertyName, instance);
+        throw new IntrospectionError(message, e);
+      }
+    };
+  }
+
+  private static boolean isValidGetter(Method method) {
+    return method != null && !isStatic(method.getModifiers()) && !Void.TYPE.equals(method.getReturnType());
+  }
+
+  private static Method findMethod(String name, Class<?> clazz) {
+    // try public methods first
+    try {
+      return clazz.getMethod(name);
+    } catch (NoSuchMethodException | SecurityException ignored) {}
+    for (Class<?> declaringClass = clazz; declaringClass != null; declaringClass = declaringClass.getSuperclass()) {
+      try {
+        return declaringClass.getDeclaredMethod(name);
+      } catch (NoSuchMethodException | SecurityException ignored) {}
+    }
+    return null;
+  }
+
+  private static boolean trySetAccessible(Field field) {
+    try {
+      return field.trySetAccessible();
+    } catch (SecurityException e) {
+      return false;
+    }
+  }
+
+  private static boolean trySetAccessible(Method method) {
+    try {
+      return method.trySetAccessible();
+    } catch (SecurityException e) {
+      return false;
+    }
+  }
+
+  @FunctionalInterface
+  private interface ChildNodeAccessor {
+    Object read(Object instance);
+  }
+
+}
@@ -21,6 +21,8 @@ import java.util.Iterator;
 import java.util.Set;
 import java.util.TreeSet;
 
+import org.assertj.core.api.recursive.comparison.RecursiveComparator;
+
 /**
  * Implements {@link ComparisonStrategy} contract with a comparison strategy based on a {@link Comparator}.
  *
@@ -176,6 +178,21 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
     return CONFIGURATION_PROVIDER.representation().toStringOf(this);
   }
 
+  /**
+   * Returns true if the comparator defines an order on the compared values, which lets order-insensitive assertions sort and
+   * merge the values instead of comparing each value to every other one.
+   * <p>
+   * This is not the case of the comparators only telling whether values are equal, like the field by field comparators.
+   *
+   * @return true if the comparator defines an order on the compared values, false otherwise.
+   */
+  public boolean supportsOrdering() {
+    return !(comparator instanceof FieldByFieldComparator
+             || comparator instanceof ConfigurableRecursiveFieldByFieldComparator
+             || comparator instanceof ExtendedByTypesComparator
+             || comparator instanceof RecursiveComparator);
+  }
+
   public Comparator<?> getComparator() {
     return comparator;
   }
@@ -201,12 +218,12 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public boolean stringContains(String string, String sequence) {
     int sequenceLength = sequence.length();
-    for (int i = 0; i < string.length(); i++) {
-      String subString = string.substring(i);
-      if (subString.length() < sequenceLength) return false;
-      if (stringStartsWith(subString, sequence)) return true;
+    // only extract the candidate regions, not the whole remaining string for each index
+    for (int i = 0; i < string.length() && i + sequenceLength <= string.length(); i++) {
+      if (comparator.compare(string.substring(i, i + sequenceLength), sequence) == 0) return true;
     }
     return false;
   }
@@ -50,7 +50,8 @@ public class ConfigurableRecursiveFieldByFieldComparator implements Comparator<O
 
   protected boolean areEqual(Object actual, Object other) {
     try {
-      return recursiveComparisonDifferenceCalculator.determineDifferences(actual, other, configuration).isEmpty();
+      // the differences are not reported, stop at the first one
+      return !recursiveComparisonDifferenceCalculator.hasDifferences(actual, other, configuration);
     } catch (@SuppressWarnings("unused") IntrospectionError e) {
       return false;
     }
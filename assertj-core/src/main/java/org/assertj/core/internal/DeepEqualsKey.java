@@ -0,0 +1,47 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Hash key of an element compared with {@link StandardComparisonStrategy}: arrays {@code equals} and {@code hashCode} are
+ * identity based, they are wrapped in a key comparing them by content like
+ * {@link StandardComparisonStrategy#areEqual(Object, Object)} does, other elements are their own key.
+ * <p>
+ * This allows hash based collections to look up elements with the standard comparison semantics in constant time.
+ */
+final class DeepEqualsKey {
+
+  private final Object array;
+  private final int hash;
+
+  private DeepEqualsKey(Object array) {
+    this.array = array;
+    // wrapping the array lets deepHashCode handle both primitive and object arrays
+    this.hash = java.util.Arrays.deepHashCode(new Object[] { array });
+  }
+
+  static Object of(Object element) {
+    return element != null && element.getClass().isArray() ? new DeepEqualsKey(element) : element;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof DeepEqualsKey other && StandardComparisonStrategy.instance().areEqual(array, other.array);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+}
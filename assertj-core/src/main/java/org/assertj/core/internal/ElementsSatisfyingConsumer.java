@@ -12,17 +12,18 @@
  */
 package org.assertj.core.internal;
 
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.IntStream.range;
 import static org.assertj.core.internal.Iterables.byPassingAssertions;
-import static org.assertj.core.util.Streams.stream;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Wrapper for the list of elements that satisfy certain requirements (expressed as a <code>Consumer</code>).
+ * <p>
+ * The positions of the satisfying elements are kept too, they identify the elements even if the same element is present
+ * several times.
  *
  * @author Michael Grafl
  *
@@ -31,17 +32,22 @@ import java.util.function.Consumer;
 class ElementsSatisfyingConsumer<E> {
 
   private final List<E> elements;
+  private final int[] elementIndices;
 
-  ElementsSatisfyingConsumer(Iterable<? extends E> actual, Consumer<? super E> assertions) {
-    this(filterByPassingAssertions(actual, assertions));
-  }
-
-  private static <E> List<E> filterByPassingAssertions(Iterable<? extends E> actual, Consumer<? super E> assertions) {
-    return stream(actual).filter(byPassingAssertions(assertions)).collect(toList());
-  }
-
-  private ElementsSatisfyingConsumer(List<E> elements) {
-    this.elements = elements;
+  ElementsSatisfyingConsumer(List<? extends E> actual, Consumer<? super E> assertions) {
+    // each element is checked once against the assertions
+    Predicate<E> passingAssertions = byPassingAssertions(assertions);
+    List<E> satisfyingElements = new ArrayList<>();
+    int[] satisfyingElementIndices = new int[actual.size()];
+    for (int i = 0; i < actual.size(); i++) {
+      E element = actual.get(i);
+      if (passingAssertions.test(element)) {
+        satisfyingElementIndices[satisfyingElements.size()] = i;
+        satisfyingElements.add(element);
+      }
+    }
+    this.elements = satisfyingElements;
+    this.elementIndices = java.util.Arrays.copyOf(satisfyingElementIndices, satisfyingElements.size());
   }
 
   List<E> getElements() {
@@ -49,23 +55,12 @@ class ElementsSatisfyingConsumer<E> {
   }
 
   /**
-   * New <code>ElementsSatisfyingConsumer</code> containing all elements except the first occurrence of the given element.
+   * Returns the indices in actual of the elements satisfying the requirements, in the same order as {@link #getElements()}.
    *
-   * <p> This instance is not modified.
-   *
-   * @param element the element to remove from the result
-   * @return all except the given element
+   * @return the indices of the elements satisfying the requirements.
    */
-  ElementsSatisfyingConsumer<E> withoutElement(E element) {
-    ArrayList<E> listWithoutElement = new ArrayList<>(elements);
-    removeFirstReference(element, listWithoutElement);
-    return new ElementsSatisfyingConsumer<>(listWithoutElement);
-  }
-
-  private static void removeFirstReference(Object element, List<?> elements) {
-    range(0, elements.size()).filter(i -> elements.get(i) == element)
-                             .findFirst()
-                             .ifPresent(elements::remove);
+  int[] getElementIndices() {
+    return elementIndices;
   }
 
 }
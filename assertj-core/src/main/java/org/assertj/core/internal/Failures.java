@@ -13,6 +13,7 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.util.Strings.isNullOrEmpty;
 
 import java.lang.management.ManagementFactory;
@@ -20,14 +21,19 @@ import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.AssumptionExceptionFactory;
+import org.assertj.core.api.ErrorCollector;
+import org.assertj.core.configuration.AssertionErrorStackTrace;
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.ConfigurationProvider;
 import org.assertj.core.description.Description;
 import org.assertj.core.error.AssertionErrorCreator;
 import org.assertj.core.error.AssertionErrorFactory;
 import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.error.LazyMessageAssertionError;
 import org.assertj.core.error.MessageFormatter;
 import org.assertj.core.error.ShouldBeEqual;
+import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.Throwables;
 
 /**
@@ -40,6 +46,8 @@ public class Failures {
 
   private static final String LINE_SEPARATOR = System.lineSeparator();
 
+  private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+
   private static final Failures INSTANCE = new Failures();
 
   private AssertionErrorCreator assertionErrorCreator = new AssertionErrorCreator();
@@ -81,6 +89,30 @@ public class Failures {
     return removeAssertJRelatedElementsFromStackTrace;
   }
 
+  private AssertionErrorStackTrace softAssertionsAndAssumptionsStackTrace = Configuration.SOFT_ASSERTIONS_AND_ASSUMPTIONS_STACK_TRACE;
+
+  /**
+   * Sets the stack trace given to the errors of soft assertions and assumptions.
+   *
+   * @param softAssertionsAndAssumptionsStackTrace the stack trace given to the errors of soft assertions and assumptions.
+   * @since 4.0.0
+   */
+  public void setSoftAssertionsAndAssumptionsStackTrace(AssertionErrorStackTrace softAssertionsAndAssumptionsStackTrace) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    this.softAssertionsAndAssumptionsStackTrace = requireNonNull(softAssertionsAndAssumptionsStackTrace,
+                                                                 "softAssertionsAndAssumptionsStackTrace must not be null");
+  }
+
+  /**
+   * Returns the stack trace given to the errors of soft assertions and assumptions.
+   *
+   * @return the stack trace given to the errors of soft assertions and assumptions.
+   * @since 4.0.0
+   */
+  public AssertionErrorStackTrace getSoftAssertionsAndAssumptionsStackTrace() {
+    return softAssertionsAndAssumptionsStackTrace;
+  }
+
   private Failures() {}
 
   /**
@@ -120,8 +152,9 @@ public class Failures {
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory messageFactory) {
     AssertionError error = failureIfErrorMessageIsOverridden(info);
     if (error != null) return error;
-    String assertionErrorMessage = assertionErrorMessage(info, messageFactory);
-    AssertionError assertionError = assertionErrorCreator.assertionError(assertionErrorMessage);
+    AssertionError assertionError = ErrorCollector.isCollectingErrorsWithLazyMessages()
+        ? lazyMessageAssertionError(info, messageFactory)
+        : assertionErrorCreator.assertionError(assertionErrorMessage(info, messageFactory));
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
     return assertionError;
@@ -136,6 +169,13 @@ public class Failures {
     return assertionError;
   }
 
+  private static AssertionError lazyMessageAssertionError(AssertionInfo info, ErrorMessageFactory messageFactory) {
+    // info is updated by the next assertions, the message is rendered with its current description and representation
+    Description description = info.description();
+    Representation representation = info.representation();
+    return new LazyMessageAssertionError(() -> messageFactory.create(description, representation));
+  }
+
   protected String assertionErrorMessage(AssertionInfo info, ErrorMessageFactory messageFactory) {
     String overridingErrorMessage = info.overridingErrorMessage();
     return isNullOrEmpty(overridingErrorMessage)
@@ -209,14 +249,26 @@ public class Failures {
    *
    * Method is public because we need to call it from {@link ShouldBeEqual#newAssertionError(Description, org.assertj.core.presentation.Representation)} that is building a junit ComparisonFailure by reflection.
    *
+   * The errors of soft assertions and assumptions get the stack trace set with
+   * {@link #setSoftAssertionsAndAssumptionsStackTrace(AssertionErrorStackTrace)} unless it is
+   * {@link AssertionErrorStackTrace#FULL FULL}.
+   *
    * @param assertionError the {@code AssertionError} to filter stack trace if option is set.
    */
   public void removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError assertionError) {
-    if (removeAssertJRelatedElementsFromStackTrace) {
+    if (softAssertionsAndAssumptionsStackTrace != AssertionErrorStackTrace.FULL && isSoftAssertionOrAssumptionInProgress()) {
+      assertionError.setStackTrace(softAssertionsAndAssumptionsStackTrace == AssertionErrorStackTrace.TRUNCATED
+          ? Throwables.stackTraceOfAssertJCaller(AssertionErrorStackTrace.TRUNCATED_STACK_TRACE_MAX_ELEMENTS)
+          : NO_STACK_TRACE);
+    } else if (removeAssertJRelatedElementsFromStackTrace) {
       Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
     }
   }
 
+  private static boolean isSoftAssertionOrAssumptionInProgress() {
+    return ErrorCollector.isCollectingErrors() || AssumptionExceptionFactory.isEvaluatingAssumption();
+  }
+
   /**
    * Set the flag indicating that in case of a failure a threaddump is printed out.
    */
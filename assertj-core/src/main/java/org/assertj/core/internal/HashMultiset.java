@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A multiset of elements compared with {@link StandardComparisonStrategy}, it counts the occurrences of equal elements in a
+ * {@link HashMap} so that order-insensitive assertions can match actual and expected elements in O(n + m) instead of looking
+ * up and removing elements in lists.
+ * <p>
+ * This relies on {@code equals} and {@code hashCode} being consistent (which the standard comparison already expects), arrays
+ * are compared by content like {@link StandardComparisonStrategy#areEqual(Object, Object)} does (see {@link DeepEqualsKey}).
+ * <p>
+ * Other comparison strategies don't provide a hash consistent with the way they compare elements and must keep using
+ * {@link ComparisonStrategy#iterableContains(Iterable, Object)} and {@link ComparisonStrategy#iterablesRemoveFirst(Iterable, Object)}.
+ */
+final class HashMultiset {
+
+  private final Map<Object, Count> counts;
+
+  private HashMultiset(int expectedSize) {
+    // sized to avoid rehashing when adding the expected number of distinct elements
+    counts = new HashMap<>(Math.max(16, (int) (expectedSize / 0.75f) + 1));
+  }
+
+  static boolean isSupportedBy(ComparisonStrategy comparisonStrategy) {
+    // subclasses of StandardComparisonStrategy comparing elements differently are not standard
+    return comparisonStrategy.isStandard();
+  }
+
+  static HashMultiset of(Iterable<?> elements) {
+    HashMultiset multiset = new HashMultiset(elements instanceof Collection<?> collection ? collection.size() : 16);
+    for (Object element : elements) {
+      multiset.add(element);
+    }
+    return multiset;
+  }
+
+  void add(Object element) {
+    counts.computeIfAbsent(DeepEqualsKey.of(element), key -> new Count()).value++;
+  }
+
+  /**
+   * Removes one occurrence of the given element.
+   *
+   * @param element the element to remove
+   * @return true if an occurrence of the element was found (and removed), false otherwise.
+   */
+  boolean remove(Object element) {
+    Count count = counts.get(DeepEqualsKey.of(element));
+    if (count == null || count.value == 0) return false;
+    count.value--;
+    return true;
+  }
+
+  boolean contains(Object element) {
+    return count(element) > 0;
+  }
+
+  int count(Object element) {
+    Count count = counts.get(DeepEqualsKey.of(element));
+    return count == null ? 0 : count.value;
+  }
+
+  private static final class Count {
+    private int value;
+  }
+
+}
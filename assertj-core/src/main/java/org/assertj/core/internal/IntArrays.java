@@ -12,11 +12,18 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntPredicate;
 
 import org.assertj.core.api.ArraySortedAssert;
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.data.Index;
+import org.assertj.core.presentation.PredicateDescription;
 
 /**
  * Reusable assertions for arrays of {@code int}s.
@@ -410,4 +417,28 @@ public class IntArrays {
   public void assertContainsAnyOf(AssertionInfo info, int[] actual, int[] values) {
     arrays.assertContainsAnyOf(info, failures, actual, values);
   }
+
+  /**
+   * Asserts that all the elements of the given array match the given predicate, the elements are only boxed to report the
+   * ones not matching it.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param predicate the predicate the elements should match.
+   * @param predicateDescription the description of the predicate used in the error message.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if some elements of the given array do not match the given predicate.
+   */
+  public void assertAllMatch(AssertionInfo info, int[] actual, IntPredicate predicate, PredicateDescription predicateDescription) {
+    Arrays.assertNotNull(info, actual);
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    List<Integer> nonMatches = new ArrayList<>();
+    for (int element : actual) {
+      if (!predicate.test(element)) nonMatches.add(element);
+    }
+    if (!nonMatches.isEmpty())
+      throw failures.failure(info, elementsShouldMatch(actual, nonMatches.size() == 1 ? nonMatches.get(0) : nonMatches,
+                                                       predicateDescription));
+  }
 }
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Lists.newArrayList;
 
@@ -31,6 +32,12 @@ class IterableDiff<T> {
 
   IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     this.comparisonStrategy = comparisonStrategy;
+    if (SortedMerge.isSupportedBy(comparisonStrategy)
+        && SortedMerge.haveSameElements(comparisonStrategy, newArrayList(actual), newArrayList(expected))) {
+      this.unexpected = emptyList();
+      this.missing = emptyList();
+      return;
+    }
     // return the elements in actual that are not in expected: actual - expected
     this.unexpected = unexpectedActualElements(actual, expected);
     // return the elements in expected that are not in actual: expected - actual
@@ -57,6 +64,7 @@ class IterableDiff<T> {
    * @return the list of elements in the first iterable that are not in the second, i.e. first - second
    */
   private List<T> unexpectedActualElements(Iterable<T> actual, Iterable<T> expected) {
+    if (HashMultiset.isSupportedBy(comparisonStrategy)) return elementsNotIn(actual, expected);
     List<T> missingInFirst = new ArrayList<>();
     // use a copy to deal correctly with potential duplicates
     List<T> copyOfExpected = newArrayList(expected);
@@ -81,6 +89,7 @@ class IterableDiff<T> {
   }
 
   private List<T> missingActualElements(Iterable<T> actual, Iterable<T> expected) {
+    if (HashMultiset.isSupportedBy(comparisonStrategy)) return elementsNotIn(expected, actual);
     List<T> missingInExpected = new ArrayList<>();
     // use a copy to deal correctly with potential duplicates
     List<T> copyOfActual = newArrayList(actual);
@@ -95,6 +104,17 @@ class IterableDiff<T> {
     return unmodifiableList(missingInExpected);
   }
 
+  // O(n + m) equivalent of the list based algorithms above when elements can be compared with their hash code, each element
+  // of others can only match one element (to deal correctly with potential duplicates)
+  private static <T> List<T> elementsNotIn(Iterable<T> elements, Iterable<T> others) {
+    List<T> elementsNotInOthers = new ArrayList<>();
+    HashMultiset remainingOthers = HashMultiset.of(others);
+    for (T element : elements) {
+      if (!remainingOthers.remove(element)) elementsNotInOthers.add(element);
+    }
+    return unmodifiableList(elementsNotInOthers);
+  }
+
   private boolean iterableContains(Iterable<?> actual, T expectedElement) {
     return comparisonStrategy.iterableContains(actual, expectedElement);
   }
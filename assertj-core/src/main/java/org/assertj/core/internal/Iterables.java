@@ -85,23 +85,22 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Streams.stream;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -124,6 +123,7 @@ public class Iterables {
 
   private static final Iterables INSTANCE = new Iterables();
   private final ComparisonStrategy comparisonStrategy;
+  private final boolean parallel;
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   Failures failures = Failures.instance();
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -146,7 +146,35 @@ public class Iterables {
   }
 
   public Iterables(ComparisonStrategy comparisonStrategy) {
+    this(comparisonStrategy, false);
+  }
+
+  private Iterables(ComparisonStrategy comparisonStrategy, boolean parallel) {
     this.comparisonStrategy = comparisonStrategy;
+    this.parallel = parallel;
+  }
+
+  /**
+   * Returns an {@link Iterables} with the same comparison strategy checking the elements against the given requirements or
+   * conditions in parallel (in the common {@link java.util.concurrent.ForkJoinPool}), this is used by
+   * {@link #assertAllSatisfy(AssertionInfo, Iterable, Consumer)}, {@link #assertNoneSatisfy(AssertionInfo, Iterable, Consumer)},
+   * {@link #assertSatisfiesOnlyOnce(AssertionInfo, Iterable, Consumer)} and the condition assertions.
+   * <p>
+   * The elements failing the requirements or conditions are reported in the iteration order, the error messages are thus the
+   * same as when the elements are checked sequentially.
+   *
+   * @return an {@link Iterables} checking the elements in parallel.
+   */
+  public Iterables inParallel() {
+    Iterables iterables = new Iterables(comparisonStrategy, true);
+    iterables.failures = failures;
+    iterables.conditions = conditions;
+    iterables.predicates = predicates;
+    return iterables;
+  }
+
+  public boolean isParallel() {
+    return parallel;
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -355,7 +383,9 @@ public class Iterables {
 
   private void assertIterableContainsGivenValues(@SuppressWarnings("rawtypes") Class<? extends Iterable> clazz,
                                                  Iterable<?> actual, Object[] values, AssertionInfo info) {
-    Set<Object> notFound = stream(values).filter(value -> !iterableContains(actual, value))
+    Predicate<Object> isActualElement = HashMultiset.isSupportedBy(comparisonStrategy) ? HashMultiset.of(actual)::contains
+        : value -> iterableContains(actual, value);
+    Set<Object> notFound = stream(values).filter(isActualElement.negate())
                                          .collect(toCollection(LinkedHashSet::new));
     if (notFound.isEmpty())
       return;
@@ -393,6 +423,8 @@ public class Iterables {
     checkNotNullIterables(info, actualAsList, expectedValues);
     // if both actual and values are empty, then assertion passes.
     if (actualAsList.isEmpty() && expectedValues.length == 0) return;
+    if (SortedMerge.isSupportedBy(comparisonStrategy)
+        && SortedMerge.haveSameElementsIgnoringDuplicates(comparisonStrategy, actualAsList, list(expectedValues))) return;
 
     // after the for loop, unexpected = expectedValues - actual
     List<Object> unexpectedValues = newArrayList(actualAsList);
@@ -432,6 +464,22 @@ public class Iterables {
     // check for elements in values that are missing in actual.
     Set<Object> notFound = new LinkedHashSet<>();
     Set<Object> notOnlyOnce = new LinkedHashSet<>();
+    if (HashMultiset.isSupportedBy(comparisonStrategy)) {
+      HashMultiset actualElements = HashMultiset.of(actual);
+      for (Object expectedOnlyOnce : values) {
+        int occurrences = actualElements.count(expectedOnlyOnce);
+        if (occurrences == 0) notFound.add(expectedOnlyOnce);
+        else if (occurrences > 1) notOnlyOnce.add(expectedOnlyOnce);
+      }
+    } else {
+      checkOnlyOnceOccurrences(actual, values, notFound, notOnlyOnce);
+    }
+    if (!notFound.isEmpty() || !notOnlyOnce.isEmpty())
+      throw failures.failure(info, shouldContainsOnlyOnce(actual, values, notFound, notOnlyOnce, comparisonStrategy));
+    // assertion succeeded
+  }
+
+  private void checkOnlyOnceOccurrences(Iterable<?> actual, Object[] values, Set<Object> notFound, Set<Object> notOnlyOnce) {
     Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(actual);
     for (Object expectedOnlyOnce : values) {
       if (!iterableContains(actual, expectedOnlyOnce)) {
@@ -440,9 +488,6 @@ public class Iterables {
         notOnlyOnce.add(expectedOnlyOnce);
       }
     }
-    if (!notFound.isEmpty() || !notOnlyOnce.isEmpty())
-      throw failures.failure(info, shouldContainsOnlyOnce(actual, values, notFound, notOnlyOnce, comparisonStrategy));
-    // assertion succeeded
   }
 
   /**
@@ -479,45 +524,17 @@ public class Iterables {
     // perform the checks that would have been done in commonCheckThatIterableAssertionSucceeds but do them explicitly without
     // having to create a new iterator on actual - which would break if actual were only singly-traversable.
     checkNotNullIterables(info, actual, sequence);
-    // store the elements from actual that have been visited (because we don't know we can look ahead - the 'actual'
-    // might be singly-traversable) in a fixed-length LIFO having what is in effect a sliding window.
-    // So we store each element and slide for each new element until a match is found or until the 'actual' is
-    // exhausted. Of course if 'actual' really is infinite then this could take a while :-D
+    // actual is iterated once as it might be singly-traversable.
     final Iterator<?> actualIterator = actual.iterator();
     if (!actualIterator.hasNext() && sequence.length == 0) return;
     failIfEmptySinceActualIsNotEmpty(info, failures, actual, sequence);
-    // we only store sequence.length entries from actual in the LIFO, no need for more.
-    Lifo lifo = new Lifo(sequence.length);
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(sequence, comparisonStrategy);
     while (actualIterator.hasNext()) {
-      lifo.add(actualIterator.next());
-      if (lifo.matchesExactly(sequence)) return;
+      if (sequenceMatcher.accept(actualIterator.next())) return;
     }
     throw actualDoesNotContainSequence(info, actual, sequence);
   }
 
-  private class Lifo {
-    private final int maxSize;
-    private final LinkedList<Object> stack;
-
-    Lifo(int maxSize) {
-      this.maxSize = maxSize;
-      stack = new LinkedList<>();
-    }
-
-    void add(final Object element) {
-      if (stack.size() == maxSize) stack.removeFirst();
-      stack.addLast(element);
-    }
-
-    boolean matchesExactly(Object[] sequence) {
-      if (stack.size() != sequence.length) return false;
-      for (int i = 0; i < sequence.length; i++) {
-        if (!areEqual(stack.get(i), sequence[i])) return false;
-      }
-      return true;
-    }
-  }
-
   /**
    * Verifies that the given <code>{@link Iterable}</code> does not contain the given sequence of objects in order.
    *
@@ -533,14 +550,8 @@ public class Iterables {
     requireNonNull(sequence, nullSequence());
     checkIsNotEmptySequence(sequence);
     assertNotNull(info, actual);
-    // check for elements in values that are missing in actual.
-    List<?> actualAsList = newArrayList(actual);
-    for (int index = 0; index < actualAsList.size(); index++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, index)) {
-        throw actualDoesContainSequence(info, actual, sequence, index);
-      }
-    }
+    int index = SequenceMatcher.indexOf(actual, sequence, comparisonStrategy);
+    if (index >= 0) throw actualDoesContainSequence(info, actual, sequence, index);
   }
 
   /**
@@ -620,28 +631,15 @@ public class Iterables {
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = stream(actual).filter(actualElement -> !iterableContains(values, actualElement))
+    if (SortedMerge.isSupportedBy(comparisonStrategy)
+        && SortedMerge.containsAll(comparisonStrategy, newArrayList(values), newArrayList(actual))) return;
+    Predicate<Object> isValue = HashMultiset.isSupportedBy(comparisonStrategy) ? HashMultiset.of(values)::contains
+        : actualElement -> iterableContains(values, actualElement);
+    List<Object> extra = stream(actual).filter(isValue.negate())
                                        .collect(toList());
     if (!extra.isEmpty()) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
-  /**
-   * Return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   *
-   * @param actualAsList the list to look sequence in
-   * @param sequence the sequence to look for
-   * @param startingIndex the index of actual list at which we start looking for sequence.
-   * @return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(List<?> actualAsList, Object[] sequence, int startingIndex) {
-    // check that, starting from given index, actualAsList has enough remaining elements to contain sequence
-    if (actualAsList.size() - startingIndex < sequence.length) return false;
-    for (int i = 0; i < sequence.length; i++) {
-      if (!areEqual(actualAsList.get(startingIndex + i), sequence[i])) return false;
-    }
-    return true;
-  }
-
   private boolean areEqual(Object actual, Object other) {
     return comparisonStrategy.areEqual(actual, other);
   }
@@ -679,8 +677,15 @@ public class Iterables {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, actual);
     Set<Object> found = new LinkedHashSet<>();
-    for (Object o : values) {
-      if (iterableContains(actual, o)) found.add(o);
+    if (HashMultiset.isSupportedBy(comparisonStrategy)) {
+      HashMultiset actualElements = HashMultiset.of(actual);
+      for (Object o : values) {
+        if (actualElements.contains(o)) found.add(o);
+      }
+    } else {
+      for (Object o : values) {
+        if (iterableContains(actual, o)) found.add(o);
+      }
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(actual, values, found, comparisonStrategy));
   }
@@ -786,17 +791,7 @@ public class Iterables {
    */
   public void assertEndsWith(AssertionInfo info, Iterable<?> actual, Object[] sequence) {
     checkNotNullIterables(info, actual, sequence);
-
-    int sizeOfActual = sizeOf(actual);
-    if (sizeOfActual < sequence.length) throw actualDoesNotEndWithSequence(info, actual, sequence);
-
-    int start = sizeOfActual - sequence.length;
-    int sequenceIndex = 0, indexOfActual = 0;
-    for (Object actualElement : actual) {
-      if (indexOfActual++ < start) continue;
-      if (areEqual(actualElement, sequence[sequenceIndex++])) continue;
-      throw actualDoesNotEndWithSequence(info, actual, sequence);
-    }
+    if (!SequenceMatcher.endsWith(actual, sequence, comparisonStrategy)) throw actualDoesNotEndWithSequence(info, actual, sequence);
   }
 
   private boolean commonCheckThatIterableAssertionSucceeds(AssertionInfo info, Failures failures, Iterable<?> actual,
@@ -1180,9 +1175,10 @@ public class Iterables {
     assertNotNull(info, actual);
     requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
 
-    List<UnsatisfiedRequirement> unsatisfiedRequirements = stream(actual).map(element -> failsRequirements(requirements, element))
-                                                                         .flatMap(Optional::stream)
-                                                                         .collect(toList());
+    Stream<? extends E> elements = elementsOf(actual);
+    List<UnsatisfiedRequirement> unsatisfiedRequirements = elements.map(element -> failsRequirements(requirements, element))
+                                                                   .flatMap(Optional::stream)
+                                                                   .collect(toList());
     if (!unsatisfiedRequirements.isEmpty())
       throw failures.failure(info, elementsShouldSatisfy(actual, unsatisfiedRequirements, info));
   }
@@ -1221,53 +1217,42 @@ public class Iterables {
       requireNonNull(consumer, "Elements in the Consumer<? super E>... expressing the assertions must not be null");
 
     checkSizes(actual, sizeOf(actual), consumers.length, info);
-    Deque<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer = satisfiedElementsPerConsumer(actual, consumers);
+    List<? extends E> actualElements = newArrayList(actual);
+    List<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer = satisfiedElementsPerConsumer(actualElements, consumers);
     // fail fast check
     boolean someRequirementsAreNotMet = satisfiedElementsPerConsumer.stream().anyMatch(e -> e.getElements().isEmpty());
     if (someRequirementsAreNotMet) throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual));
 
-    if (!areAllConsumersSatisfied(satisfiedElementsPerConsumer))
+    if (!areAllConsumersSatisfied(satisfiedElementsPerConsumer, actualElements.size()))
       throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual));
   }
 
   public <E> void assertSatisfiesOnlyOnce(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements) {
     assertNotNull(info, actual);
     requireNonNull(requirements, "The Consumer<? super E> expressing the requirements must not be null");
-    List<? extends E> satisfiedElements = stream(actual).filter(byPassingAssertions(requirements))
-                                                        .collect(toList());
+    List<? extends E> satisfiedElements = elementsOf(actual).filter(byPassingAssertions(requirements))
+                                                            .collect(toList());
     if (satisfiedElements.size() != 1) {
       throw failures.failure(info, shouldSatisfyOnlyOnce(actual, satisfiedElements));
     }
   }
 
   @SafeVarargs
-  private static <E> Deque<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer(Iterable<? extends E> actual,
-                                                                                       Consumer<? super E>... consumers) {
+  private static <E> List<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer(List<? extends E> actual,
+                                                                                      Consumer<? super E>... consumers) {
     return stream(consumers).map(consumer -> new ElementsSatisfyingConsumer<E>(actual, consumer))
-                            .collect(toCollection(ArrayDeque::new));
+                            .collect(toList());
   }
 
-  private static <E> boolean areAllConsumersSatisfied(Queue<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer) {
-    // recursively test whether we can find any specific matching permutation that can meet the requirements
-    if (satisfiedElementsPerConsumer.isEmpty()) return true; // all consumers have been satisfied
-
-    // pop the head (i.e., elements satisfying the current consumer), process the tail (i.e., remaining consumers)...
-    ElementsSatisfyingConsumer<E> head = satisfiedElementsPerConsumer.remove();
-    List<E> elementsSatisfyingCurrentConsumer = head.getElements();
-    if (elementsSatisfyingCurrentConsumer.isEmpty()) return false;   // no element satisfies current consumer
-    // if we remove an element satisfying the current consumer from all remaining consumers, will other elements still satisfy
-    // the remaining consumers?
-    return elementsSatisfyingCurrentConsumer.stream()
-                                            .map(element -> removeElement(satisfiedElementsPerConsumer, element))
-                                            .anyMatch(Iterables::areAllConsumersSatisfied);
-  }
-
-  private static <E> Queue<ElementsSatisfyingConsumer<E>> removeElement(Queue<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer,
-                                                                        E element) {
-    // new Queue of ElementsSatisfyingConsumer without the given element, original ElementsSatisfyingConsumer are not modified.
-    return satisfiedElementsPerConsumer.stream()
-                                       .map(elementsSatisfyingConsumer -> elementsSatisfyingConsumer.withoutElement(element))
-                                       .collect(toCollection(ArrayDeque::new));
+  private static <E> boolean areAllConsumersSatisfied(List<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer,
+                                                      int numberOfElements) {
+    // each consumer must be assigned a distinct element satisfying it, this is a perfect matching of the bipartite graph
+    // linking consumers to the elements satisfying them
+    int[][] satisfiedElementIndicesPerConsumer = satisfiedElementsPerConsumer.stream()
+                                                                             .map(ElementsSatisfyingConsumer::getElementIndices)
+                                                                             .toArray(int[][]::new);
+    int maximumMatchingSize = BipartiteMatching.maximumMatchingSize(satisfiedElementIndicesPerConsumer, numberOfElements);
+    return maximumMatchingSize == satisfiedElementsPerConsumer.size();
   }
 
   public <ACTUAL_ELEMENT, OTHER_ELEMENT> void assertZipSatisfy(AssertionInfo info,
@@ -1328,9 +1313,9 @@ public class Iterables {
   public <E> void assertNoneSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> restrictions) {
     assertNotNull(info, actual);
     requireNonNull(restrictions, "The Consumer<T> expressing the restrictions must not be null");
-    List<E> erroneousElements = stream(actual).map(element -> failsRestrictions(element, restrictions))
-                                              .flatMap(Optional::stream)
-                                              .collect(toList());
+    List<E> erroneousElements = elementsOf(actual).map(element -> failsRestrictions(element, restrictions))
+                                                  .flatMap(Optional::stream)
+                                                  .collect(toList());
     if (!erroneousElements.isEmpty()) throw failures.failure(info, noElementsShouldSatisfy(actual, erroneousElements));
   }
 
@@ -1380,6 +1365,13 @@ public class Iterables {
     if (commonCheckThatIterableAssertionSucceeds(info, failures, actual, values))
       return;
 
+    if (HashMultiset.isSupportedBy(comparisonStrategy)) {
+      HashMultiset valuesToSearchFor = HashMultiset.of(list(values));
+      for (Object element : actual) {
+        if (valuesToSearchFor.contains(element)) return;
+      }
+      throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
+    }
     Iterable<Object> valuesToSearchFor = newArrayList(values);
     for (Object element : actual) {
       if (iterableContains(valuesToSearchFor, element)) return;
@@ -1390,6 +1382,14 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
+    if (HashMultiset.isSupportedBy(comparisonStrategy)) {
+      IterableDiff<Object> diff = diff(newArrayList(actual), list(values), comparisonStrategy);
+      if (!diff.differencesFound()) return;
+      throw failures.failure(info,
+                             shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected, comparisonStrategy));
+    }
+    if (SortedMerge.isSupportedBy(comparisonStrategy)
+        && SortedMerge.haveSameElements(comparisonStrategy, newArrayList(actual), list(values))) return;
     List<Object> notExpected = newArrayList(actual);
     List<Object> notFound = newArrayList(values);
 
@@ -1414,12 +1414,20 @@ public class Iterables {
     return failures.failure(info, shouldEndWith(actual, sequence, comparisonStrategy));
   }
 
+  // checked elements stay in the iteration order when the checks are performed in parallel as the streams are ordered
+  @SuppressWarnings("unchecked")
+  private <E> Stream<E> elementsOf(Iterable<? extends E> actual) {
+    if (!parallel) return stream((Iterable<E>) actual);
+    return actual instanceof Collection<? extends E> collection ? (Stream<E>) collection.parallelStream()
+        : StreamSupport.stream((Spliterator<E>) actual.spliterator(), true);
+  }
+
   private <E> List<E> notSatisfyingCondition(Iterable<? extends E> actual, Condition<? super E> condition) {
-    return stream(actual).filter(o -> !condition.matches(o)).collect(toList());
+    return elementsOf(actual).filter(o -> !condition.matches(o)).collect(toList());
   }
 
   private <E> List<E> satisfiesCondition(Iterable<? extends E> actual, Condition<? super E> condition) {
-    return stream(actual).filter(condition::matches).collect(toList());
+    return elementsOf(actual).filter(condition::matches).collect(toList());
   }
 
   public static <T> Predicate<T> byPassingAssertions(Consumer<? super T> assertions) {
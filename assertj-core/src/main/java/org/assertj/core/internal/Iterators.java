@@ -12,13 +12,32 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
 import static org.assertj.core.error.ShouldBeExhausted.shouldBeExhausted;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldContainSequence.shouldContainSequence;
 import static org.assertj.core.error.ShouldHaveNext.shouldHaveNext;
+import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThan;
+import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
 import static org.assertj.core.internal.Comparables.assertNotNull;
+import static org.assertj.core.internal.CommonValidations.checkIsNotNull;
+import static org.assertj.core.internal.CommonValidations.failIfEmptySinceActualIsNotEmpty;
+import static org.assertj.core.internal.ErrorMessages.emptySequence;
 
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.presentation.HeadTailAccumulator;
+import org.assertj.core.presentation.PredicateDescription;
+import org.assertj.core.presentation.StandardRepresentation;
 
 /**
  * Reusable assertions for <code>{@link Iterator}</code>s.
@@ -40,8 +59,21 @@ public class Iterators {
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   Failures failures = Failures.instance();
 
+  private final ComparisonStrategy comparisonStrategy;
+  private final Predicates predicates = Predicates.instance();
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
-  Iterators() {}
+  Iterators() {
+    this(StandardComparisonStrategy.instance());
+  }
+
+  public Iterators(ComparisonStrategy comparisonStrategy) {
+    this.comparisonStrategy = comparisonStrategy;
+  }
+
+  public ComparisonStrategy getComparisonStrategy() {
+    return comparisonStrategy;
+  }
 
   public void assertHasNext(AssertionInfo info, Iterator<?> actual) {
     assertNotNull(info, actual);
@@ -53,4 +85,126 @@ public class Iterators {
     if (actual.hasNext()) throw failures.failure(info, shouldBeExhausted());
   }
 
+  // The following assertions read the iterator elements once and stop as soon as the assertion result is known, the error
+  // messages describe the elements read (only the first and last ones if there are too many to be represented).
+
+  public <E> void assertAllMatch(AssertionInfo info, Iterator<? extends E> actual, Predicate<? super E> predicate,
+                                 PredicateDescription predicateDescription) {
+    assertNotNull(info, actual);
+    predicates.assertIsNotNull(predicate);
+    ElementsReader<E> elements = new ElementsReader<>(actual);
+    while (elements.hasNext()) {
+      E element = elements.next();
+      if (!predicate.test(element))
+        throw failures.failure(info, elementsShouldMatch(elements.readElements(), element, predicateDescription));
+    }
+  }
+
+  public <E> void assertAnyMatch(AssertionInfo info, Iterator<? extends E> actual, Predicate<? super E> predicate,
+                                 PredicateDescription predicateDescription) {
+    assertNotNull(info, actual);
+    predicates.assertIsNotNull(predicate);
+    ElementsReader<E> elements = new ElementsReader<>(actual);
+    while (elements.hasNext()) {
+      if (predicate.test(elements.next())) return;
+    }
+    throw failures.failure(info, anyElementShouldMatch(elements.readElements(), predicateDescription));
+  }
+
+  public <E> void assertNoneMatch(AssertionInfo info, Iterator<? extends E> actual, Predicate<? super E> predicate,
+                                  PredicateDescription predicateDescription) {
+    assertNotNull(info, actual);
+    predicates.assertIsNotNull(predicate);
+    ElementsReader<E> elements = new ElementsReader<>(actual);
+    while (elements.hasNext()) {
+      E element = elements.next();
+      if (predicate.test(element))
+        throw failures.failure(info, noElementsShouldMatch(elements.readElements(), element, predicateDescription));
+    }
+  }
+
+  public void assertContains(AssertionInfo info, Iterator<?> actual, Object[] values) {
+    assertNotNull(info, actual);
+    checkIsNotNull(values);
+    ElementsReader<?> elements = new ElementsReader<>(actual);
+    if (values.length == 0) {
+      if (!elements.hasNext()) return;
+      elements.next();
+      failIfEmptySinceActualIsNotEmpty(info, failures, elements.readElements(), values);
+    }
+    Set<Object> notFound = new LinkedHashSet<>(java.util.Arrays.asList(values));
+    while (!notFound.isEmpty() && elements.hasNext()) {
+      Object element = elements.next();
+      notFound.removeIf(value -> comparisonStrategy.areEqual(element, value));
+    }
+    if (!notFound.isEmpty())
+      throw failures.failure(info, shouldContain(elements.readElements(), values, notFound, comparisonStrategy));
+  }
+
+  public void assertStartsWith(AssertionInfo info, Iterator<?> actual, Object[] sequence) {
+    assertNotNull(info, actual);
+    checkIsNotNull(sequence);
+    ElementsReader<?> elements = new ElementsReader<>(actual);
+    for (Object expected : sequence) {
+      if (!elements.hasNext() || !comparisonStrategy.areEqual(elements.next(), expected))
+        throw failures.failure(info, shouldStartWith(elements.readElements(), sequence, comparisonStrategy));
+    }
+  }
+
+  public void assertContainsSequence(AssertionInfo info, Iterator<?> actual, Object[] sequence) {
+    assertNotNull(info, actual);
+    checkIsNotNull(sequence);
+    if (sequence.length == 0) throw new IllegalArgumentException(emptySequence());
+    ElementsReader<?> elements = new ElementsReader<>(actual);
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(sequence, comparisonStrategy);
+    while (elements.hasNext()) {
+      if (sequenceMatcher.accept(elements.next())) return;
+    }
+    throw failures.failure(info, shouldContainSequence(elements.readElements(), sequence, comparisonStrategy));
+  }
+
+  public void assertHasSizeLessThan(AssertionInfo info, Iterator<?> actual, int boundary) {
+    assertNotNull(info, actual);
+    // no size is less than a boundary <= 0, even an empty iterator's one
+    if (boundary <= 0) throw failures.failure(info, shouldHaveSizeLessThan(emptyList(), boundary));
+    ElementsReader<?> elements = new ElementsReader<>(actual);
+    int size = 0;
+    while (elements.hasNext()) {
+      elements.next();
+      if (++size >= boundary) throw failures.failure(info, shouldHaveSizeLessThan(elements.readElements(), boundary));
+    }
+  }
+
+  /**
+   * Reads the elements of an iterator, keeping only the first and last ones to describe the elements read in error messages.
+   */
+  private static final class ElementsReader<E> implements Iterator<E> {
+
+    private final Iterator<? extends E> iterator;
+    private final HeadTailAccumulator<E> readElements;
+
+    private ElementsReader(Iterator<? extends E> iterator) {
+      this.iterator = iterator;
+      // keep one more element than what can be represented so that the representation shows that some were skipped
+      int capacity = StandardRepresentation.getMaxElementsForPrinting() / 2 + 1;
+      this.readElements = new HeadTailAccumulator<>(capacity, capacity);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public E next() {
+      E element = iterator.next();
+      readElements.add(element);
+      return element;
+    }
+
+    private List<E> readElements() {
+      return readElements.stream().collect(toList());
+    }
+  }
+
 }
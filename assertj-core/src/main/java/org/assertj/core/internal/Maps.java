@@ -56,6 +56,8 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -473,6 +475,15 @@ public class Maps {
   private static <V> Set<V> getNotFoundValues(Map<?, V> actual, V[] expectedValues) {
     // Stream API avoided for performance reasons
     Set<V> notFound = new LinkedHashSet<>();
+    // containsValue scans the whole map, index the values once when looking up several of them, except for IdentityHashMap
+    // that does not compare its values with equals
+    if (expectedValues.length > 1 && !(actual instanceof IdentityHashMap)) {
+      Set<V> actualValues = new HashSet<>(actual.values());
+      for (V expectedValue : expectedValues) {
+        if (!actualValues.contains(expectedValue)) notFound.add(expectedValue);
+      }
+      return notFound;
+    }
     for (V expectedValue : expectedValues) {
       if (!containsValue(actual, expectedValue)) notFound.add(expectedValue);
     }
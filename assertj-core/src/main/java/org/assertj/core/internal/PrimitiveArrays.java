@@ -0,0 +1,378 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.reflect.Array.getLength;
+
+/**
+ * Kernels for the assertions on primitive arrays with the {@link StandardComparisonStrategy}, they read the elements directly
+ * instead of boxing them with {@link java.lang.reflect.Array#get(Object, int)} and don't allocate anything per element.
+ * <p>
+ * Elements are compared through a {@code long} key honoring the equality of their wrapper type, for example
+ * {@link Double#equals(Object)} which considers {@code NaN} equal to itself and {@code 0.0} different from {@code -0.0}.
+ * <p>
+ * The kernels are mostly used to tell that an assertion succeeds, when it fails the assertions use their element by element
+ * algorithm to describe the differences.
+ */
+final class PrimitiveArrays {
+
+  private PrimitiveArrays() {}
+
+  /**
+   * Returns true if the kernels can be used, i.e. if the comparison strategy is the standard one and both arrays are primitive
+   * arrays of the same type.
+   *
+   * @param comparisonStrategy the comparison strategy of the assertion
+   * @param actual the actual array
+   * @param other the array of values to look for
+   * @return true if the kernels can be used.
+   */
+  static boolean isSupportedBy(ComparisonStrategy comparisonStrategy, Object actual, Object other) {
+    return comparisonStrategy.isStandard()
+           && actual.getClass() == other.getClass()
+           && actual.getClass().getComponentType().isPrimitive();
+  }
+
+  /**
+   * Returns the number of occurrences in actual of each of the given values.
+   *
+   * @param actual the actual array
+   * @param values the values to count
+   * @return the number of occurrences in actual of the value at the same index.
+   */
+  static int[] occurrencesOf(Object actual, Object values) {
+    int valuesLength = getLength(values);
+    KeyCounts actualOccurrences = keyCountsOf(values);
+    int actualLength = getLength(actual);
+    for (int i = 0; i < actualLength; i++) {
+      actualOccurrences.incrementIfRegistered(keyAt(actual, i));
+    }
+    int[] occurrences = new int[valuesLength];
+    for (int i = 0; i < valuesLength; i++) {
+      occurrences[i] = actualOccurrences.count(keyAt(values, i));
+    }
+    return occurrences;
+  }
+
+  /**
+   * Returns true if each actual element is equal to one of the values and vice versa, duplicates are ignored.
+   *
+   * @param actual the actual array
+   * @param values the expected values
+   * @return true if actual and values have the same elements ignoring duplicates.
+   */
+  static boolean haveSameElementsIgnoringDuplicates(Object actual, Object values) {
+    KeyCounts actualOccurrences = keyCountsOf(values);
+    int actualLength = getLength(actual);
+    for (int i = 0; i < actualLength; i++) {
+      if (!actualOccurrences.incrementIfRegistered(keyAt(actual, i))) return false;
+    }
+    return actualOccurrences.haveAllRegisteredKeysBeenCounted();
+  }
+
+  /**
+   * Returns true if actual and values have the same elements with the same number of occurrences, in any order.
+   *
+   * @param actual the actual array
+   * @param values the expected values
+   * @return true if actual and values have the same elements with the same number of occurrences.
+   */
+  static boolean haveSameElements(Object actual, Object values) {
+    int length = getLength(actual);
+    if (length != getLength(values)) return false;
+    KeyCounts valuesOccurrences = keyCountsOf(values);
+    for (int i = 0; i < length; i++) {
+      valuesOccurrences.incrementIfRegistered(keyAt(values, i));
+    }
+    for (int i = 0; i < length; i++) {
+      if (!valuesOccurrences.decrement(keyAt(actual, i))) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if some values are found in actual.
+   *
+   * @param actual the actual array
+   * @param values the values to look for
+   * @return true if at least one of the values is found in actual.
+   */
+  static boolean containsAnyOf(Object actual, Object values) {
+    KeyCounts valuesToLookFor = keyCountsOf(values);
+    int actualLength = getLength(actual);
+    for (int i = 0; i < actualLength; i++) {
+      if (valuesToLookFor.isRegistered(keyAt(actual, i))) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns true if the given array has at least two equal elements.
+   *
+   * @param array the array to check
+   * @return true if the given array has duplicates.
+   */
+  static boolean hasDuplicates(Object array) {
+    return keyCountsOf(array).registeredKeys < getLength(array);
+  }
+
+  /**
+   * Returns true if actual contains the given sequence starting at the given index.
+   *
+   * @param actual the actual array
+   * @param sequence the sequence to look for
+   * @param index the index of actual where the sequence should start
+   * @return true if the sequence is found at the given index.
+   */
+  static boolean containsSequenceAt(Object actual, Object sequence, int index) {
+    int sequenceLength = getLength(sequence);
+    if (index < 0 || index + sequenceLength > getLength(actual)) return false;
+    for (int i = 0; i < sequenceLength; i++) {
+      if (keyAt(actual, index + i) != keyAt(sequence, i)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given sequence in actual, found with the Knuth-Morris-Pratt algorithm in
+   * O(n + k).
+   *
+   * @param actual the actual array
+   * @param sequence the non-empty sequence to look for
+   * @return the index of the first occurrence of the sequence in actual or -1 if there is none.
+   */
+  static int indexOfSequence(Object actual, Object sequence) {
+    int actualLength = getLength(actual);
+    int sequenceLength = getLength(sequence);
+    if (actualLength < sequenceLength) return -1;
+    // for each sequence prefix, the length of its longest proper prefix that is also a suffix
+    int[] prefixFunction = new int[sequenceLength];
+    for (int i = 1, matched = 0; i < sequenceLength; i++) {
+      long key = keyAt(sequence, i);
+      while (matched > 0 && key != keyAt(sequence, matched)) matched = prefixFunction[matched - 1];
+      if (key == keyAt(sequence, matched)) matched++;
+      prefixFunction[i] = matched;
+    }
+    for (int i = 0, matched = 0; i < actualLength; i++) {
+      long key = keyAt(actual, i);
+      while (matched > 0 && key != keyAt(sequence, matched)) matched = prefixFunction[matched - 1];
+      if (key == keyAt(sequence, matched)) matched++;
+      if (matched == sequenceLength) return i - sequenceLength + 1;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the first element of the given array greater than the next one, elements are compared like their
+   * wrapper type does, for example with {@link Double#compare(double, double)}.
+   *
+   * @param array the array to check
+   * @return the index of the first element greater than the next one or -1 if the array is sorted.
+   */
+  static int indexOfFirstUnsortedElement(Object array) {
+    int length = getLength(array);
+    for (int i = 0; i < length - 1; i++) {
+      if (compare(array, i, i + 1) > 0) return i;
+    }
+    return -1;
+  }
+
+  private static int compare(Object array, int index, int otherIndex) {
+    if (array instanceof int[] ints) return Integer.compare(ints[index], ints[otherIndex]);
+    if (array instanceof long[] longs) return Long.compare(longs[index], longs[otherIndex]);
+    if (array instanceof double[] doubles) return Double.compare(doubles[index], doubles[otherIndex]);
+    if (array instanceof float[] floats) return Float.compare(floats[index], floats[otherIndex]);
+    if (array instanceof char[] chars) return Character.compare(chars[index], chars[otherIndex]);
+    if (array instanceof byte[] bytes) return Byte.compare(bytes[index], bytes[otherIndex]);
+    if (array instanceof short[] shorts) return Short.compare(shorts[index], shorts[otherIndex]);
+    boolean[] booleans = (boolean[]) array;
+    return Boolean.compare(booleans[index], booleans[otherIndex]);
+  }
+
+  // two elements of arrays of the same primitive type are equal (according to their wrapper type) iff their keys are equal
+  private static long keyAt(Object array, int index) {
+    if (array instanceof int[] ints) return ints[index];
+    if (array instanceof long[] longs) return longs[index];
+    if (array instanceof double[] doubles) return Double.doubleToLongBits(doubles[index]);
+    if (array instanceof float[] floats) return Float.floatToIntBits(floats[index]);
+    if (array instanceof char[] chars) return chars[index];
+    if (array instanceof byte[] bytes) return bytes[index];
+    if (array instanceof short[] shorts) return shorts[index];
+    return ((boolean[]) array)[index] ? 1 : 0;
+  }
+
+  // registers the keys of the elements of the given array
+  private static KeyCounts keyCountsOf(Object array) {
+    return getLength(array) <= HashedKeyCounts.MAXIMUM_KEYS ? new HashedKeyCounts(array) : new SortedKeyCounts(array);
+  }
+
+  /**
+   * Counts the occurrences of keys registered beforehand, a key is either registered (possibly with a zero count) or not.
+   */
+  private abstract static class KeyCounts {
+
+    int registeredKeys;
+    // registered keys incremented at least once, decrements are not taken into account
+    int countedKeys;
+
+    abstract boolean isRegistered(long key);
+
+    abstract boolean incrementIfRegistered(long key);
+
+    abstract boolean decrement(long key);
+
+    abstract int count(long key);
+
+    boolean haveAllRegisteredKeysBeenCounted() {
+      return countedKeys == registeredKeys;
+    }
+
+  }
+
+  /**
+   * Open addressing hash table counting keys.
+   * <p>
+   * Each slot stores its key followed by its state in the same array so that a lookup only reads one cache line, the state is
+   * 0 for an empty slot or the key count + 1 for a registered key.
+   */
+  private static final class HashedKeyCounts extends KeyCounts {
+
+    // the table takes up to 43 bytes per key (16 bytes per slot, at most 75% full and rounded up to a power of two),
+    // SortedKeyCounts is used beyond this number of keys to cap the memory
+    private static final int MAXIMUM_KEYS = 1 << 16;
+
+    private final long[] table;
+    private final int mask;
+
+    private HashedKeyCounts(Object array) {
+      int length = getLength(array);
+      // keep the table at most 75% full
+      int minimumCapacity = Math.max(16, length + length / 3 + 1);
+      int capacity = Integer.highestOneBit(minimumCapacity - 1) << 1;
+      table = new long[2 * capacity];
+      mask = capacity - 1;
+      for (int i = 0; i < length; i++) {
+        register(keyAt(array, i));
+      }
+    }
+
+    // index of the key in the table, its state is at the next index
+    private int indexOf(long key) {
+      // murmur3 finalizer, mixes all the key bits since double keys mostly differ by their high bits
+      long hash = (key ^ (key >>> 33)) * 0xFF51AFD7ED558CCDL;
+      hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+      int slot = (int) (hash ^ (hash >>> 33)) & mask;
+      for (int probes = 0; table[2 * slot + 1] != 0 && table[2 * slot] != key; probes++) {
+        // can't happen as the table is sized for the registered keys, but never probe forever
+        if (probes > mask) throw new IllegalStateException("The key table is full");
+        slot = (slot + 1) & mask;
+      }
+      return 2 * slot;
+    }
+
+    private void register(long key) {
+      int index = indexOf(key);
+      if (table[index + 1] == 0) {
+        table[index] = key;
+        table[index + 1] = 1;
+        registeredKeys++;
+      }
+    }
+
+    @Override
+    boolean isRegistered(long key) {
+      return table[indexOf(key) + 1] != 0;
+    }
+
+    @Override
+    boolean incrementIfRegistered(long key) {
+      int index = indexOf(key);
+      if (table[index + 1] == 0) return false;
+      if (table[index + 1]++ == 1) countedKeys++;
+      return true;
+    }
+
+    @Override
+    boolean decrement(long key) {
+      int index = indexOf(key);
+      if (table[index + 1] <= 1) return false;
+      table[index + 1]--;
+      return true;
+    }
+
+    @Override
+    int count(long key) {
+      long state = table[indexOf(key) + 1];
+      return state == 0 ? 0 : (int) (state - 1);
+    }
+
+  }
+
+  /**
+   * Sorted copy of the distinct keys with their counts at the same index, keys are looked up with a binary search.
+   * <p>
+   * Slower than {@link HashedKeyCounts} but takes at most 12 bytes per key.
+   */
+  private static final class SortedKeyCounts extends KeyCounts {
+
+    private final long[] keys;
+    private final int[] counts;
+
+    private SortedKeyCounts(Object array) {
+      int length = getLength(array);
+      long[] sortedKeys = new long[length];
+      for (int i = 0; i < length; i++) {
+        sortedKeys[i] = keyAt(array, i);
+      }
+      java.util.Arrays.sort(sortedKeys);
+      for (int i = 0; i < length; i++) {
+        if (registeredKeys == 0 || sortedKeys[i] != sortedKeys[registeredKeys - 1]) sortedKeys[registeredKeys++] = sortedKeys[i];
+      }
+      keys = sortedKeys;
+      counts = new int[registeredKeys];
+    }
+
+    private int indexOf(long key) {
+      return java.util.Arrays.binarySearch(keys, 0, registeredKeys, key);
+    }
+
+    @Override
+    boolean isRegistered(long key) {
+      return indexOf(key) >= 0;
+    }
+
+    @Override
+    boolean incrementIfRegistered(long key) {
+      int index = indexOf(key);
+      if (index < 0) return false;
+      if (counts[index]++ == 0) countedKeys++;
+      return true;
+    }
+
+    @Override
+    boolean decrement(long key) {
+      int index = indexOf(key);
+      if (index < 0 || counts[index] == 0) return false;
+      counts[index]--;
+      return true;
+    }
+
+    @Override
+    int count(long key) {
+      int index = indexOf(key);
+      return index < 0 ? 0 : counts[index];
+    }
+
+  }
+
+}
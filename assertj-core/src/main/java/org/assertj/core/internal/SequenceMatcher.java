@@ -0,0 +1,158 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Looks for a sequence in elements given one at a time, it is used by the sequence assertions of iterables and arrays.
+ * <p>
+ * With the standard comparison strategy, the elements are matched with the Knuth-Morris-Pratt algorithm which compares
+ * each element a constant number of times on average and does not need to keep the previous elements, the search is then
+ * O(n + k) for n elements and a sequence of k elements.
+ * <p>
+ * Custom comparison strategies can't rely on the sequence elements being equal to one another since their equality is not
+ * necessarily transitive (like comparators with a tolerance), the last k elements are then kept in a circular buffer and
+ * compared to the sequence, this is O(n * k).
+ * <p>
+ * Elements are compared with {@code comparisonStrategy.areEqual(element, sequenceElement)}.
+ */
+final class SequenceMatcher {
+
+  private final Object[] sequence;
+  private final ComparisonStrategy comparisonStrategy;
+  // KMP: for each sequence prefix, the length of its longest proper prefix that is also a suffix, null if not used
+  private final int[] prefixFunction;
+  private final ElementsWindow lastElements;
+  private int matchedLength;
+  private int acceptedElements;
+
+  SequenceMatcher(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    this.sequence = sequence;
+    this.comparisonStrategy = comparisonStrategy;
+    // Knuth-Morris-Pratt relies on a transitive equality
+    if (comparisonStrategy.isStandard()) {
+      prefixFunction = prefixFunctionOf(sequence, comparisonStrategy);
+      lastElements = null;
+    } else {
+      prefixFunction = null;
+      lastElements = new ElementsWindow(sequence.length);
+    }
+  }
+
+  private static int[] prefixFunctionOf(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    int[] prefixFunction = new int[sequence.length];
+    int length = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (length > 0 && !comparisonStrategy.areEqual(sequence[i], sequence[length])) {
+        length = prefixFunction[length - 1];
+      }
+      if (comparisonStrategy.areEqual(sequence[i], sequence[length])) length++;
+      prefixFunction[i] = length;
+    }
+    return prefixFunction;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the sequence in the given elements, the elements are iterated once and only
+   * up to the end of the first occurrence.
+   *
+   * @param elements the elements to look the sequence in
+   * @param sequence the non empty sequence to look for
+   * @param comparisonStrategy the comparison strategy used to compare the elements
+   * @return the index of the first occurrence of the sequence or -1 if it was not found.
+   */
+  static int indexOf(Iterable<?> elements, Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(sequence, comparisonStrategy);
+    for (Object element : elements) {
+      if (sequenceMatcher.accept(element)) return sequenceMatcher.matchStartIndex();
+    }
+    return -1;
+  }
+
+  /**
+   * Returns true if the given elements end with the sequence, the elements are iterated once.
+   *
+   * @param elements the elements to check
+   * @param sequence the sequence to look for
+   * @param comparisonStrategy the comparison strategy used to compare the elements
+   * @return true if the given elements end with the sequence.
+   */
+  static boolean endsWith(Iterable<?> elements, Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    ElementsWindow lastElements = new ElementsWindow(sequence.length);
+    for (Object element : elements) {
+      lastElements.add(element);
+    }
+    return lastElements.matches(sequence, comparisonStrategy);
+  }
+
+  /**
+   * Accepts the next element and returns true if the accepted elements end with the sequence.
+   *
+   * @param element the next element
+   * @return true if the accepted elements end with the sequence.
+   */
+  boolean accept(Object element) {
+    acceptedElements++;
+    if (prefixFunction == null) {
+      lastElements.add(element);
+      return lastElements.matches(sequence, comparisonStrategy);
+    }
+    while (matchedLength > 0 && !comparisonStrategy.areEqual(element, sequence[matchedLength])) {
+      matchedLength = prefixFunction[matchedLength - 1];
+    }
+    if (comparisonStrategy.areEqual(element, sequence[matchedLength])) matchedLength++;
+    if (matchedLength < sequence.length) return false;
+    // keep looking for the following occurrences, they may overlap
+    matchedLength = prefixFunction[matchedLength - 1];
+    return true;
+  }
+
+  /**
+   * Returns the index of the first element of the sequence occurrence ending with the last accepted element.
+   *
+   * @return the index of the first element of the last found occurrence.
+   */
+  int matchStartIndex() {
+    return acceptedElements - sequence.length;
+  }
+
+  /**
+   * The last elements of a sequence of elements in a circular buffer, used when the elements can be iterated only once.
+   */
+  private static final class ElementsWindow {
+
+    private final Object[] elements;
+    private int next;
+    private int size;
+
+    private ElementsWindow(int capacity) {
+      elements = new Object[capacity];
+    }
+
+    private void add(Object element) {
+      if (elements.length == 0) return;
+      elements[next] = element;
+      next = (next + 1) % elements.length;
+      if (size < elements.length) size++;
+    }
+
+    private boolean matches(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+      if (size != sequence.length) return false;
+      // when the window is full, next is the index of the oldest element
+      for (int i = 0; i < size; i++) {
+        if (!comparisonStrategy.areEqual(elements[(next + i) % elements.length], sequence[i])) return false;
+      }
+      return true;
+    }
+  }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sort and merge checks for the order-insensitive assertions using a {@link ComparatorBasedComparisonStrategy} whose
+ * comparator defines an order (see {@link ComparatorBasedComparisonStrategy#supportsOrdering()}), they run in O(n log n)
+ * instead of comparing each element to every other one.
+ * <p>
+ * These checks only tell when an assertion succeeds: they return false when they can't establish it, the assertions must
+ * then use their element by element algorithm to find the differences. This keeps the assertions correct with comparators
+ * that don't fully honor the {@link Comparator} contract since elements are only considered equal if the comparator returned 0
+ * for them. For the same reason, {@code null} elements (which the element by element algorithms don't pass to the comparator)
+ * are left to the element by element algorithms.
+ * <p>
+ * The elements are compared in the same order as the element by element algorithms, i.e. {@code compare(actual, expected)}.
+ */
+final class SortedMerge {
+
+  private SortedMerge() {}
+
+  static boolean isSupportedBy(ComparisonStrategy comparisonStrategy) {
+    return comparisonStrategy instanceof ComparatorBasedComparisonStrategy comparatorBasedComparisonStrategy
+           && comparatorBasedComparisonStrategy.supportsOrdering();
+  }
+
+  /**
+   * Returns true if each actual element can be paired with a distinct expected element it is equal to, and vice versa.
+   *
+   * @param comparisonStrategy a comparison strategy supporting ordering
+   * @param actual the actual elements
+   * @param expected the expected elements
+   * @return true if actual and expected have the same elements with the same number of occurrences, false if they don't or
+   *         if it could not be established.
+   */
+  static boolean haveSameElements(ComparisonStrategy comparisonStrategy, List<?> actual, List<?> expected) {
+    if (actual.size() != expected.size()) return false;
+    Comparator<Object> comparator = comparatorOf(comparisonStrategy);
+    List<Object> sortedActual = sortedCopy(actual, comparator);
+    List<Object> sortedExpected = sortedCopy(expected, comparator);
+    if (sortedActual == null || sortedExpected == null) return false;
+    try {
+      for (int i = 0; i < sortedActual.size(); i++) {
+        if (comparator.compare(sortedActual.get(i), sortedExpected.get(i)) != 0) return false;
+      }
+    } catch (RuntimeException e) {
+      // let the element by element algorithm report the comparator failure if it has to
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if each actual element is equal to an expected element and vice versa, duplicates are ignored.
+   *
+   * @param comparisonStrategy a comparison strategy supporting ordering
+   * @param actual the actual elements
+   * @param expected the expected elements
+   * @return true if actual and expected have the same elements ignoring duplicates, false if they don't or if it could not
+   *         be established.
+   */
+  static boolean haveSameElementsIgnoringDuplicates(ComparisonStrategy comparisonStrategy, List<?> actual, List<?> expected) {
+    Comparator<Object> comparator = comparatorOf(comparisonStrategy);
+    List<Object> sortedActual = sortedCopy(actual, comparator);
+    List<Object> sortedExpected = sortedCopy(expected, comparator);
+    if (sortedActual == null || sortedExpected == null) return false;
+    // both lists are in the same order, the elements are still compared with compare(actual, expected)
+    return containsAllSorted(sortedActual, sortedExpected, comparator)
+           && containsAllSorted(sortedExpected, sortedActual, swapArguments(comparator));
+  }
+
+  /**
+   * Returns true if each searched element is equal to an element of the container, i.e. if
+   * {@code compare(containerElement, searchedElement)} returns 0.
+   *
+   * @param comparisonStrategy a comparison strategy supporting ordering
+   * @param container the elements to look into
+   * @param searched the elements to look for
+   * @return true if all the searched elements are in the container, false if they are not or if it could not be established.
+   */
+  static boolean containsAll(ComparisonStrategy comparisonStrategy, List<?> container, List<?> searched) {
+    Comparator<Object> comparator = comparatorOf(comparisonStrategy);
+    List<Object> sortedContainer = sortedCopy(container, comparator);
+    List<Object> sortedSearched = sortedCopy(searched, comparator);
+    if (sortedContainer == null || sortedSearched == null) return false;
+    return containsAllSorted(sortedContainer, sortedSearched, comparator);
+  }
+
+  // merges the sorted elements in O(n + m)
+  private static boolean containsAllSorted(List<Object> sortedContainer, List<Object> sortedSearched,
+                                           Comparator<Object> comparator) {
+    try {
+      int containerIndex = 0;
+      for (Object searchedElement : sortedSearched) {
+        while (containerIndex < sortedContainer.size()
+               && comparator.compare(sortedContainer.get(containerIndex), searchedElement) < 0) {
+          containerIndex++;
+        }
+        if (containerIndex == sortedContainer.size()
+            || comparator.compare(sortedContainer.get(containerIndex), searchedElement) != 0) {
+          return false;
+        }
+      }
+    } catch (RuntimeException e) {
+      // let the element by element algorithm report the comparator failure if it has to
+      return false;
+    }
+    return true;
+  }
+
+  // compare(containerElement, searchedElement) becomes -compare(searchedElement, containerElement) which keeps the order
+  private static Comparator<Object> swapArguments(Comparator<Object> comparator) {
+    return (containerElement, searchedElement) -> -comparator.compare(searchedElement, containerElement);
+  }
+
+  // returns null if the elements can't be sorted
+  private static List<Object> sortedCopy(List<?> elements, Comparator<Object> comparator) {
+    if (containsNull(elements)) return null;
+    List<Object> sortedElements = new ArrayList<>(elements);
+    try {
+      sortedElements.sort(comparator);
+    } catch (RuntimeException e) {
+      // the comparator may not support comparing some elements, or may break the Comparator contract
+      return null;
+    }
+    return sortedElements;
+  }
+
+  private static boolean containsNull(List<?> elements) {
+    for (Object element : elements) {
+      if (element == null) return true;
+    }
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Comparator<Object> comparatorOf(ComparisonStrategy comparisonStrategy) {
+    return (Comparator<Object>) ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+  }
+
+}
@@ -14,10 +14,14 @@ package org.assertj.core.internal;
 
 import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.util.AbstractSet;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+
 import org.assertj.core.util.Objects;
 import org.assertj.core.util.Streams;
 
@@ -51,8 +55,9 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
 
   @Override
   protected Set<Object> newSetUsingComparisonStrategy() {
-    // define a comparator so that we can use areEqual to compare objects in Set collections
-    // the "less than" comparison does not make much sense here but need to be defined.
+    if (isStandard()) return new DeepEqualsHashSet();
+    // subclasses comparing elements differently can't rely on hashCode, define a comparator so that we can use areEqual to
+    // compare objects in Set collections, the "less than" comparison does not make much sense here but need to be defined.
     return new TreeSet<>((o1, o2) -> {
       if (areEqual(o1, o2)) return 0;
       return Objects.hashCodeFor(o1) < Objects.hashCodeFor(o2) ? -1 : 1;
@@ -166,6 +171,9 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
   /**
    * Returns any duplicate elements from the given collection according to {@link java.util.Objects#deepEquals(Object, Object)}
    * comparison strategy.
+   * <p>
+   * The elements are looked up by hash code (arrays by the hash code of their content), the duplicates are thus found in
+   * O(n) provided the elements {@code hashCode} is consistent with their {@code equals}.
    *
    * @param iterable the given {@link Iterable} we want to extract duplicate elements.
    * @return an {@link Iterable} containing the duplicate elements of the given one. If no duplicates are found, an
@@ -211,4 +219,43 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
     return true;
   }
 
+  /**
+   * A set of elements compared with {@link #areEqual(Object, Object)} in constant time, each element is stored with its
+   * {@link DeepEqualsKey} so that arrays are compared by content.
+   */
+  private static final class DeepEqualsHashSet extends AbstractSet<Object> {
+
+    private final Map<Object, Object> elementsByKey = new HashMap<>();
+
+    @Override
+    public boolean add(Object element) {
+      // a single lookup, comparing sizes as putIfAbsent returns null both for absent keys and null elements
+      int size = elementsByKey.size();
+      elementsByKey.putIfAbsent(DeepEqualsKey.of(element), element);
+      return elementsByKey.size() > size;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+      return elementsByKey.containsKey(DeepEqualsKey.of(element));
+    }
+
+    @Override
+    public boolean remove(Object element) {
+      int size = elementsByKey.size();
+      elementsByKey.remove(DeepEqualsKey.of(element));
+      return elementsByKey.size() < size;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+      return elementsByKey.values().iterator();
+    }
+
+    @Override
+    public int size() {
+      return elementsByKey.size();
+    }
+  }
+
 }
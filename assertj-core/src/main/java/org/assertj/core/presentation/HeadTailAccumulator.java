@@ -21,8 +21,12 @@ import java.util.stream.Stream;
 
 /**
  * Accumulates the values in a stream or iterable, keeping the first and last elements and discarding everything in between.
+ * <p>
+ * It is used to represent large groups of elements and to describe the elements read by single-pass assertions.
+ *
+ * @param <T> the type of the accumulated elements.
  */
-final class HeadTailAccumulator<T> {
+public final class HeadTailAccumulator<T> {
   /** The first elements seen. */
   private final Queue<T> head;
 
@@ -36,7 +40,7 @@ final class HeadTailAccumulator<T> {
    * @param tailCapacity the maximum number of elements to retain from the end of the stream.
    * @throws IllegalArgumentException if either argument is negative
    */
-  HeadTailAccumulator(int headCapacity, int tailCapacity) {
+  public HeadTailAccumulator(int headCapacity, int tailCapacity) {
     checkArgument(headCapacity >= 0, "head capacity must be non-negative but was %d", headCapacity);
     checkArgument(tailCapacity >= 0, "tail capacity must be non-negative but was %d", tailCapacity);
     this.head = new BoundedQueue<>(headCapacity);
@@ -48,7 +52,7 @@ final class HeadTailAccumulator<T> {
    *
    * @param element the element to add (may be {@code null})
    */
-  void add(final T element) {
+  public void add(final T element) {
     if (!head.offer(element)) tail.offer(element);
   }
 
@@ -57,7 +61,7 @@ final class HeadTailAccumulator<T> {
    *
    * @return the head and tail concatenated
    */
-  Stream<T> stream() {
+  public Stream<T> stream() {
     List<T> result = new ArrayList<>(head);
     result.addAll(tail);
     return result.stream();
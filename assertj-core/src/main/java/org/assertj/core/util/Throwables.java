@@ -12,20 +12,20 @@
  */
 package org.assertj.core.util;
 
+import static java.lang.StackWalker.Option.SHOW_REFLECT_FRAMES;
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
-import static java.util.Collections.reverse;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.extractor.Extractors.byName;
 import static org.assertj.core.groups.FieldsOrPropertiesExtractor.extract;
-import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.StackWalker.StackFrame;
 import java.lang.reflect.Constructor;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -43,6 +43,9 @@ public final class Throwables {
   private static final String JAVA_BASE = "java.";
   private static final String JDK_BASE = "jdk.";
 
+  // shows the reflection frames like Thread.getStackTrace() does
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance(SHOW_REFLECT_FRAMES);
+
   private Throwables() {}
 
   private static final Function<Throwable, String> ERROR_DESCRIPTION_EXTRACTOR = throwable -> {
@@ -77,21 +80,35 @@ public final class Throwables {
     t.setStackTrace(stackTrace.toArray(new StackTraceElement[0]));
   }
 
+  // the frames called by methodToStartFrom are skipped without being converted to stack trace elements
   private static List<StackTraceElement> stackTraceInCurrentThread(String methodToStartFrom) {
-    List<StackTraceElement> filtered = stackTraceInCurrentThread();
-    List<StackTraceElement> toRemove = new ArrayList<>();
-    for (StackTraceElement e : filtered) {
-      if (methodToStartFrom.equals(e.getMethodName())) {
-        break;
-      }
-      toRemove.add(e);
-    }
-    filtered.removeAll(toRemove);
-    return filtered;
+    return STACK_WALKER.walk(frames -> frames.dropWhile(frame -> !methodToStartFrom.equals(frame.getMethodName()))
+                                             .map(StackFrame::toStackTraceElement)
+                                             .collect(toList()));
   }
 
-  private static List<StackTraceElement> stackTraceInCurrentThread() {
-    return newArrayList(Thread.currentThread().getStackTrace());
+  /**
+   * Returns the first elements of the current thread stack trace that do not belong to AssertJ, that is the stack trace
+   * of the code calling AssertJ.
+   * <p>
+   * The stack is walked lazily, only the AssertJ frames and the returned frames are looked at, which is much cheaper
+   * than getting the full stack trace when the code calling AssertJ runs deep in a test framework.
+   *
+   * @param maxElements the maximum number of elements to return.
+   * @return the first elements of the stack trace of the code calling AssertJ.
+   * @since 4.0.0
+   */
+  public static StackTraceElement[] stackTraceOfAssertJCaller(int maxElements) {
+    return STACK_WALKER.walk(frames -> frames.dropWhile(Throwables::isFromAssertJOrJavaOrJdkPackages)
+                                             .limit(maxElements)
+                                             .map(StackFrame::toStackTraceElement)
+                                             .toArray(StackTraceElement[]::new));
+  }
+
+  // the java and jdk frames called by AssertJ, like the reflection ones, are skipped too
+  private static boolean isFromAssertJOrJavaOrJdkPackages(StackFrame frame) {
+    String className = frame.getClassName();
+    return className.contains(ORG_ASSERTJ) || isProxiedAssertionClass(className) || isFromJavaOrJdkPackages(className);
   }
 
   /**
@@ -121,35 +138,32 @@ public final class Throwables {
    */
   public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable) {
     if (throwable == null) return;
-    List<StackTraceElement> purgedStack = list();
-    boolean firstAssertjStackTraceElementFound = false;
     StackTraceElement[] stackTrace = throwable.getStackTrace();
-    // traverse stack from the root element (main program) as it makes it easier to identify the first assertj element
-    // then we ignore all assertj and java or jdk elements.
-    for (int i = stackTrace.length - 1; i >= 0; i--) {
+    // look for the first assertj element from the root element (main program), everything before it is kept
+    int firstAssertJElementIndex = stackTrace.length - 1;
+    while (firstAssertJElementIndex >= 0 && !isFromAssertJ(stackTrace[firstAssertJElementIndex])) {
+      firstAssertJElementIndex--;
+    }
+    if (firstAssertJElementIndex < 0) return;
+    // we are in assertj stack, so now we also ignore java elements too as they come from assertj
+    StackTraceElement[] purgedStack = new StackTraceElement[stackTrace.length - 1];
+    int purgedStackSize = 0;
+    for (int i = 0; i < firstAssertJElementIndex; i++) {
       StackTraceElement stackTraceElement = stackTrace[i];
-      if (isFromAssertJ(stackTraceElement)) {
-        firstAssertjStackTraceElementFound = true;
-        continue; // skip element
-      }
-      if (!firstAssertjStackTraceElementFound) {
-        // keep everything before first assertj stack trace element
-        purgedStack.add(stackTraceElement);
-      } else {
-        // we already are in assertj stack, so now we also ignore java elements too as they come from assertj
-        if (!isFromJavaOrJdkPackages(stackTraceElement)) purgedStack.add(stackTraceElement);
+      if (!isFromAssertJ(stackTraceElement) && !isFromJavaOrJdkPackages(stackTraceElement.getClassName())) {
+        purgedStack[purgedStackSize++] = stackTraceElement;
       }
     }
-    reverse(purgedStack); // reverse as we traversed the stack in reverse order when purging it.
-    throwable.setStackTrace(purgedStack.toArray(new StackTraceElement[0]));
+    int keptElementsCount = stackTrace.length - firstAssertJElementIndex - 1;
+    System.arraycopy(stackTrace, firstAssertJElementIndex + 1, purgedStack, purgedStackSize, keptElementsCount);
+    throwable.setStackTrace(Arrays.copyOf(purgedStack, purgedStackSize + keptElementsCount));
   }
 
   private static boolean isFromAssertJ(StackTraceElement stackTrace) {
     return stackTrace.getClassName().contains(ORG_ASSERTJ);
   }
 
-  private static boolean isFromJavaOrJdkPackages(StackTraceElement stackTrace) {
-    String className = stackTrace.getClassName();
+  private static boolean isFromJavaOrJdkPackages(String className) {
     return className.contains(JAVA_BASE) || className.contains(JDK_BASE);
   }
 
@@ -223,8 +237,9 @@ public final class Throwables {
     return null;
   }
 
+  // soft assertion proxies and assumptions generated at runtime or at build time by AssertionProxiesGenerator
   private static boolean isProxiedAssertionClass(String className) {
-    return className.contains("$ByteBuddy$");
+    return className.contains("$ByteBuddy$") || className.contains("$AssertJ$");
   }
 
   private static <T extends Throwable> T addLineNumberToErrorMessage(T error) {
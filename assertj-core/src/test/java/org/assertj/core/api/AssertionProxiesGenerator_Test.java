@@ -0,0 +1,178 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AssertionProxiesGenerator_Test {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void should_generate_soft_assertion_proxy_and_assumption_classes_in_the_given_directory() throws IOException {
+    // WHEN
+    AssertionProxiesGenerator.generate(directory.toFile(), list(StringAssert.class));
+    // THEN
+    Path packageDirectory = directory.resolve("org/assertj/core/api");
+    then(packageDirectory.resolve("StringAssert$AssertJ$SoftProxy.class")).isRegularFile();
+    then(packageDirectory.resolve("StringAssert$AssertJ$Assumption.class")).isRegularFile();
+  }
+
+  @Test
+  void should_generate_the_classes_of_the_given_assert_classes() throws Exception {
+    // WHEN
+    AssertionProxiesGenerator.main(new String[] { directory.toString(), IntegerAssert.class.getName() });
+    // THEN
+    String[] generatedClassFiles = directory.resolve("org/assertj/core/api").toFile().list();
+    // the other generated classes are the auxiliary classes calling the proxied methods
+    then(generatedClassFiles).contains("IntegerAssert$AssertJ$SoftProxy.class", "IntegerAssert$AssertJ$Assumption.class")
+                             .allMatch(file -> file.startsWith("IntegerAssert$AssertJ$"));
+  }
+
+  @Test
+  void should_fail_if_no_directory_is_given() {
+    assertThatIllegalArgumentException().isThrownBy(() -> AssertionProxiesGenerator.main(new String[0]))
+                                        .withMessageStartingWith("Expecting the directory to generate the classes in");
+  }
+
+  @Test
+  void should_list_the_assertj_assert_classes() {
+    then(AssertionProxiesGenerator.assertJAssertClasses()).contains(ObjectAssert.class, ListAssert.class, StringAssert.class,
+                                                                    IterableSizeAssert.class)
+                                                          .doesNotContain(AbstractAssert.class, AbstractObjectAssert.class);
+  }
+
+  @Test
+  void should_use_the_pregenerated_soft_assertion_proxy_class() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    PregeneratedAssert proxy = softly.proxy(PregeneratedAssert.class, Object.class, "foo");
+    // THEN
+    then(proxy).isExactlyInstanceOf(PregeneratedAssert.AssertJ$SoftProxy.class);
+  }
+
+  @Test
+  void should_generate_the_soft_assertion_proxy_class_when_none_was_pregenerated() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    ObjectAssert<?> proxy = softly.proxy(ObjectAssert.class, Object.class, "foo");
+    // THEN
+    then(proxy.getClass().getSuperclass()).isEqualTo(ObjectAssert.class);
+    then(proxy.getClass().getName()).doesNotEndWith(SoftProxies.PREGENERATED_PROXY_CLASS_SUFFIX);
+  }
+
+  @Test
+  void should_ignore_a_class_having_the_pregenerated_class_name_but_not_extending_the_assert_class() {
+    then(ClassLoadingStrategyFactory.pregeneratedClass(NotPregeneratedAssert.class,
+                                                       SoftProxies.PREGENERATED_PROXY_CLASS_SUFFIX)).isNull();
+  }
+
+  @Test
+  void should_ignore_a_stale_pregenerated_class() {
+    then(ClassLoadingStrategyFactory.pregeneratedClass(StalePregeneratedAssert.class,
+                                                       SoftProxies.PREGENERATED_PROXY_CLASS_SUFFIX)).isNull();
+  }
+
+  @Test
+  void should_ignore_a_pregenerated_class_without_signature() {
+    then(ClassLoadingStrategyFactory.pregeneratedClass(UnsignedPregeneratedAssert.class,
+                                                       SoftProxies.PREGENERATED_PROXY_CLASS_SUFFIX)).isNull();
+  }
+
+  @Test
+  void should_change_the_pregenerated_class_signature_with_the_assert_class_methods() {
+    // GIVEN
+    String signature = ClassLoadingStrategyFactory.pregeneratedClassSignature(PregeneratedAssert.class);
+    // WHEN
+    String otherSignature = ClassLoadingStrategyFactory.pregeneratedClassSignature(StalePregeneratedAssert.class);
+    // THEN
+    then(signature).isNotEqualTo(otherSignature);
+  }
+
+  public static class PregeneratedAssert extends AbstractAssert<PregeneratedAssert, Object> {
+
+    public PregeneratedAssert(Object actual) {
+      super(actual, PregeneratedAssert.class);
+    }
+
+    // binary name is PregeneratedAssert$AssertJ$SoftProxy, as if it had been generated by AssertionProxiesGenerator
+    public static class AssertJ$SoftProxy extends PregeneratedAssert implements AssertJProxySetup {
+
+      public static final String assertj$signature = ClassLoadingStrategyFactory.pregeneratedClassSignature(PregeneratedAssert.class);
+
+      public AssertJ$SoftProxy(Object actual) {
+        super(actual);
+      }
+
+      @Override
+      public void assertj$setup(ProxifyMethodChangingTheObjectUnderTest proxifyMethodChangingTheObjectUnderTest,
+                                ErrorCollector errorCollector) {}
+    }
+  }
+
+  public static class NotPregeneratedAssert extends AbstractAssert<NotPregeneratedAssert, Object> {
+
+    public NotPregeneratedAssert(Object actual) {
+      super(actual, NotPregeneratedAssert.class);
+    }
+
+    public static class AssertJ$SoftProxy {}
+  }
+
+  public static class StalePregeneratedAssert extends AbstractAssert<StalePregeneratedAssert, Object> {
+
+    public StalePregeneratedAssert(Object actual) {
+      super(actual, StalePregeneratedAssert.class);
+    }
+
+    // a method added after the proxy class was generated
+    public StalePregeneratedAssert isFoo() {
+      return myself;
+    }
+
+    public static class AssertJ$SoftProxy extends StalePregeneratedAssert {
+
+      public static final String assertj$signature = "signature before isFoo was added";
+
+      public AssertJ$SoftProxy(Object actual) {
+        super(actual);
+      }
+    }
+  }
+
+  public static class UnsignedPregeneratedAssert extends AbstractAssert<UnsignedPregeneratedAssert, Object> {
+
+    public UnsignedPregeneratedAssert(Object actual) {
+      super(actual, UnsignedPregeneratedAssert.class);
+    }
+
+    public static class AssertJ$SoftProxy extends UnsignedPregeneratedAssert {
+
+      public AssertJ$SoftProxy(Object actual) {
+        super(actual);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+
+import org.assertj.core.error.LazyMessageAssertionError;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SoftAssertions_setMaxRenderedErrors_Test {
+
+  private SoftAssertions softly;
+
+  @BeforeEach
+  void setup() {
+    softly = new SoftAssertions();
+  }
+
+  @Test
+  void should_render_error_messages_when_collected_by_default() {
+    // WHEN
+    softly.assertThat(1).isNegative();
+    // THEN
+    then(softly.assertionErrorsCollected()).singleElement()
+                                           .isNotInstanceOf(LazyMessageAssertionError.class);
+  }
+
+  @Test
+  void should_only_render_the_messages_of_the_first_errors() {
+    // GIVEN
+    softly.setMaxRenderedErrors(2);
+    // WHEN
+    softly.assertThat(1).isNegative();
+    softly.assertThat("abc").startsWith("b");
+    softly.assertThat(list(1, 2)).contains(3);
+    // THEN
+    List<AssertionError> errors = softly.assertionErrorsCollected();
+    then(errors).hasSize(3);
+    then(errors.get(0)).hasMessageContaining("Expecting actual:%n  1%nto be less than:%n  0".formatted());
+    then(errors.get(1)).hasMessageContaining("to start with:%n  \"b\"".formatted());
+    then(errors.get(2)).isInstanceOfSatisfying(LazyMessageAssertionError.class,
+                                               error -> then(error.isMessageRendered()).isFalse());
+  }
+
+  @Test
+  void should_render_a_lazy_message_with_the_description_of_the_failed_assertion() {
+    // GIVEN
+    softly.setMaxRenderedErrors(1);
+    // WHEN
+    softly.assertThat(1).as("first").isNegative()
+                        .as("second").isEqualTo(1);
+    softly.assertThat(2).isNegative();
+    // THEN
+    List<AssertionError> errors = softly.assertionErrorsCollected();
+    then(errors.get(0)).hasMessageContaining("[first]")
+                       .hasMessageNotContaining("second");
+    then(errors.get(1)).hasMessageContaining("Expecting actual:%n  2%nto be less than:%n  0".formatted());
+  }
+
+  @Test
+  void should_summarize_the_errors_not_rendered_when_asserting_all() {
+    // GIVEN
+    softly.setMaxRenderedErrors(1);
+    softly.assertThat(1).isNegative();
+    softly.assertThat(2).isNegative();
+    softly.assertThat(3).isNegative();
+    // WHEN
+    Throwable error = catchThrowable(() -> softly.assertAll());
+    // THEN
+    then(error).hasMessageStartingWith("%nMultiple Failures (3 failures)%n-- failure 1 --".formatted())
+               .hasMessageContaining("Expecting actual:%n  1".formatted())
+               .hasMessageNotContaining("Expecting actual:%n  2".formatted())
+               .hasMessageNotContaining("-- failure 2 --")
+               .hasMessageEndingWith("%n2 more soft assertion errors were collected but not rendered (see setMaxRenderedErrors)".formatted());
+  }
+
+  @Test
+  void should_not_summarize_errors_when_they_are_all_rendered() {
+    // GIVEN
+    softly.setMaxRenderedErrors(2);
+    softly.assertThat(1).isNegative();
+    softly.assertThat(2).isNegative();
+    // WHEN
+    Throwable error = catchThrowable(() -> softly.assertAll());
+    // THEN
+    then(error).hasMessageContaining("Expecting actual:%n  1".formatted())
+               .hasMessageContaining("Expecting actual:%n  2".formatted())
+               .hasMessageNotContaining("not rendered");
+  }
+
+  @Test
+  void should_fail_if_max_rendered_errors_is_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> softly.setMaxRenderedErrors(0))
+                                        .withMessage("The maximum number of rendered errors must be positive but was 0");
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.iterable;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.testkit.AlwaysEqualComparator.alwaysEqual;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.Mockito.verify;
+
+import org.assertj.core.api.ConcreteIterableAssert;
+import org.assertj.core.api.IterableAssertBaseTest;
+import org.junit.jupiter.api.Test;
+
+class IterableAssert_inParallel_Test extends IterableAssertBaseTest {
+
+  @Override
+  protected ConcreteIterableAssert<Object> invoke_api_method() {
+    return assertions.inParallel();
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(iterables).inParallel();
+  }
+
+  @Test
+  void should_keep_checking_elements_in_parallel_when_changing_the_element_comparator() {
+    // GIVEN
+    ConcreteIterableAssert<Object> assertions = new ConcreteIterableAssert<>(list("Luke", "Yoda"));
+    // WHEN
+    assertions.inParallel()
+              .usingElementComparator(alwaysEqual());
+    // THEN
+    then(getIterables(assertions).isParallel()).isTrue();
+    then(getIterables(assertions).getComparator()).isNotNull();
+  }
+
+  @Test
+  void should_not_check_elements_in_parallel_by_default() {
+    // GIVEN
+    ConcreteIterableAssert<Object> assertions = new ConcreteIterableAssert<>(list("Luke", "Yoda"));
+    // WHEN
+    assertions.usingElementComparator(alwaysEqual());
+    // THEN
+    then(getIterables(assertions).isParallel()).isFalse();
+  }
+
+}
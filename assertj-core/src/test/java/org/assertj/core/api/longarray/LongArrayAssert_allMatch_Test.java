@@ -0,0 +1,36 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.longarray;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.function.LongPredicate;
+
+import org.assertj.core.api.LongArrayAssert;
+import org.assertj.core.api.LongArrayAssertBaseTest;
+import org.assertj.core.presentation.PredicateDescription;
+
+class LongArrayAssert_allMatch_Test extends LongArrayAssertBaseTest {
+
+  private final LongPredicate predicate = l -> l > 0;
+
+  @Override
+  protected LongArrayAssert invoke_api_method() {
+    return assertions.allMatch(predicate);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(arrays).assertAllMatch(getInfo(assertions), getActual(assertions), predicate, PredicateDescription.GIVEN);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonConfiguration_memoizeFieldLocationRules_Test {
+
+  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+
+  @Test
+  void should_evaluate_rules_of_field_locations_sharing_the_same_path_to_use_in_rules_identically() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes(".*\\.name");
+    recursiveComparisonConfiguration.ignoreCollectionOrderInFields("people.friends");
+    recursiveComparisonConfiguration.memoizeFieldLocationRules();
+    // WHEN/THEN
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValue("people", "[0]", "name"))).isTrue();
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValue("people", "[1]", "name"))).isTrue();
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValue("people", "[1]", "age"))).isFalse();
+    then(recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(new FieldLocation(list("people", "[0]", "friends")))).isTrue();
+    then(recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(new FieldLocation(list("people", "[1]", "friends")))).isTrue();
+    then(recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(new FieldLocation(list("people")))).isFalse();
+  }
+
+  @Test
+  void should_take_into_account_rules_registered_after_the_memoized_rules_are_forgotten() {
+    // GIVEN
+    recursiveComparisonConfiguration.memoizeFieldLocationRules();
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValue("name"))).isFalse();
+    then(recursiveComparisonConfiguration.getComparatorForField("name")).isNull();
+    recursiveComparisonConfiguration.forgetFieldLocationRules();
+    // WHEN
+    recursiveComparisonConfiguration.ignoreFields("name");
+    Comparator<String> comparator = String.CASE_INSENSITIVE_ORDER;
+    recursiveComparisonConfiguration.registerComparatorForFields(comparator, "name");
+    // THEN
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValue("name"))).isTrue();
+    then(recursiveComparisonConfiguration.getComparatorForField("name")).isSameAs(comparator);
+  }
+
+  @Test
+  void should_not_memoize_rules_again_when_already_memoized() {
+    // GIVEN
+    recursiveComparisonConfiguration.memoizeFieldLocationRules();
+    // WHEN
+    boolean memoized = recursiveComparisonConfiguration.memoizeFieldLocationRules();
+    // THEN
+    then(memoized).isFalse();
+  }
+
+  @Test
+  void should_find_comparators_for_fields_matching_regexes_with_memoized_rules() {
+    // GIVEN
+    Comparator<String> comparator = String.CASE_INSENSITIVE_ORDER;
+    recursiveComparisonConfiguration.getFieldComparators().registerComparatorForFieldsMatchingRegexes(new String[] { ".*name" },
+                                                                                                    comparator);
+    recursiveComparisonConfiguration.memoizeFieldLocationRules();
+    // WHEN/THEN
+    then(recursiveComparisonConfiguration.getComparatorForField("person.name")).isSameAs(comparator);
+    then(recursiveComparisonConfiguration.getComparatorForField("person.name")).isSameAs(comparator);
+    then(recursiveComparisonConfiguration.hasComparatorForField("person.age")).isFalse();
+  }
+
+  private static DualValue dualValue(String... path) {
+    return new DualValue(list(path), "actual", "expected");
+  }
+}
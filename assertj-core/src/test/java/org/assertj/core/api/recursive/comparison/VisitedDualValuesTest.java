@@ -17,6 +17,7 @@ import static org.assertj.core.util.Lists.list;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import org.assertj.core.api.BDDAssertions;
 import org.junit.jupiter.api.Test;
@@ -64,4 +65,63 @@ class VisitedDualValuesTest {
     // THEN
     then(optionalComparisonDifferences).isEmpty();
   }
+
+  @Test
+  void should_return_the_registered_differences_of_dual_values_with_same_values_but_different_location() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    Object actual = new Object();
+    Object expected = new Object();
+    DualValue dualValue = new DualValue(list("foo"), actual, expected);
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue);
+    visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(new DualValue(list("bar"),
+                                                                                                                                          actual,
+                                                                                                                                          expected));
+    // THEN
+    then(optionalComparisonDifferences).isPresent();
+    BDDAssertions.then(optionalComparisonDifferences.get()).containsExactly(comparisonDifference);
+  }
+
+  @Test
+  void should_return_empty_optional_for_dual_values_with_equal_but_not_same_values() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    visitedDualValues.registerVisitedDualValue(new DualValue(list(""), new StringBuilder("abc").toString(), "abc"));
+    DualValue dualValue = new DualValue(list(""), new StringBuilder("abc").toString(), "abc");
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(dualValue);
+    // THEN
+    then(optionalComparisonDifferences).isEmpty();
+  }
+
+  @Test
+  void should_only_register_the_first_visit_of_dual_values() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    Object actual = new Object();
+    Object expected = new Object();
+    // WHEN
+    boolean firstRegistration = visitedDualValues.registerVisitedDualValue(new DualValue(list("foo"), actual, expected));
+    boolean secondRegistration = visitedDualValues.registerVisitedDualValue(new DualValue(list("bar"), actual, expected));
+    // THEN
+    then(firstRegistration).isTrue();
+    then(secondRegistration).isFalse();
+  }
+
+  @Test
+  void should_only_register_the_first_of_concurrent_visits_of_dual_values() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = VisitedDualValues.concurrentVisitedDualValues();
+    DualValue dualValue = new DualValue(list("foo"), new Object(), new Object());
+    // WHEN
+    long registrations = IntStream.range(0, 1_000)
+                                  .parallel()
+                                  .filter(i -> visitedDualValues.registerVisitedDualValue(dualValue))
+                                  .count();
+    // THEN
+    then(registrations).isEqualTo(1);
+  }
 }
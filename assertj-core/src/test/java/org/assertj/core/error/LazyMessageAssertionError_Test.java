@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class LazyMessageAssertionError_Test {
+
+  @Test
+  void should_render_the_message_once_when_first_requested() {
+    // GIVEN
+    AtomicInteger renderings = new AtomicInteger();
+    LazyMessageAssertionError error = new LazyMessageAssertionError(() -> "boom " + renderings.incrementAndGet());
+    then(error.isMessageRendered()).isFalse();
+    // WHEN
+    String message = error.getMessage();
+    // THEN
+    then(message).isEqualTo("boom 1");
+    then(error.getMessage()).isEqualTo("boom 1");
+    then(error.isMessageRendered()).isTrue();
+    then(error).hasToString(LazyMessageAssertionError.class.getName() + ": boom 1");
+    then(renderings).hasValue(1);
+  }
+
+  @Test
+  void should_create_an_error_with_an_already_rendered_message() {
+    // GIVEN
+    Throwable cause = new IllegalStateException();
+    // WHEN
+    LazyMessageAssertionError error = new LazyMessageAssertionError("boom", cause);
+    // THEN
+    then(error.isMessageRendered()).isTrue();
+    then(error).hasMessage("boom")
+               .hasCause(cause);
+  }
+
+  @Test
+  void should_return_the_rendered_message_to_concurrent_calls() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      for (int i = 0; i < 1_000; i++) {
+        // GIVEN
+        LazyMessageAssertionError error = new LazyMessageAssertionError(() -> "boom");
+        // WHEN
+        Future<String> message1 = executor.submit(error::getMessage);
+        Future<String> message2 = executor.submit(error::getMessage);
+        // THEN
+        then(message1.get()).isEqualTo("boom");
+        then(message2.get()).isEqualTo("boom");
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+}
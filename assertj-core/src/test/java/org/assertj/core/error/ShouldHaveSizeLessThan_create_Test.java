@@ -16,6 +16,7 @@ import static java.lang.String.format;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThan;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Lists.list;
 
 import org.assertj.core.description.Description;
 import org.assertj.core.description.TextDescription;
@@ -60,4 +61,17 @@ class ShouldHaveSizeLessThan_create_Test {
                                    + "  \"['0x0061', '0x0062', '0x0063', '0x0064']\"%n"
                                    + "to be less than 2 but was 4"));
   }
+
+  @Test
+  void should_create_error_message_when_actual_size_is_unknown() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldHaveSizeLessThan(list(1, 2, 3), 3);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n"
+                                   + "Expecting size of:%n"
+                                   + "  [1, 2, 3]%n"
+                                   + "to be less than 3 but was at least 3"));
+  }
 }
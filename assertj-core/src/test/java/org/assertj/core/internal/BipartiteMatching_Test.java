@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.BipartiteMatching.maximumMatchingSize;
+
+import org.junit.jupiter.api.Test;
+
+class BipartiteMatching_Test {
+
+  @Test
+  void should_find_a_perfect_matching() {
+    // GIVEN
+    int[][] rightVerticesPerLeftVertex = { { 0, 1 }, { 0 }, { 1, 2 } };
+    // WHEN
+    int maximumMatchingSize = maximumMatchingSize(rightVerticesPerLeftVertex, 3);
+    // THEN
+    then(maximumMatchingSize).isEqualTo(3);
+  }
+
+  @Test
+  void should_find_a_perfect_matching_requiring_to_change_previous_assignments() {
+    // GIVEN
+    // a greedy assignment of 0 to the first left vertex must be revised
+    int[][] rightVerticesPerLeftVertex = { { 0, 1, 2, 3 }, { 0, 1, 2 }, { 0, 1 }, { 0 } };
+    // WHEN
+    int maximumMatchingSize = maximumMatchingSize(rightVerticesPerLeftVertex, 4);
+    // THEN
+    then(maximumMatchingSize).isEqualTo(4);
+  }
+
+  @Test
+  void should_find_a_maximum_matching_when_there_is_no_perfect_matching() {
+    // GIVEN
+    int[][] rightVerticesPerLeftVertex = { { 0 }, { 0 }, { 0, 1, 2 }, {} };
+    // WHEN
+    int maximumMatchingSize = maximumMatchingSize(rightVerticesPerLeftVertex, 3);
+    // THEN
+    then(maximumMatchingSize).isEqualTo(2);
+  }
+
+  @Test
+  void should_return_zero_for_an_empty_graph() {
+    then(maximumMatchingSize(new int[0][], 0)).isZero();
+  }
+
+}
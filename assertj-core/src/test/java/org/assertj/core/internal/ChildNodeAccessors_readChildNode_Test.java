@@ -0,0 +1,208 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowableOfType;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenExceptionOfType;
+
+import java.util.function.BiFunction;
+
+import org.assertj.core.util.introspection.FieldSupport;
+import org.assertj.core.util.introspection.IntrospectionError;
+import org.junit.jupiter.api.Test;
+
+class ChildNodeAccessors_readChildNode_Test {
+
+  private static final BiFunction<String, Object, Object> NOT_CALLED = (name, instance) -> {
+    throw new AssertionError("regular introspection should not have been called for " + name);
+  };
+
+  @Test
+  void should_read_the_field_value_of_each_instance_of_the_same_class() {
+    // GIVEN
+    ChildNodeAccessors fieldAccessors = ChildNodeAccessors.fieldAccessors(FieldSupport.comparison());
+    // WHEN
+    Object value1 = fieldAccessors.readChildNode("name", new Person("Jack", 1), NOT_CALLED);
+    Object value2 = fieldAccessors.readChildNode("name", new Person("John", 2), NOT_CALLED);
+    // THEN
+    then(value1).isEqualTo("Jack");
+    then(value2).isEqualTo("John");
+  }
+
+  @Test
+  void should_read_the_field_declared_in_the_subclass_when_it_hides_a_superclass_field() {
+    // GIVEN
+    ChildNodeAccessors fieldAccessors = ChildNodeAccessors.fieldAccessors(FieldSupport.comparison());
+    // WHEN
+    Object value = fieldAccessors.readChildNode("name", new Employee("Jack", 1, "Jack Jr"), NOT_CALLED);
+    // THEN
+    then(value).isEqualTo("Jack Jr");
+  }
+
+  @Test
+  void should_use_the_regular_introspection_for_unknown_and_static_fields() {
+    // GIVEN
+    ChildNodeAccessors fieldAccessors = ChildNodeAccessors.fieldAccessors(FieldSupport.comparison());
+    BiFunction<String, Object, Object> introspection = (name, instance) -> "introspected " + name;
+    // WHEN
+    Object unknownFieldValue = fieldAccessors.readChildNode("unknown", new Person("Jack", 1), introspection);
+    Object staticFieldValue = fieldAccessors.readChildNode("SPECIES", new Person("Jack", 1), introspection);
+    // THEN
+    then(unknownFieldValue).isEqualTo("introspected unknown");
+    then(staticFieldValue).isEqualTo("introspected SPECIES");
+  }
+
+  @Test
+  void should_use_the_regular_introspection_when_private_fields_are_not_allowed_anymore() {
+    // GIVEN
+    ChildNodeAccessors fieldAccessors = ChildNodeAccessors.fieldAccessors(FieldSupport.comparison());
+    Person person = new Person("Jack", 1);
+    fieldAccessors.readChildNode("name", person, NOT_CALLED);
+    BiFunction<String, Object, Object> introspection = (name, instance) -> FieldSupport.comparison().fieldValue(name,
+                                                                                                            Object.class,
+                                                                                                            instance);
+    FieldSupport.comparison().setAllowUsingPrivateFields(false);
+    try {
+      // WHEN/THEN
+      thenExceptionOfType(IntrospectionError.class).isThrownBy(() -> fieldAccessors.readChildNode("name", person, introspection));
+    } finally {
+      FieldSupport.comparison().setAllowUsingPrivateFields(true);
+    }
+  }
+
+  @Test
+  void should_read_the_getter_value_of_each_instance_of_the_same_class() {
+    // GIVEN
+    ChildNodeAccessors getterAccessors = ChildNodeAccessors.getterAccessors();
+    // WHEN
+    Object value1 = getterAccessors.readChildNode("age", new Person("Jack", 1), NOT_CALLED);
+    Object value2 = getterAccessors.readChildNode("age", new Person("John", 2), NOT_CALLED);
+    Object adult = getterAccessors.readChildNode("adult", new Person("John", 20), NOT_CALLED);
+    // THEN
+    then(value1).isEqualTo("age 1");
+    then(value2).isEqualTo("age 2");
+    then(adult).isEqualTo(true);
+  }
+
+  @Test
+  void should_read_the_getter_value_before_the_field_value() {
+    // GIVEN
+    ChildNodeAccessors getterOrFieldAccessors = ChildNodeAccessors.getterOrFieldAccessors(FieldSupport.comparison());
+    Person person = new Person("Jack", 1);
+    // WHEN
+    Object age = getterOrFieldAccessors.readChildNode("age", person, NOT_CALLED);
+    Object name = getterOrFieldAccessors.readChildNode("name", person, NOT_CALLED);
+    // THEN
+    then(age).isEqualTo("age 1");
+    then(name).isEqualTo("Jack");
+  }
+
+  @Test
+  void should_report_the_getter_exception_without_invoking_the_getter_again() {
+    // GIVEN
+    ChildNodeAccessors getterAccessors = ChildNodeAccessors.getterAccessors();
+    Person person = new Person("Jack", 1);
+    // WHEN
+    IntrospectionError error = catchThrowableOfType(IntrospectionError.class,
+                                                    () -> getterAccessors.readChildNode("failing", person, NOT_CALLED));
+    // THEN
+    then(error).hasMessage("Unable to invoke getter getFailing in Person, exception: java.lang.IllegalStateException: boom");
+    then(error.getterInvocationException()).containsInstanceOf(IllegalStateException.class);
+    then(person.failingGetterCalls).isEqualTo(1);
+  }
+
+  @Test
+  void should_read_the_field_value_when_the_getter_fails() {
+    // GIVEN
+    ChildNodeAccessors getterOrFieldAccessors = ChildNodeAccessors.getterOrFieldAccessors(FieldSupport.comparison());
+    Person person = new Person("Jack", 1);
+    // WHEN
+    Object value = getterOrFieldAccessors.readChildNode("failing", person, NOT_CALLED);
+    // THEN
+    then(value).isEqualTo("failing field");
+    then(person.failingGetterCalls).isEqualTo(1);
+  }
+
+  @Test
+  void should_report_the_getter_exception_when_the_getter_fails_and_there_is_no_field() {
+    // GIVEN
+    ChildNodeAccessors getterOrFieldAccessors = ChildNodeAccessors.getterOrFieldAccessors(FieldSupport.comparison());
+    Person person = new Person("Jack", 1);
+    // WHEN
+    IntrospectionError error = catchThrowableOfType(IntrospectionError.class,
+                                                    () -> getterOrFieldAccessors.readChildNode("alsoFailing", person,
+                                                                                               NOT_CALLED));
+    // THEN
+    then(error.getterInvocationException()).containsInstanceOf(IllegalStateException.class);
+    then(person.failingGetterCalls).isEqualTo(1);
+  }
+
+  @Test
+  void should_use_the_regular_introspection_for_non_public_getters() {
+    // GIVEN
+    ChildNodeAccessors getterAccessors = ChildNodeAccessors.getterAccessors();
+    BiFunction<String, Object, Object> introspection = (name, instance) -> "introspected " + name;
+    // WHEN
+    Object value = getterAccessors.readChildNode("secret", new Person("Jack", 1), introspection);
+    // THEN
+    then(value).isEqualTo("introspected secret");
+  }
+
+  @SuppressWarnings("unused")
+  static class Person {
+    static final String SPECIES = "human";
+    private final String name;
+    private final int age;
+    private final String failing = "failing field";
+    int failingGetterCalls;
+
+    Person(String name, int age) {
+      this.name = name;
+      this.age = age;
+    }
+
+    public String getAge() {
+      return "age " + age;
+    }
+
+    public boolean isAdult() {
+      return age >= 18;
+    }
+
+    public String getFailing() {
+      failingGetterCalls++;
+      throw new IllegalStateException("boom");
+    }
+
+    public String getAlsoFailing() {
+      failingGetterCalls++;
+      throw new IllegalStateException("boom");
+    }
+
+    String getSecret() {
+      return "secret";
+    }
+  }
+
+  @SuppressWarnings("unused")
+  static class Employee extends Person {
+    private final String name;
+
+    Employee(String name, int age, String employeeName) {
+      super(name, age);
+      this.name = employeeName;
+    }
+  }
+
+}
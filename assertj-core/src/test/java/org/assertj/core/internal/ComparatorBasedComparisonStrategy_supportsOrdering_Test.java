@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
+
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComparatorBasedComparisonStrategy#supportsOrdering()}.
+ */
+class ComparatorBasedComparisonStrategy_supportsOrdering_Test extends AbstractTest_ComparatorBasedComparisonStrategy {
+
+  @Test
+  void should_support_ordering_with_a_regular_comparator() {
+    then(caseInsensitiveComparisonStrategy.supportsOrdering()).isTrue();
+  }
+
+  @Test
+  void should_not_support_ordering_with_comparators_only_telling_whether_values_are_equal() {
+    then(new ComparatorBasedComparisonStrategy(new FieldByFieldComparator()).supportsOrdering()).isFalse();
+    then(new ComparatorBasedComparisonStrategy(new IgnoringFieldsComparator("name")).supportsOrdering()).isFalse();
+    then(new ComparatorBasedComparisonStrategy(new ExtendedByTypesComparator(defaultTypeComparators()))
+                                                                                                     .supportsOrdering()).isFalse();
+    RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration();
+    then(new ComparatorBasedComparisonStrategy(new ConfigurableRecursiveFieldByFieldComparator(configuration))
+                                                                                                           .supportsOrdering()).isFalse();
+  }
+
+}
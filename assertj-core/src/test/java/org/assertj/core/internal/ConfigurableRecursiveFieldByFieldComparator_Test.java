@@ -12,12 +12,12 @@
  */
 package org.assertj.core.internal;
 
-import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -36,16 +36,31 @@ class ConfigurableRecursiveFieldByFieldComparator_Test {
     RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
     configurableRecursiveFieldByFieldComparator = new ConfigurableRecursiveFieldByFieldComparator(recursiveComparisonConfiguration,
                                                                                                   recursiveComparisonDifferenceCalculator);
-    given(recursiveComparisonDifferenceCalculator.determineDifferences(any(), any(), any())).willReturn(emptyList());
+    given(recursiveComparisonDifferenceCalculator.hasDifferences(any(), any(), any())).willReturn(false);
     String actual = "foo";
     String other = "bar";
     // WHEN
     int compare = configurableRecursiveFieldByFieldComparator.compare(actual, other);
     // THEN
-    verify(recursiveComparisonDifferenceCalculator).determineDifferences(actual, other, recursiveComparisonConfiguration);
+    verify(recursiveComparisonDifferenceCalculator).hasDifferences(actual, other, recursiveComparisonConfiguration);
     then(compare).isZero();
   }
 
+  @Test
+  void should_not_return_0_when_recursiveComparisonDifferenceCalculator_finds_differences() {
+    // GIVEN
+    RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator = mock(RecursiveComparisonDifferenceCalculator.class);
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    configurableRecursiveFieldByFieldComparator = new ConfigurableRecursiveFieldByFieldComparator(recursiveComparisonConfiguration,
+                                                                                                  recursiveComparisonDifferenceCalculator);
+    given(recursiveComparisonDifferenceCalculator.hasDifferences(any(), any(), any())).willReturn(true);
+    // WHEN
+    int compare = configurableRecursiveFieldByFieldComparator.compare("foo", "bar");
+    // THEN
+    verify(recursiveComparisonDifferenceCalculator, never()).determineDifferences(any(), any(), any());
+    then(compare).isNotZero();
+  }
+
   @Test
   void should_return_0_when_both_values_are_null() {
     // GIVEN
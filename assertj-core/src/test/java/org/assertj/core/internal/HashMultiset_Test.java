@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import org.assertj.core.testkit.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+class HashMultiset_Test {
+
+  @Test
+  void should_count_equal_elements() {
+    // GIVEN
+    HashMultiset multiset = HashMultiset.of(list("a", "b", "a", null, null, null));
+    // WHEN/THEN
+    then(multiset.count("a")).isEqualTo(2);
+    then(multiset.count("b")).isEqualTo(1);
+    then(multiset.count(null)).isEqualTo(3);
+    then(multiset.count("c")).isZero();
+  }
+
+  @Test
+  void should_compare_arrays_by_content() {
+    // GIVEN
+    HashMultiset multiset = HashMultiset.of(list(new int[] { 1, 2 }, new Object[] { "a", new long[] { 3L } }));
+    // WHEN/THEN
+    then(multiset.count(new int[] { 1, 2 })).isEqualTo(1);
+    then(multiset.count(new String[] { "a" })).isZero();
+    then(multiset.count(new Object[] { "a", new long[] { 3L } })).isEqualTo(1);
+    then(multiset.count(new long[] { 1L, 2L })).isZero();
+  }
+
+  @Test
+  void should_remove_one_occurrence_at_a_time() {
+    // GIVEN
+    HashMultiset multiset = HashMultiset.of(list("a", "a"));
+    // WHEN/THEN
+    then(multiset.remove("a")).isTrue();
+    then(multiset.remove("a")).isTrue();
+    then(multiset.remove("a")).isFalse();
+    then(multiset.remove("b")).isFalse();
+    then(multiset.count("a")).isZero();
+  }
+
+  @Test
+  void should_only_be_supported_by_the_standard_comparison_strategy() {
+    then(HashMultiset.isSupportedBy(StandardComparisonStrategy.instance())).isTrue();
+    then(HashMultiset.isSupportedBy(new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.INSTANCE))).isFalse();
+    then(HashMultiset.isSupportedBy(new ObjectArrayElementComparisonStrategy<>(CaseInsensitiveStringComparator.INSTANCE))).isFalse();
+  }
+
+}
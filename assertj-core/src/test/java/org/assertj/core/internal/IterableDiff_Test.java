@@ -139,6 +139,30 @@ class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  void should_compare_array_elements_by_content() {
+    // GIVEN
+    List<Object> actual = list(new int[] { 1, 2 }, new String[] { "a" }, new String[] { "a" });
+    List<Object> expected = list(new String[] { "a" }, new int[] { 1, 2 }, new int[] { 3 });
+    // WHEN
+    IterableDiff<Object> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.unexpected).containsExactly(actual.get(2));
+    assertThat(diff.missing).containsExactly(expected.get(2));
+  }
+
+  @Test
+  void should_report_the_last_occurrences_of_duplicate_elements_as_differences() {
+    // GIVEN
+    actual = newArrayList("a", "b", "a", "a", "c");
+    expected = newArrayList("b", "d", "a", "d");
+    // WHEN
+    IterableDiff<String> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.unexpected).containsExactly("a", "a", "c");
+    assertThat(diff.missing).containsExactly("d", "d");
+  }
+
   private class Foo {
   }
 
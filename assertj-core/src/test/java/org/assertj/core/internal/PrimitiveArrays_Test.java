@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.assertj.core.testkit.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveArrays_Test {
+
+  @Test
+  void should_only_support_primitive_arrays_of_the_same_type_with_the_standard_comparison_strategy() {
+    ComparisonStrategy standard = StandardComparisonStrategy.instance();
+    then(PrimitiveArrays.isSupportedBy(standard, new int[0], new int[0])).isTrue();
+    then(PrimitiveArrays.isSupportedBy(standard, new int[0], new long[0])).isFalse();
+    then(PrimitiveArrays.isSupportedBy(standard, new Integer[0], new Integer[0])).isFalse();
+    then(PrimitiveArrays.isSupportedBy(new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.INSTANCE),
+                                       new char[0], new char[0])).isFalse();
+  }
+
+  @Test
+  void should_compare_floating_point_elements_like_their_wrapper_type() {
+    // Double.equals considers NaN equal to itself and 0.0 different from -0.0
+    double[] actual = { Double.NaN, 0.0, 1.0 };
+    then(PrimitiveArrays.occurrencesOf(actual, new double[] { Double.NaN, -0.0, 1.0 })).containsExactly(1, 0, 1);
+    then(PrimitiveArrays.occurrencesOf(new float[] { Float.NaN, 0.0f }, new float[] { Float.NaN, -0.0f })).containsExactly(1, 0);
+  }
+
+  @Test
+  void should_count_occurrences_of_values() {
+    then(PrimitiveArrays.occurrencesOf(new int[] { 1, 2, 2, 3 }, new int[] { 2, 4, 1, 2 })).containsExactly(2, 0, 1, 2);
+    then(PrimitiveArrays.occurrencesOf(new boolean[] { true, true }, new boolean[] { false, true })).containsExactly(0, 2);
+  }
+
+  @Test
+  void should_tell_whether_arrays_have_the_same_elements() {
+    then(PrimitiveArrays.haveSameElements(new long[] { 1, 2, 2 }, new long[] { 2, 1, 2 })).isTrue();
+    then(PrimitiveArrays.haveSameElements(new long[] { 1, 2, 2 }, new long[] { 2, 1, 1 })).isFalse();
+    then(PrimitiveArrays.haveSameElements(new long[] { 1, 2 }, new long[] { 2, 1, 1 })).isFalse();
+    then(PrimitiveArrays.haveSameElementsIgnoringDuplicates(new long[] { 1, 2, 2 }, new long[] { 2, 1, 1 })).isTrue();
+    then(PrimitiveArrays.haveSameElementsIgnoringDuplicates(new long[] { 1, 2, 3 }, new long[] { 2, 1 })).isFalse();
+    then(PrimitiveArrays.haveSameElementsIgnoringDuplicates(new long[] { 1, 2 }, new long[] { 2, 1, 3 })).isFalse();
+  }
+
+  @Test
+  void should_tell_whether_an_array_has_duplicates() {
+    then(PrimitiveArrays.hasDuplicates(new char[] { 'a', 'b', 'c' })).isFalse();
+    then(PrimitiveArrays.hasDuplicates(new char[] { 'a', 'b', 'a' })).isTrue();
+    then(PrimitiveArrays.hasDuplicates(IntStream.range(0, 100_000).toArray())).isFalse();
+  }
+
+  @Test
+  void should_not_have_colliding_keys_for_doubles_differing_by_their_high_bits() {
+    // GIVEN
+    double[] integralDoubles = DoubleStream.iterate(1.0, d -> d * 2).limit(1_000).toArray();
+    // WHEN/THEN
+    then(PrimitiveArrays.hasDuplicates(integralDoubles)).isFalse();
+    then(PrimitiveArrays.haveSameElements(integralDoubles, integralDoubles.clone())).isTrue();
+  }
+
+  @Test
+  void should_count_the_keys_of_large_arrays_with_a_sorted_copy() {
+    // GIVEN
+    // more values than the hash table takes, the negative values are sorted before the positive ones
+    int[] values = IntStream.range(-100_000, 100_000).map(i -> i / 2).toArray();
+    int[] actual = IntStream.range(-50_000, 50_000).toArray();
+    // WHEN/THEN
+    then(PrimitiveArrays.hasDuplicates(values)).isTrue();
+    then(PrimitiveArrays.hasDuplicates(actual)).isFalse();
+    then(PrimitiveArrays.occurrencesOf(new int[] { 0, 1, 1, -7 }, values)).startsWith(0, 0)
+                                                                           .containsOnly(0, 1, 2);
+    then(PrimitiveArrays.haveSameElementsIgnoringDuplicates(values, actual)).isTrue();
+    then(PrimitiveArrays.haveSameElements(values, values.clone())).isTrue();
+    then(PrimitiveArrays.haveSameElements(values, IntStream.range(-100_000, 100_000).toArray())).isFalse();
+    then(PrimitiveArrays.containsAnyOf(new int[] { 100_000, 49_999 }, values)).isTrue();
+    then(PrimitiveArrays.containsAnyOf(new int[] { 100_000, 50_000 }, values)).isFalse();
+  }
+
+  @Test
+  void should_tell_whether_some_values_are_found() {
+    then(PrimitiveArrays.containsAnyOf(new short[] { 1, 2, 3 }, new short[] { 5, 3 })).isTrue();
+    then(PrimitiveArrays.containsAnyOf(new short[] { 1, 2, 3 }, new short[] { 5, 4 })).isFalse();
+  }
+
+  @Test
+  void should_find_the_first_occurrence_of_a_sequence() {
+    then(PrimitiveArrays.indexOfSequence(new byte[] { 1, 1, 1, 2 }, new byte[] { 1, 1, 2 })).isEqualTo(1);
+    then(PrimitiveArrays.indexOfSequence(new byte[] { 1, 2, 1, 2, 1, 2, 3 }, new byte[] { 1, 2, 1, 2, 3 })).isEqualTo(2);
+    then(PrimitiveArrays.indexOfSequence(new byte[] { 1, 2, 1, 3 }, new byte[] { 1, 2, 1, 2 })).isEqualTo(-1);
+    then(PrimitiveArrays.indexOfSequence(new byte[] { 1 }, new byte[] { 1, 2 })).isEqualTo(-1);
+  }
+
+  @Test
+  void should_find_the_first_unsorted_element() {
+    then(PrimitiveArrays.indexOfFirstUnsortedElement(new double[] { -0.0, 0.0, 1.0, Double.NaN })).isEqualTo(-1);
+    then(PrimitiveArrays.indexOfFirstUnsortedElement(new double[] { 0.0, -0.0 })).isZero();
+    then(PrimitiveArrays.indexOfFirstUnsortedElement(new boolean[] { false, true, false })).isEqualTo(1);
+    then(PrimitiveArrays.indexOfFirstUnsortedElement(new char[] { 'a' })).isEqualTo(-1);
+  }
+
+  @Test
+  void should_tell_whether_a_sequence_is_found_at_the_given_index() {
+    then(PrimitiveArrays.containsSequenceAt(new int[] { 1, 2, 3 }, new int[] { 2, 3 }, 1)).isTrue();
+    then(PrimitiveArrays.containsSequenceAt(new int[] { 1, 2, 3 }, new int[] { 2, 3 }, 0)).isFalse();
+    then(PrimitiveArrays.containsSequenceAt(new int[] { 1, 2, 3 }, new int[] { 3, 4 }, 2)).isFalse();
+    then(PrimitiveArrays.containsSequenceAt(new int[] { 1 }, new int[] { 1, 2 }, -1)).isFalse();
+  }
+
+}
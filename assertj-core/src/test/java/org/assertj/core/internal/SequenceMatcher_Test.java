@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.stream.Stream;
+
+import org.assertj.core.testkit.CaseInsensitiveStringComparator;
+import org.assertj.core.util.DoubleComparator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class SequenceMatcher_Test {
+
+  // the KMP algorithm is only used with the standard strategy, the other ones compare a window of elements
+  static Stream<ComparisonStrategy> comparisonStrategies() {
+    return Stream.of(StandardComparisonStrategy.instance(),
+                     new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.INSTANCE),
+                     new ComparatorBasedComparisonStrategy(new FieldByFieldComparator()) {
+                       @Override
+                       public boolean areEqual(Object actual, Object other) {
+                         return actual.toString().equalsIgnoreCase(other.toString());
+                       }
+                     });
+  }
+
+  @ParameterizedTest
+  @MethodSource("comparisonStrategies")
+  void should_return_the_index_of_the_first_occurrence(ComparisonStrategy comparisonStrategy) {
+    then(SequenceMatcher.indexOf(list("a", "b", "a", "b", "a", "b", "c"), array("a", "b", "a", "b", "c"), comparisonStrategy))
+                                                                                                                          .isEqualTo(2);
+    then(SequenceMatcher.indexOf(list("a", "a", "a", "b"), array("a", "a", "b"), comparisonStrategy)).isEqualTo(1);
+    then(SequenceMatcher.indexOf(list("b", "a"), array("a"), comparisonStrategy)).isEqualTo(1);
+  }
+
+  @ParameterizedTest
+  @MethodSource("comparisonStrategies")
+  void should_return_minus_one_if_the_sequence_is_not_found(ComparisonStrategy comparisonStrategy) {
+    then(SequenceMatcher.indexOf(list("a", "b", "a", "b", "a", "c"), array("a", "b", "a", "c", "a"), comparisonStrategy))
+                                                                                                                          .isEqualTo(-1);
+    then(SequenceMatcher.indexOf(list("a"), array("a", "b"), comparisonStrategy)).isEqualTo(-1);
+  }
+
+  @ParameterizedTest
+  @MethodSource("comparisonStrategies")
+  void should_find_overlapping_occurrences(ComparisonStrategy comparisonStrategy) {
+    // GIVEN
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(array("a", "b", "a"), comparisonStrategy);
+    // WHEN/THEN
+    then(sequenceMatcher.accept("a")).isFalse();
+    then(sequenceMatcher.accept("b")).isFalse();
+    then(sequenceMatcher.accept("a")).isTrue();
+    then(sequenceMatcher.matchStartIndex()).isZero();
+    then(sequenceMatcher.accept("b")).isFalse();
+    then(sequenceMatcher.accept("a")).isTrue();
+    then(sequenceMatcher.matchStartIndex()).isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @MethodSource("comparisonStrategies")
+  void should_tell_whether_elements_end_with_the_sequence(ComparisonStrategy comparisonStrategy) {
+    then(SequenceMatcher.endsWith(list("a", "b", "c"), array("b", "c"), comparisonStrategy)).isTrue();
+    then(SequenceMatcher.endsWith(list("a", "b", "c"), array("a", "b"), comparisonStrategy)).isFalse();
+    then(SequenceMatcher.endsWith(list("c"), array("b", "c"), comparisonStrategy)).isFalse();
+  }
+
+  @ParameterizedTest
+  @MethodSource("comparisonStrategies")
+  void should_iterate_elements_once(ComparisonStrategy comparisonStrategy) {
+    // GIVEN
+    Iterable<String> singlyTraversable = Stream.of("a", "b", "c")::iterator;
+    // WHEN/THEN
+    then(SequenceMatcher.indexOf(singlyTraversable, array("b", "c"), comparisonStrategy)).isEqualTo(1);
+  }
+
+  @Test
+  void should_not_assume_a_transitive_equality_with_a_custom_comparison_strategy() {
+    // GIVEN
+    // 1.0 is close to 0.0 and 2.0 but 0.0 is not close to 2.0
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(new DoubleComparator(1.0));
+    // WHEN/THEN
+    then(SequenceMatcher.indexOf(list(1.0, 2.0, 2.0, 5.0), array(0.0, 1.0, 5.0), comparisonStrategy)).isEqualTo(-1);
+    then(SequenceMatcher.indexOf(list(1.0, 2.0, 2.0, 5.0), array(1.0, 2.0, 5.0), comparisonStrategy)).isEqualTo(1);
+    then(SequenceMatcher.endsWith(list(1.0, 2.0, 2.0, 5.0), array(0.0, 1.0, 5.0), comparisonStrategy)).isFalse();
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.Comparator;
+
+import org.assertj.core.testkit.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+class SortedMerge_Test {
+
+  private final ComparisonStrategy caseInsensitiveComparisonStrategy = new ComparatorBasedComparisonStrategy(
+                                                                                                             CaseInsensitiveStringComparator.INSTANCE);
+
+  @Test
+  void should_only_be_supported_by_comparison_strategies_whose_comparator_defines_an_order() {
+    then(SortedMerge.isSupportedBy(caseInsensitiveComparisonStrategy)).isTrue();
+    then(SortedMerge.isSupportedBy(StandardComparisonStrategy.instance())).isFalse();
+    then(SortedMerge.isSupportedBy(new ComparatorBasedComparisonStrategy(new FieldByFieldComparator()))).isFalse();
+  }
+
+  @Test
+  void should_tell_whether_elements_are_the_same_in_any_order() {
+    then(SortedMerge.haveSameElements(caseInsensitiveComparisonStrategy, list("b", "A", "a"), list("a", "B", "a"))).isTrue();
+    then(SortedMerge.haveSameElements(caseInsensitiveComparisonStrategy, list("b", "A", "a"), list("a", "B", "b"))).isFalse();
+    then(SortedMerge.haveSameElements(caseInsensitiveComparisonStrategy, list("b", "A"), list("a", "B", "b"))).isFalse();
+  }
+
+  @Test
+  void should_tell_whether_elements_are_the_same_ignoring_duplicates() {
+    then(SortedMerge.haveSameElementsIgnoringDuplicates(caseInsensitiveComparisonStrategy, list("b", "A", "a"),
+                                                        list("a", "B"))).isTrue();
+    then(SortedMerge.haveSameElementsIgnoringDuplicates(caseInsensitiveComparisonStrategy, list("b", "A"),
+                                                        list("a", "B", "c"))).isFalse();
+    then(SortedMerge.haveSameElementsIgnoringDuplicates(caseInsensitiveComparisonStrategy, list("a", "b", "c"),
+                                                        list("a", "B"))).isFalse();
+  }
+
+  @Test
+  void should_tell_whether_all_searched_elements_are_in_the_container() {
+    then(SortedMerge.containsAll(caseInsensitiveComparisonStrategy, list("b", "A", "c"), list("a", "B", "a"))).isTrue();
+    then(SortedMerge.containsAll(caseInsensitiveComparisonStrategy, list("b", "A", "c"), list("a", "d"))).isFalse();
+    then(SortedMerge.containsAll(caseInsensitiveComparisonStrategy, list("b"), list("a", "b"))).isFalse();
+  }
+
+  @Test
+  void should_not_establish_anything_when_elements_can_not_be_sorted() {
+    // GIVEN
+    // Integer elements can be compared to String elements but String elements can't be compared to anything
+    Comparator<Object> comparator = (o1, o2) -> Integer.compare((Integer) o1, Integer.parseInt(o2.toString()));
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(comparator);
+    // WHEN/THEN
+    then(SortedMerge.containsAll(comparisonStrategy, list(1, 2), list(2, 1))).isTrue();
+    then(SortedMerge.containsAll(comparisonStrategy, list(1, 2), list("2", "1"))).isFalse();
+  }
+
+  @Test
+  void should_not_establish_anything_when_there_are_null_elements() {
+    then(SortedMerge.haveSameElements(caseInsensitiveComparisonStrategy, list("a", null), list(null, "a"))).isFalse();
+    then(SortedMerge.containsAll(caseInsensitiveComparisonStrategy, list("a", null), list((String) null))).isFalse();
+  }
+
+  @Test
+  void should_not_consider_elements_equal_when_the_comparator_does_not_define_an_order() {
+    // GIVEN
+    Comparator<String> equalityOnlyComparator = (s1, s2) -> s1.equalsIgnoreCase(s2) ? 0 : -1;
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(equalityOnlyComparator);
+    // WHEN/THEN
+    then(SortedMerge.haveSameElements(comparisonStrategy, list("a", "b", "c"), list("c", "d", "a"))).isFalse();
+    then(SortedMerge.containsAll(comparisonStrategy, list("a", "b", "c"), list("d"))).isFalse();
+  }
+
+}
@@ -50,6 +50,29 @@ class StandardComparisonStrategy_duplicatesFrom_Test extends AbstractTest_Standa
     then(duplicates).containsExactly(new String[] { null }, array("Merry"), array("Frodo"));
   }
 
+  @Test
+  void should_return_existing_duplicates_primitive_array() {
+    // GIVEN
+    List<int[]> list = list(new int[] { 1 }, new int[] { 2 }, new int[] { 1 }, new int[] { 1, 2 }, new int[] { 2 });
+    // WHEN
+    @SuppressWarnings("unchecked")
+    Iterable<int[]> duplicates = (Iterable<int[]>) standardComparisonStrategy.duplicatesFrom(list);
+    // THEN
+    then(duplicates).containsExactly(new int[] { 1 }, new int[] { 2 });
+  }
+
+  @Test
+  void should_return_existing_duplicates_of_elements_with_the_same_hash_code() {
+    // GIVEN
+    // "Aa", "BB" and "C#" have the same hash code
+    List<String> list = list("Aa", "BB", "C#", "Aa", "C#");
+    // WHEN
+    @SuppressWarnings("unchecked")
+    Iterable<Object> duplicates = (Iterable<Object>) standardComparisonStrategy.duplicatesFrom(list);
+    // THEN
+    then(duplicates).containsExactly("Aa", "C#");
+  }
+
   @Test
   void should_not_return_any_duplicates() {
     // GIVEN
@@ -22,8 +22,10 @@ import static org.assertj.core.testkit.TestData.someInfo;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.DoubleArrays;
 import org.assertj.core.internal.DoubleArraysBaseTest;
+import org.assertj.core.util.DoubleComparator;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -156,4 +158,17 @@ class DoubleArrays_assertContainsSequence_Test extends DoubleArraysBaseTest {
   void should_pass_if_actual_and_sequence_are_equal_according_to_custom_comparison_strategy() {
     arraysWithCustomComparisonStrategy.assertContainsSequence(someInfo(), actual, arrayOf(6d, -8d, 10d, 12d));
   }
+
+  @Test
+  void should_fail_if_actual_does_not_contain_sequence_according_to_non_transitive_custom_comparison_strategy() {
+    // 1.0 is close to 0.0 and 2.0 but 0.0 is not close to 2.0
+    ComparatorBasedComparisonStrategy precisionComparisonStrategy = new ComparatorBasedComparisonStrategy(new DoubleComparator(1.0));
+    DoubleArrays arraysWithPrecision = new DoubleArrays(precisionComparisonStrategy);
+    double[] actual = arrayOf(1.0, 2.0, 2.0, 5.0);
+    double[] sequence = arrayOf(0.0, 1.0, 5.0);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arraysWithPrecision.assertContainsSequence(someInfo(), actual,
+                                                                                                                 sequence))
+                                                   .withMessage(shouldContainSequence(actual, sequence,
+                                                                                      precisionComparisonStrategy).create());
+  }
 }
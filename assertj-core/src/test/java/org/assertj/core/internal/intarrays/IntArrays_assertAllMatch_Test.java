@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal.intarrays;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.testkit.TestData.someInfo;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.function.IntPredicate;
+
+import org.assertj.core.internal.IntArraysBaseTest;
+import org.assertj.core.presentation.PredicateDescription;
+import org.junit.jupiter.api.Test;
+
+class IntArrays_assertAllMatch_Test extends IntArraysBaseTest {
+
+  @Test
+  void should_pass_if_all_elements_match_the_predicate() {
+    arrays.assertAllMatch(someInfo(), actual, i -> i > 0, PredicateDescription.GIVEN);
+  }
+
+  @Test
+  void should_pass_if_actual_is_empty() {
+    arrays.assertAllMatch(someInfo(), new int[0], i -> false, PredicateDescription.GIVEN);
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> arrays.assertAllMatch(someInfo(), null, i -> true,
+                                                                                     PredicateDescription.GIVEN));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_throw_error_if_predicate_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> arrays.assertAllMatch(someInfo(), actual, null, PredicateDescription.GIVEN))
+                                    .withMessage("The predicate to evaluate should not be null");
+  }
+
+  @Test
+  void should_fail_if_one_element_does_not_match_the_predicate() {
+    // GIVEN
+    IntPredicate predicate = i -> i > 7;
+    PredicateDescription description = new PredicateDescription("greater than 7");
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> arrays.assertAllMatch(someInfo(), actual, predicate, description));
+    // THEN
+    then(assertionError).hasMessage(elementsShouldMatch(actual, actual[0], description).create());
+  }
+
+  @Test
+  void should_fail_if_some_elements_do_not_match_the_predicate() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> arrays.assertAllMatch(someInfo(), actual, i -> i < 7,
+                                                                                     PredicateDescription.GIVEN));
+    // THEN
+    then(assertionError).hasMessage(elementsShouldMatch(actual, list(8, 10), PredicateDescription.GIVEN).create());
+  }
+
+}
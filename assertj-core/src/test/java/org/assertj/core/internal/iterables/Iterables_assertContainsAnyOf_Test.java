@@ -54,6 +54,19 @@ class Iterables_assertContainsAnyOf_Test extends IterablesBaseTest {
     iterables.assertContainsAnyOf(someInfo(), names, array(name("John", "Doe"), name("Jane", "Doe")));
   }
 
+  @Test
+  void should_pass_with_array_values() {
+    // GIVEN
+    Iterable<int[]> arrays = asList(new int[] { 1, 2 }, new int[] { 3 });
+    // THEN
+    iterables.assertContainsAnyOf(someInfo(), arrays, array(new int[] { 4 }, new int[] { 3 }));
+  }
+
+  @Test
+  void should_pass_with_null_values() {
+    iterables.assertContainsAnyOf(someInfo(), newArrayList("Luke", null), array("Han", null));
+  }
+
   @Test
   void should_pass_if_actual_contains_given_values_in_different_order() {
     iterables.assertContainsAnyOf(someInfo(), actual, array("Leia", "Yoda"));
@@ -29,8 +29,10 @@ import static org.mockito.Mockito.verify;
 import java.util.Collection;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
+import org.assertj.core.util.DoubleComparator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -188,4 +190,19 @@ class Iterables_assertContainsSequence_Test extends IterablesBaseTest {
                                                                           array("YODA", "luke", "lEIA", "Obi-wan"));
   }
 
+  @Test
+  void should_fail_if_actual_does_not_contain_sequence_according_to_non_transitive_custom_comparison_strategy() {
+    // GIVEN
+    AssertionInfo info = someInfo();
+    Iterable<Double> actual = list(1.0, 2.0, 2.0, 5.0);
+    Object[] sequence = { 0.0, 1.0, 5.0 };
+    ComparatorBasedComparisonStrategy closeToComparisonStrategy = new ComparatorBasedComparisonStrategy(new DoubleComparator(1.0));
+    Iterables iterablesWithCloseToComparisonStrategy = new Iterables(closeToComparisonStrategy);
+    // WHEN
+    Throwable error = catchThrowable(() -> iterablesWithCloseToComparisonStrategy.assertContainsSequence(info, actual, sequence));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessage(shouldContainSequence(actual, sequence, closeToComparisonStrategy).create());
+  }
+
 }
@@ -24,12 +24,15 @@ import static org.assertj.core.testkit.ObjectArrays.emptyArray;
 import static org.assertj.core.testkit.TestData.someInfo;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
+import org.assertj.core.util.DoubleComparator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -180,6 +183,14 @@ class Iterables_assertDoesNotContainSequence_Test extends IterablesBaseTest {
     verify(failures).failure(info, shouldNotContainSequence(actual, sequence, 0, comparisonStrategy));
   }
 
+  @Test
+  void should_pass_if_actual_does_not_contain_sequence_according_to_non_transitive_custom_comparison_strategy() {
+    // GIVEN
+    Iterables iterablesWithCloseToComparisonStrategy = new Iterables(new ComparatorBasedComparisonStrategy(new DoubleComparator(1.0)));
+    // WHEN/THEN
+    iterablesWithCloseToComparisonStrategy.assertDoesNotContainSequence(someInfo(), list(1.0, 2.0, 2.0, 5.0), array(0.0, 1.0, 5.0));
+  }
+
   private void verifyFailureThrownWhenSequenceNotFound(AssertionInfo info, Object[] sequence, int index) {
     verify(failures).failure(info, shouldNotContainSequence(actual, sequence, index));
   }
@@ -88,6 +88,18 @@ class Iterables_assertDoesNotContain_Test extends IterablesBaseTest {
     verify(failures).failure(info, shouldNotContain(actual, expected, newLinkedHashSet("Luke", "Yoda")));
   }
 
+  @Test
+  void should_fail_if_actual_contains_given_array_values() {
+    AssertionInfo info = someInfo();
+    List<int[]> actual = newArrayList(new int[] { 1, 2 }, new int[] { 3 });
+    Object[] expected = { new int[] { 4 }, new int[] { 1, 2 } };
+
+    Throwable error = catchThrowable(() -> iterables.assertDoesNotContain(info, actual, expected));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info, shouldNotContain(actual, expected, newLinkedHashSet(expected[1])));
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
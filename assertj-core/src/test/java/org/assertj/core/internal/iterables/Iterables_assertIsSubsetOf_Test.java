@@ -108,6 +108,19 @@ class Iterables_assertIsSubsetOf_Test extends IterablesBaseTest {
     verify(failures).failure(info, shouldBeSubsetOf(actual, values, extra));
   }
 
+  @Test
+  void should_fail_if_actual_arrays_are_not_subset_of_values() {
+    AssertionInfo info = someInfo();
+    List<int[]> actual = newArrayList(new int[] { 3 }, new int[] { 1, 2 }, new int[] { 5 });
+    List<int[]> values = newArrayList(new int[] { 1, 2 }, new int[] { 4 });
+    List<int[]> extra = newArrayList(actual.get(0), actual.get(2));
+
+    Throwable error = catchThrowable(() -> iterables.assertIsSubsetOf(info, actual, values));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info, shouldBeSubsetOf(actual, values, extra));
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -22,12 +22,14 @@ import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
 import org.assertj.core.internal.IterablesBaseTest;
 import org.assertj.core.testkit.Jedi;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
 /**
  * @author Ting Sun
@@ -191,6 +193,38 @@ class Iterables_assertSatisfiesExactlyInAnyOrder_Test extends IterablesBaseTest
     iterables.assertSatisfiesExactlyInAnyOrder(info, actual, consumers);
   }
 
+  @Test
+  void should_pass_if_the_same_element_is_present_several_times() {
+    // GIVEN
+    String luke = "Luke";
+    List<String> actual = newArrayList(luke, "Yoda", luke);
+    Consumer<String> consumer1 = s -> assertThat(s).startsWith("L");
+    Consumer<String> consumer2 = s -> assertThat(s).isNotEmpty();
+    Consumer<String> consumer3 = s -> assertThat(s).endsWith("e");
+    // WHEN/THEN
+    iterables.assertSatisfiesExactlyInAnyOrder(info, actual, array(consumer1, consumer2, consumer3));
+  }
+
+  @Test
+  @Timeout(5)
+  void should_fail_quickly_if_many_consumers_can_not_be_satisfied_by_different_elements() {
+    // GIVEN
+    int size = 40;
+    List<Integer> actual = new ArrayList<>();
+    List<Consumer<Integer>> consumers = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      actual.add(i);
+      // the last two consumers are only satisfied by 0, the other ones by any element
+      consumers.add(i < size - 2 ? element -> assertThat(element).isNotNegative() : element -> assertThat(element).isZero());
+    }
+    @SuppressWarnings("unchecked")
+    Consumer<Integer>[] consumersArray = consumers.toArray(new Consumer[0]);
+    // WHEN
+    AssertionError error = expectAssertionError(() -> iterables.assertSatisfiesExactlyInAnyOrder(info, actual, consumersArray));
+    // THEN
+    then(error).hasMessage(shouldSatisfyExactlyInAnyOrder(actual).create());
+  }
+
   private static class JediOverridingEquals extends Jedi {
 
     private JediOverridingEquals(String name, String lightSaberColor) {
@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal.iterables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.internal.Iterables;
+import org.assertj.core.internal.IterablesBaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Iterables#inParallel()}</code>.
+ */
+class Iterables_inParallel_Test extends IterablesBaseTest {
+
+  private static final List<String> ELEMENTS = IntStream.range(0, 1000).mapToObj("element-%03d"::formatted).toList();
+  private static final Consumer<String> NOT_MULTIPLE_OF_100 = element -> assertThat(element).doesNotEndWith("00");
+
+  private Iterables parallelIterables;
+
+  @BeforeEach
+  void setUpParallelIterables() {
+    parallelIterables = iterables.inParallel();
+  }
+
+  @Test
+  void should_keep_the_comparison_strategy_and_check_elements_in_parallel() {
+    // GIVEN
+    Iterables parallelIterablesWithCaseInsensitiveComparisonStrategy = iterablesWithCaseInsensitiveComparisonStrategy.inParallel();
+    // THEN
+    then(parallelIterables.isParallel()).isTrue();
+    then(iterables.isParallel()).isFalse();
+    then(parallelIterablesWithCaseInsensitiveComparisonStrategy.getComparisonStrategy()).isSameAs(comparisonStrategy);
+  }
+
+  @Test
+  void should_pass_if_all_elements_satisfy_requirements() {
+    parallelIterables.assertAllSatisfy(INFO, ELEMENTS, element -> assertThat(element).startsWith("element-"));
+  }
+
+  @Test
+  void should_report_elements_not_satisfying_requirements_in_iteration_order() {
+    // WHEN
+    AssertionError error = expectAssertionError(() -> parallelIterables.assertAllSatisfy(INFO, ELEMENTS, NOT_MULTIPLE_OF_100));
+    // THEN
+    then(error.getMessage()).containsSubsequence("element-000", "element-100", "element-200", "element-300", "element-400",
+                                                 "element-500", "element-600", "element-700", "element-800", "element-900");
+  }
+
+  @Test
+  void should_report_elements_satisfying_restrictions_in_iteration_order() {
+    // GIVEN
+    Consumer<String> multipleOf100 = element -> assertThat(element).endsWith("00");
+    // WHEN
+    AssertionError error = expectAssertionError(() -> parallelIterables.assertNoneSatisfy(INFO, ELEMENTS, multipleOf100));
+    // THEN
+    then(error.getMessage()).containsSubsequence("element-000", "element-100", "element-200", "element-300", "element-400",
+                                                 "element-500", "element-600", "element-700", "element-800", "element-900");
+  }
+
+  @Test
+  void should_report_elements_not_satisfying_condition_in_iteration_order() {
+    // GIVEN
+    Condition<String> notMultipleOf100 = new Condition<>(element -> !element.endsWith("00"), "not a multiple of 100");
+    // WHEN
+    AssertionError error = expectAssertionError(() -> parallelIterables.assertAre(INFO, ELEMENTS, notMultipleOf100));
+    // THEN
+    then(error).hasMessageContaining("[\"element-000\",%n    \"element-100\",%n    \"element-200\",".formatted());
+  }
+
+  @Test
+  void should_count_elements_satisfying_condition() {
+    // GIVEN
+    Condition<String> multipleOf100 = new Condition<>(element -> element.endsWith("00"), "a multiple of 100");
+    // WHEN/THEN
+    parallelIterables.assertAreExactly(INFO, ELEMENTS, 10, multipleOf100);
+    parallelIterables.assertAreAtLeast(INFO, ELEMENTS, 10, multipleOf100);
+    expectAssertionError(() -> parallelIterables.assertAreAtMost(INFO, ELEMENTS, 9, multipleOf100));
+  }
+
+  @Test
+  void should_pass_if_only_one_element_satisfies_requirements() {
+    parallelIterables.assertSatisfiesOnlyOnce(INFO, ELEMENTS, element -> assertThat(element).isEqualTo("element-500"));
+  }
+
+  @Test
+  void should_check_elements_from_several_threads() {
+    // GIVEN
+    assumeThat(ForkJoinPool.getCommonPoolParallelism()).isGreaterThan(1);
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    // WHEN
+    parallelIterables.assertAllSatisfy(INFO, ELEMENTS, element -> {
+      threads.add(Thread.currentThread());
+      sleep();
+    });
+    // THEN
+    then(threads).hasSizeGreaterThan(1);
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(1);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
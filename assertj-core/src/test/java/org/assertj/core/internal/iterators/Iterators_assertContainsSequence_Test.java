@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal.iterators;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldContainSequence.shouldContainSequence;
+import static org.assertj.core.internal.ErrorMessages.emptySequence;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Iterators;
+import org.assertj.core.internal.IteratorsBaseTest;
+import org.assertj.core.internal.StandardComparisonStrategy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Iterators#assertContainsSequence(AssertionInfo, Iterator, Object[])}</code>.
+ */
+class Iterators_assertContainsSequence_Test extends IteratorsBaseTest {
+
+  @Test
+  void should_pass_at_the_end_of_the_first_occurrence_of_the_sequence() {
+    // GIVEN
+    Iterator<Integer> actual = Stream.iterate(0, i -> i + 1).iterator();
+    // WHEN
+    iterators.assertContainsSequence(INFO, actual, array(1000, 1001, 1002));
+    // THEN
+    then(actual.next()).isEqualTo(1003);
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_contain_sequence() {
+    // GIVEN
+    Iterator<Integer> actual = list(1, 2, 3).iterator();
+    Integer[] sequence = array(1, 3);
+    // WHEN
+    expectAssertionError(() -> iterators.assertContainsSequence(INFO, actual, sequence));
+    // THEN
+    verify(failures).failure(INFO, shouldContainSequence(list(1, 2, 3), sequence, StandardComparisonStrategy.instance()));
+  }
+
+  @Test
+  void should_throw_error_if_sequence_is_empty() {
+    assertThatIllegalArgumentException().isThrownBy(() -> iterators.assertContainsSequence(INFO, list(1).iterator(), array()))
+                                        .withMessage(emptySequence());
+  }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal.iterators;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ActualIsNotEmpty.actualIsNotEmpty;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Iterators;
+import org.assertj.core.internal.IteratorsBaseTest;
+import org.assertj.core.internal.StandardComparisonStrategy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Iterators#assertContains(AssertionInfo, Iterator, Object[])}</code>.
+ */
+class Iterators_assertContains_Test extends IteratorsBaseTest {
+
+  @Test
+  void should_pass_as_soon_as_all_values_are_found() {
+    // GIVEN
+    Iterator<Integer> actual = Stream.iterate(0, i -> i + 1).iterator();
+    // WHEN
+    iterators.assertContains(INFO, actual, array(10, 2, 2));
+    // THEN
+    then(actual.next()).isEqualTo(11);
+  }
+
+  @Test
+  void should_pass_if_actual_and_values_are_empty() {
+    iterators.assertContains(INFO, Collections.emptyIterator(), array());
+  }
+
+  @Test
+  void should_fail_if_values_are_empty_and_actual_is_not() {
+    // GIVEN
+    Iterator<Integer> actual = Stream.iterate(0, i -> i + 1).iterator();
+    // WHEN
+    expectAssertionError(() -> iterators.assertContains(INFO, actual, array()));
+    // THEN
+    verify(failures).failure(INFO, actualIsNotEmpty(list(0)));
+  }
+
+  @Test
+  void should_fail_if_some_values_are_not_found() {
+    // GIVEN
+    Iterator<Integer> actual = list(1, 2, 3).iterator();
+    Integer[] values = array(1, 4, 5);
+    // WHEN
+    expectAssertionError(() -> iterators.assertContains(INFO, actual, values));
+    // THEN
+    verify(failures).failure(INFO, shouldContain(list(1, 2, 3), values, newLinkedHashSet(4, 5),
+                                                 StandardComparisonStrategy.instance()));
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal.iterators;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThan;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Iterators;
+import org.assertj.core.internal.IteratorsBaseTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for <code>{@link Iterators#assertHasSizeLessThan(AssertionInfo, Iterator, int)}</code>.
+ */
+class Iterators_assertHasSizeLessThan_Test extends IteratorsBaseTest {
+
+  @Test
+  void should_pass_if_size_of_actual_is_less_than_boundary() {
+    // GIVEN
+    Iterator<Integer> actual = list(1, 2).iterator();
+    // WHEN
+    iterators.assertHasSizeLessThan(INFO, actual, 3);
+    // THEN
+    then(actual).isExhausted();
+  }
+
+  @Test
+  void should_fail_after_reading_boundary_elements() {
+    // GIVEN
+    Iterator<Integer> actual = Stream.iterate(0, i -> i + 1).iterator();
+    // WHEN
+    expectAssertionError(() -> iterators.assertHasSizeLessThan(INFO, actual, 3));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveSizeLessThan(list(0, 1, 2), 3));
+    then(actual.next()).isEqualTo(3);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = { 0, -1 })
+  void should_fail_without_reading_elements_if_boundary_is_not_positive(int boundary) {
+    // GIVEN
+    Iterator<Integer> actual = list(1, 2).iterator();
+    // WHEN
+    expectAssertionError(() -> iterators.assertHasSizeLessThan(INFO, actual, boundary));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveSizeLessThan(list(), boundary));
+    then(actual.next()).isEqualTo(1);
+  }
+
+  @Test
+  void should_fail_if_actual_is_empty_and_boundary_is_zero() {
+    // GIVEN
+    Iterator<Integer> actual = Collections.emptyIterator();
+    // WHEN
+    expectAssertionError(() -> iterators.assertHasSizeLessThan(INFO, actual, 0));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveSizeLessThan(list(), 0));
+  }
+
+}
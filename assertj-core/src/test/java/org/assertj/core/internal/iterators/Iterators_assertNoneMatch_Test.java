@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal.iterators;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Iterators;
+import org.assertj.core.internal.IteratorsBaseTest;
+import org.assertj.core.presentation.PredicateDescription;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Iterators#assertNoneMatch(AssertionInfo, Iterator, Predicate, PredicateDescription)}</code>.
+ */
+class Iterators_assertNoneMatch_Test extends IteratorsBaseTest {
+
+  @Test
+  void should_pass_if_no_elements_match() {
+    // GIVEN
+    Iterator<Integer> actual = list(1, 2, 3).iterator();
+    // WHEN
+    iterators.assertNoneMatch(INFO, actual, i -> i < 0, PredicateDescription.GIVEN);
+    // THEN
+    then(actual).isExhausted();
+  }
+
+  @Test
+  void should_fail_as_soon_as_an_element_matches() {
+    // GIVEN
+    Iterator<Integer> actual = Stream.iterate(0, i -> i + 1).iterator();
+    // WHEN
+    expectAssertionError(() -> iterators.assertNoneMatch(INFO, actual, i -> i == 2, PredicateDescription.GIVEN));
+    // THEN
+    verify(failures).failure(INFO, noElementsShouldMatch(list(0, 1, 2), 2, PredicateDescription.GIVEN));
+  }
+
+}
@@ -29,6 +29,7 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Sets.set;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -159,4 +160,15 @@ class Maps_assertContainsValues_Test extends MapsBaseTest {
                                                           set("green"))));
   }
 
+  @Test
+  void should_fail_if_identity_map_does_not_contain_the_same_instances_as_the_given_values() {
+    // GIVEN
+    Map<String, String> actual = new IdentityHashMap<>(mapOf(entry("name", "Yoda"), entry("job", "Jedi")));
+    String[] expected = array("Yoda", new String("Jedi"));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> maps.assertContainsValues(info, actual, expected));
+    // THEN
+    then(assertionError).hasMessage(shouldContainValues(actual, set("Jedi")).create());
+  }
+
 }
@@ -13,9 +13,11 @@
 package org.assertj.core.util;
 
 import static java.lang.Thread.currentThread;
+import static java.util.Arrays.stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Strings.concat;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -60,6 +62,23 @@ class Throwables_appendCurrentThreadStackTraceToThrowable_Test {
                                                   "org.assertj.core.util.Throwables_appendCurrentThreadStackTraceToThrowable_Test.should_add_stack_trace_of_current_thread");
   }
 
+  @Test
+  void should_add_the_same_elements_as_the_current_thread_stack_trace() {
+    // GIVEN
+    RuntimeException thrown = new RuntimeException("Thrown on purpose");
+    thrown.setStackTrace(new StackTraceElement[0]);
+    StackTraceElement[] currentThreadStackTrace = currentThread().getStackTrace();
+    // WHEN
+    Throwables.appendStackTraceInCurrentThreadToThrowable(thrown, "should_add_the_same_elements_as_the_current_thread_stack_trace");
+    // THEN
+    // the test is invoked by reflection, the reflection frames are part of both stack traces
+    List<String> expected = stream(currentThreadStackTrace).skip(1) // Thread.getStackTrace
+                                                           .map(this::asString)
+                                                           .toList();
+    assertThat(stream(thrown.getStackTrace()).map(this::asString)).contains("java.lang.reflect.Method.invoke")
+                                                                   .containsExactlyElementsOf(expected);
+  }
+
   private String asString(StackTraceElement e) {
     return concat(e.getClassName(), ".", e.getMethodName());
   }
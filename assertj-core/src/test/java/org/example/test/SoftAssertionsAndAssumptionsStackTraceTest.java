@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.example.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.configuration.AssertionErrorStackTrace.TRUNCATED_STACK_TRACE_MAX_ELEMENTS;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.configuration.AssertionErrorStackTrace;
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.testkit.MutatesGlobalConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This test has to be in a package other than org.assertj because otherwise the test elements would be removed from the
+ * stack trace by the assertj filtering of internal elements.
+ */
+@MutatesGlobalConfiguration
+class SoftAssertionsAndAssumptionsStackTraceTest {
+
+  @AfterEach
+  void afterEach() {
+    Failures.instance().setSoftAssertionsAndAssumptionsStackTrace(Configuration.SOFT_ASSERTIONS_AND_ASSUMPTIONS_STACK_TRACE);
+  }
+
+  @Test
+  void should_give_the_full_stack_trace_to_soft_assertion_errors_by_default() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    softly.assertThat(1).isNegative();
+    // THEN
+    StackTraceElement[] stackTrace = softly.assertionErrorsCollected().get(0).getStackTrace();
+    then(stackTrace).hasSizeGreaterThan(TRUNCATED_STACK_TRACE_MAX_ELEMENTS);
+    then(stackTrace[0].getMethodName()).isEqualTo("should_give_the_full_stack_trace_to_soft_assertion_errors_by_default");
+  }
+
+  @Test
+  void should_give_a_truncated_stack_trace_to_soft_assertion_errors() {
+    // GIVEN
+    Failures.instance().setSoftAssertionsAndAssumptionsStackTrace(AssertionErrorStackTrace.TRUNCATED);
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    softly.assertThat(List.of(1, 2)).contains(3);
+    softly.assertThat("abc").isNotNull()
+          .startsWith("b");
+    // THEN
+    List<AssertionError> errors = softly.assertionErrorsCollected();
+    then(errors).hasSize(2)
+                .allSatisfy(error -> {
+                  StackTraceElement[] stackTrace = error.getStackTrace();
+                  then(stackTrace).hasSize(TRUNCATED_STACK_TRACE_MAX_ELEMENTS);
+                  then(stackTrace[0].getMethodName()).isEqualTo("should_give_a_truncated_stack_trace_to_soft_assertion_errors");
+                });
+    // the line numbers are still added to the error messages
+    then(errors.get(0)).hasMessageContaining("(SoftAssertionsAndAssumptionsStackTraceTest.java:62)");
+    then(errors.get(1)).hasMessageContaining("(SoftAssertionsAndAssumptionsStackTraceTest.java:64)");
+  }
+
+  @Test
+  void should_not_give_a_stack_trace_to_soft_assertion_errors() {
+    // GIVEN
+    Failures.instance().setSoftAssertionsAndAssumptionsStackTrace(AssertionErrorStackTrace.NONE);
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    softly.assertThat(1).isNegative();
+    // THEN
+    then(softly.assertionErrorsCollected()).singleElement()
+                                           .satisfies(error -> then(error.getStackTrace()).isEmpty());
+  }
+
+  @Test
+  void should_give_a_truncated_stack_trace_to_the_cause_of_failed_assumptions() {
+    // GIVEN
+    Failures.instance().setSoftAssertionsAndAssumptionsStackTrace(AssertionErrorStackTrace.TRUNCATED);
+    // WHEN
+    Throwable assumptionException = catchThrowable(() -> assumeThat(1).isNegative());
+    // THEN
+    StackTraceElement[] stackTrace = assumptionException.getCause().getStackTrace();
+    then(stackTrace).hasSizeLessThanOrEqualTo(TRUNCATED_STACK_TRACE_MAX_ELEMENTS);
+    then(stackTrace[0].getMethodName()).startsWith("lambda$should_give_a_truncated_stack_trace_to_the_cause_of_failed_assumptions");
+  }
+
+  @Test
+  void should_give_the_full_stack_trace_to_assertion_errors() {
+    // GIVEN
+    Failures.instance().setSoftAssertionsAndAssumptionsStackTrace(AssertionErrorStackTrace.NONE);
+    // WHEN
+    AssertionError error = expectAssertionError(() -> assertThat(1).isNegative());
+    // THEN
+    then(error.getStackTrace()).hasSizeGreaterThan(TRUNCATED_STACK_TRACE_MAX_ELEMENTS);
+  }
+
+}
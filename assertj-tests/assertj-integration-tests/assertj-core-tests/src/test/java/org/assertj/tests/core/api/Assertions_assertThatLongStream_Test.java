@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api;
+
+import static org.assertj.core.api.Assertions.assertThatLongStream;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+class Assertions_assertThatLongStream_Test {
+
+  @Test
+  void should_chain_array_assertions_on_the_stream_elements() {
+    assertThatLongStream(LongStream.of(1L, 2L, 3L)).isSorted()
+                                                   .allMatch(l -> l > 0)
+                                                   .containsOnly(1L, 2L, 3L)
+                                                   .containsExactly(1L, 2L, 3L)
+                                                   .hasSize(3);
+  }
+
+  @Test
+  void should_consume_and_close_the_stream_once() {
+    // GIVEN
+    AtomicBoolean closed = new AtomicBoolean();
+    LongStream stream = LongStream.of(1L, 2L, 3L).onClose(() -> closed.set(true));
+    // WHEN
+    assertThatLongStream(stream).contains(1L, 2L, 3L);
+    // THEN
+    then(closed).isTrue();
+  }
+
+  @Test
+  void should_pass_if_actual_is_null() {
+    assertThatLongStream(null).isNull();
+  }
+
+  @Test
+  void should_fail_if_the_stream_elements_are_not_sorted() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLongStream(LongStream.of(3L, 1L)).isSorted());
+    // THEN
+    then(assertionError).hasMessageContaining("group is not sorted");
+  }
+
+  @Test
+  void should_give_access_to_the_boxed_elements() {
+    // GIVEN
+    LongStream stream = LongStream.of(1L, 2L, 3L);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLongStream(stream).as("boxed")
+                                                                                           .boxed()
+                                                                                           .filteredOn(l -> l > 1)
+                                                                                           .isEmpty());
+    // THEN
+    then(assertionError).hasMessageStartingWith("[boxed]");
+  }
+
+}
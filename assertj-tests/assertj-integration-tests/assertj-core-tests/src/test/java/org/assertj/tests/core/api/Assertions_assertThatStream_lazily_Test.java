@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api;
+
+import static org.assertj.core.api.Assertions.as;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.LazyIteratorAssert;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+class Assertions_assertThatStream_lazily_Test {
+
+  @Test
+  void should_verify_infinite_streams() {
+    assertThat(Stream.iterate(0, i -> i + 1)).lazily()
+                                             .containsSequence(1000, 1001, 1002);
+    assertThat(Stream.iterate(0, i -> i + 1)).lazily()
+                                             .anyMatch(i -> i > 1_000_000);
+    assertThat(Stream.iterate(0, i -> i + 1)).lazily()
+                                             .startsWith(0, 1, 2);
+    assertThat(IntStream.iterate(0, i -> i + 1)).lazily()
+                                                .contains(10, 2);
+  }
+
+  @Test
+  void should_read_the_elements_once_and_stop_as_soon_as_the_result_is_known() {
+    // GIVEN
+    AtomicInteger readElements = new AtomicInteger();
+    Stream<Integer> stream = Stream.of(1, 2, 3, 4).peek(i -> readElements.incrementAndGet());
+    // WHEN
+    assertThat(stream).lazily()
+                      .contains(2);
+    // THEN
+    then(readElements).hasValue(2);
+  }
+
+  @Test
+  void should_fail_with_the_elements_read() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(Stream.iterate(0, i -> i + 1)).as("naturals")
+                                                                                                        .lazily()
+                                                                                                        .hasSizeLessThan(3));
+    // THEN
+    then(assertionError).hasMessage(String.format("[naturals] %n"
+                                                  + "Expecting size of:%n"
+                                                  + "  [0, 1, 2]%n"
+                                                  + "to be less than 3 but was at least 3"));
+  }
+
+  @Test
+  void should_fail_if_a_second_assertion_reads_the_elements() {
+    // GIVEN
+    LazyIteratorAssert<Integer> lazyAssert = assertThat(Stream.of(1, 2, 3)).lazily()
+                                                                           .allMatch(i -> i > 0);
+    // WHEN/THEN
+    assertThatIllegalStateException().isThrownBy(() -> lazyAssert.noneMatch(i -> i < 0));
+  }
+
+  @Test
+  void should_verify_the_remaining_iterator_elements() {
+    // GIVEN
+    Iterator<Integer> iterator = Stream.iterate(0, i -> i + 1).iterator();
+    iterator.next();
+    // WHEN/THEN
+    assertThat(iterator).lazily()
+                        .startsWith(1, 2);
+    then(iterator.next()).isEqualTo(3);
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    Stream<Integer> actual = null;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).lazily()
+                                                                                 .contains(1));
+    // THEN
+    then(assertionError).hasMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void should_use_the_element_comparator() {
+    assertThat(Stream.of("A", "B")).usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+                                   .lazily()
+                                   .contains("a");
+  }
+
+  @Test
+  void should_collect_errors_with_soft_assertions() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    softly.assertThat(Stream.of(1, 2).iterator()).lazily()
+                                                 .contains(3);
+    softly.assertThat(List.of("A", "B")).usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+                                        .lazily()
+                                        .contains("a");
+    // THEN
+    then(softly.errorsCollected()).singleElement(as(THROWABLE))
+                                  .hasMessageContainingAll("[1, 2]", "3");
+  }
+
+}
@@ -32,6 +32,10 @@ class FieldLocation_Test {
   void should_honor_equals_contract() {
     // WHEN/THEN
     EqualsVerifier.forClass(FieldLocation.class)
+                  .withPrefabValues(FieldLocation.class, new FieldLocation("a"), new FieldLocation("b"))
+                  .withCachedHashCode("hash", "computeHash", new FieldLocation("a.b"))
+                  // lazily computed representations of the path
+                  .withIgnoredFields("pathToUseInRules", "decomposedPath", "pathsHierarchyToUseInRules")
                   .verify();
   }
 
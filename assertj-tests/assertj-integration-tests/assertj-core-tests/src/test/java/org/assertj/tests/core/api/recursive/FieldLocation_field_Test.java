@@ -43,4 +43,18 @@ class FieldLocation_field_Test {
     then(childFieldLocation.getPathToUseInRules()).isEqualTo("person.children.name");
     then(childFieldLocation.getFieldName()).isEqualTo("name");
   }
+
+  @Test
+  void should_build_child_field_location_equal_to_the_one_built_from_its_whole_path() {
+    // GIVEN
+    FieldLocation parentFieldLocation = new FieldLocation(list("person", "[0]"));
+    // WHEN
+    FieldLocation childFieldLocation = parentFieldLocation.field("children").field("[2]").field("name");
+    // THEN
+    FieldLocation fieldLocation = new FieldLocation(list("person", "[0]", "children", "[2]", "name"));
+    then(childFieldLocation).isEqualTo(fieldLocation)
+                            .hasSameHashCodeAs(fieldLocation)
+                            .isNotEqualTo(new FieldLocation(list("person", "[1]", "children", "[2]", "name")));
+    then(childFieldLocation.getPathToUseInErrorReport()).isEqualTo("person.[0].children.[2].name");
+  }
 }
@@ -60,6 +60,18 @@ class RecursiveAssertionDriver_RecursionTest extends AbstractRecursiveAssertionD
     thenNoException().isThrownBy(() -> objectUnderTest.assertOverObjectGraph(boomOnOveruse, objectTree));
   }
 
+  @Test
+  void should_visit_distinct_objects_even_if_they_are_equal() {
+    // GIVEN
+    RecursiveAssertionDriver objectUnderTest = testSubjectWithDefaultConfiguration();
+    AlwaysEqual objectTree = new AlwaysEqual(new AlwaysEqual(new AlwaysEqual(null)));
+    // WHEN
+    List<FieldLocation> failedFields = objectUnderTest.assertOverObjectGraph(node -> !(node instanceof AlwaysEqual), objectTree);
+    // THEN
+    then(failedFields).containsOnly(rootFieldLocation().field("next"),
+                                    rootFieldLocation().field("next").field("next"));
+  }
+
   private Predicate<Object> predicateThatThrowsWhenCalledTooOften(int maxCalls) {
     AtomicInteger callLimit = new AtomicInteger(maxCalls - 1);
     return o -> {
@@ -68,4 +80,22 @@ class RecursiveAssertionDriver_RecursionTest extends AbstractRecursiveAssertionD
       return false;
     };
   }
+
+  static class AlwaysEqual {
+    AlwaysEqual next;
+
+    AlwaysEqual(AlwaysEqual next) {
+      this.next = next;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof AlwaysEqual;
+    }
+
+    @Override
+    public int hashCode() {
+      return 1;
+    }
+  }
 }
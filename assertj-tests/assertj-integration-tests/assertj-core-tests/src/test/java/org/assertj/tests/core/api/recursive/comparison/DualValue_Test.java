@@ -19,6 +19,7 @@ import static org.assertj.core.util.Lists.list;
 import java.util.Objects;
 
 import org.assertj.core.api.recursive.comparison.DualValue;
+import org.assertj.core.api.recursive.comparison.FieldLocation;
 import org.junit.jupiter.api.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -29,6 +30,7 @@ class DualValue_Test {
   void should_honor_equals_contract() {
     EqualsVerifier.forClass(DualValue.class)
                   .withNonnullFields("fieldLocation")
+                  .withPrefabValues(FieldLocation.class, new FieldLocation("a"), new FieldLocation("b"))
                   .withCachedHashCode("hashCode", "computeHashCode", new DualValue(list(), "foo", "bar"))
                   .verify();
   }
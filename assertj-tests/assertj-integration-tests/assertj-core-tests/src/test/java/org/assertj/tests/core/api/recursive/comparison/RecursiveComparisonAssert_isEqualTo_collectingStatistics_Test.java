@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonStatistics;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_collectingStatistics_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  @Test
+  void should_collect_compared_nodes_and_introspection_statistics() {
+    // GIVEN
+    RecursiveComparisonStatistics statistics = new RecursiveComparisonStatistics();
+    Item actual = new Item("a", 1, new Item("b", 2, null));
+    Item expected = new Item("a", 1, new Item("b", 2, null));
+    // WHEN
+    then(actual).usingRecursiveComparison()
+                .collectingStatisticsIn(statistics)
+                .isEqualTo(expected);
+    // THEN
+    // root children: name, value, child and child children: name, value, child
+    then(statistics.getVisitedNodes()).isEqualTo(6);
+    then(statistics.getAlreadyVisitedNodes()).isZero();
+    // the 3 child children are added while the root name and value are still waiting to be compared
+    then(statistics.getMaxNodesToCompare()).isEqualTo(5);
+    then(statistics.getIntrospectionCallsPerClass()).containsOnlyKeys(Item.class)
+                                                    .hasEntrySatisfying(Item.class,
+                                                                        calls -> assertThat(calls).isGreaterThan(1));
+    then(statistics.getIntrospectionDurationPerClass()).containsOnlyKeys(Item.class);
+  }
+
+  @Test
+  void should_collect_custom_comparator_invocations() {
+    // GIVEN
+    RecursiveComparisonStatistics statistics = new RecursiveComparisonStatistics();
+    Item actual = new Item("a", 1, new Item("b", 2, null));
+    Item expected = new Item("A", 1, new Item("B", 2, null));
+    // WHEN
+    then(actual).usingRecursiveComparison()
+                .collectingStatisticsIn(statistics)
+                .withComparatorForType(CASE_INSENSITIVE_ORDER, String.class)
+                .isEqualTo(expected);
+    // THEN
+    then(statistics.getCustomComparatorInvocations()).isEqualTo(2);
+  }
+
+  @Test
+  void should_collect_unordered_collection_elements_compared_after_the_ones_with_the_same_fingerprint() {
+    // GIVEN
+    RecursiveComparisonStatistics statistics = new RecursiveComparisonStatistics();
+    // actual null names are ignored, so actual and expected elements don't have the same fingerprint
+    List<Item> actual = list(new Item(null, 1, null), new Item(null, 2, null));
+    List<Item> expected = list(new Item("b", 2, null), new Item("a", 1, null));
+    // WHEN
+    then(actual).usingRecursiveComparison()
+                .collectingStatisticsIn(statistics)
+                .ignoringCollectionOrder()
+                .ignoringActualNullFields()
+                .isEqualTo(expected);
+    // THEN
+    then(statistics.getUnorderedCollectionFallbackComparisons()).isPositive();
+  }
+
+  @Test
+  void should_accumulate_statistics_over_comparisons() {
+    // GIVEN
+    RecursiveComparisonStatistics statistics = new RecursiveComparisonStatistics();
+    Item actual = new Item("a", 1, null);
+    // WHEN
+    then(actual).usingRecursiveComparison()
+                .collectingStatisticsIn(statistics)
+                .isEqualTo(new Item("a", 1, null))
+                .isNotEqualTo(new Item("b", 1, null));
+    // THEN
+    then(statistics.getVisitedNodes()).isGreaterThan(3);
+  }
+
+  @Test
+  void should_report_statistics_in_the_error_message() {
+    // GIVEN
+    Item actual = new Item("a", 1, null);
+    Item expected = new Item("b", 1, null);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .reportingStatisticsOnFailure()
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContainingAll("The recursive comparison statistics were:",
+                                                 "- compared nodes: 3 (already compared: 0)",
+                                                 "- custom comparator invocations: 0",
+                                                 "- introspection calls per class (from the most to the least time consuming):",
+                                                 Item.class.getName());
+  }
+
+  @Test
+  void should_not_report_statistics_in_the_error_message_by_default() {
+    // GIVEN
+    Item actual = new Item("a", 1, null);
+    Item expected = new Item("b", 1, null);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .collectingStatisticsIn(new RecursiveComparisonStatistics())
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageNotContaining("statistics");
+  }
+
+  static class Item {
+    String name;
+    int value;
+    Item child;
+
+    Item(String name, int value, Item child) {
+      this.name = name;
+      this.value = value;
+      this.child = child;
+    }
+  }
+
+}
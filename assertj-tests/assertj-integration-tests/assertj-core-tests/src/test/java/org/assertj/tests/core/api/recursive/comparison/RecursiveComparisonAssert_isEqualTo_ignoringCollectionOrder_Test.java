@@ -550,4 +550,28 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
                                                      "  [Item(Shoes, 2)]"));
   }
 
+  @Test
+  void should_match_elements_whose_compared_values_differ_only_because_of_ignored_null_fields() {
+    // GIVEN
+    List<Item> actualItems = list(new Item(null, 2), new Item(null, 3));
+    List<Item> expectedItems = list(new Item("Pants", 3), new Item("Shoes", 2));
+    // WHEN/THEN
+    then(actualItems).usingRecursiveComparison()
+                     .ignoringCollectionOrder()
+                     .ignoringActualNullFields()
+                     .isEqualTo(expectedItems);
+  }
+
+  @Test
+  void should_match_elements_compared_with_a_comparator_ignoring_collection_order() {
+    // GIVEN
+    List<Item> actualItems = list(new Item("pants", 3), new Item("shoes", 2));
+    List<Item> expectedItems = list(new Item("SHOES", 2), new Item("PANTS", 3));
+    // WHEN/THEN
+    then(actualItems).usingRecursiveComparison()
+                     .ignoringCollectionOrder()
+                     .withComparatorForType(String.CASE_INSENSITIVE_ORDER, String.class)
+                     .isEqualTo(expectedItems);
+  }
+
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.ComparingProperties.COMPARING_PROPERTIES;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_readingChildNodeValues_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  @Test
+  void should_read_each_child_node_value_once() {
+    // GIVEN
+    Node actual = new Node("root", new Node("child", null));
+    Node expected = new Node("root", new Node("child", null));
+    // WHEN
+    then(actual).usingRecursiveComparison()
+                .isEqualTo(expected);
+    // THEN
+    then(actual.nameReads).isEqualTo(1);
+    then(actual.child.nameReads).isEqualTo(1);
+    then(expected.nameReads).isEqualTo(1);
+    then(expected.child.nameReads).isEqualTo(1);
+  }
+
+  @Test
+  void should_read_each_child_node_value_once_when_comparing_properties() {
+    // GIVEN
+    Node actual = new Node("root", new Node("child", null));
+    Node expected = new Node("root", new Node("child", null));
+    // WHEN
+    then(actual).usingRecursiveComparison()
+                .withIntrospectionStrategy(COMPARING_PROPERTIES)
+                .isEqualTo(expected);
+    // THEN
+    then(actual.nameReads).isEqualTo(1);
+    then(actual.child.nameReads).isEqualTo(1);
+    then(expected.nameReads).isEqualTo(1);
+    then(expected.child.nameReads).isEqualTo(1);
+  }
+
+  @Test
+  void should_read_each_child_node_value_once_when_ignoring_some_child_nodes() {
+    // GIVEN
+    Node actual = new Node("root", new Node("child", null));
+    Node expected = new Node("root", new Node("other child", null));
+    // WHEN
+    then(actual).usingRecursiveComparison()
+                .ignoringFields("child.name")
+                .isEqualTo(expected);
+    // THEN
+    then(actual.nameReads).isEqualTo(1);
+    then(actual.child.nameReads).isZero();
+    then(expected.nameReads).isEqualTo(1);
+    then(expected.child.nameReads).isZero();
+  }
+
+  @Test
+  void should_read_each_child_node_value_of_unordered_collection_elements_once() {
+    // GIVEN
+    Node actualElement1 = new Node("a", null);
+    Node actualElement2 = new Node("b", null);
+    Node expectedElement1 = new Node("b", null);
+    Node expectedElement2 = new Node("a", null);
+    // WHEN
+    then(List.of(actualElement1, actualElement2)).usingRecursiveComparison()
+                                                 .withIntrospectionStrategy(COMPARING_PROPERTIES)
+                                                 .ignoringCollectionOrder()
+                                                 .isEqualTo(List.of(expectedElement1, expectedElement2));
+    // THEN
+    then(actualElement1.nameReads).isEqualTo(1);
+    then(actualElement2.nameReads).isEqualTo(1);
+    then(expectedElement1.nameReads).isEqualTo(1);
+    then(expectedElement2.nameReads).isEqualTo(1);
+  }
+
+  static class Node {
+    private final String name;
+    private final Node child;
+    int nameReads;
+
+    Node(String name, Node child) {
+      this.name = name;
+      this.child = child;
+    }
+
+    public String getName() {
+      nameReads++;
+      return name;
+    }
+
+    public Node getChild() {
+      return child;
+    }
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenIllegalArgumentException;
+import static org.assertj.tests.core.api.recursive.data.TreeNode.tree;
+
+import java.util.List;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.assertj.tests.core.api.recursive.data.TreeNode;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_withParallelism_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  @Test
+  void should_pass_when_comparing_equal_graphs_in_parallel() {
+    // GIVEN
+    TreeNode actual = tree(100, 50);
+    TreeNode expected = tree(100, 50);
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .withParallelism(4)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_report_the_same_differences_as_a_sequential_comparison() {
+    // GIVEN
+    TreeNode actual = tree(100, 50);
+    TreeNode expected = tree(100, 50);
+    expected.children.get(0).value = -1;
+    expected.children.get(42).children.get(7).value = -2;
+    expected.children.get(99).children.get(49).name = "different";
+    expected.children.get(60).children.remove(3);
+    RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+    List<ComparisonDifference> sequentialDifferences = calculator.determineDifferences(actual, expected,
+                                                                                       new RecursiveComparisonConfiguration());
+    RecursiveComparisonConfiguration parallelConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                             .withParallelism(4)
+                                                                                             .build();
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = calculator.determineDifferences(actual, expected, parallelConfiguration);
+    // THEN
+    then(parallelDifferences).hasSize(4)
+                             .containsExactlyElementsOf(sequentialDifferences);
+  }
+
+  @Test
+  void should_detect_cycles_when_comparing_in_parallel() {
+    // GIVEN
+    Person actual = new Person("John");
+    Person expected = new Person("John");
+    actual.neighbour = new Person("Jack");
+    actual.neighbour.neighbour = actual;
+    expected.neighbour = new Person("Jack");
+    expected.neighbour.neighbour = expected;
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .withParallelism(2)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_honor_the_configuration_when_comparing_in_parallel() {
+    // GIVEN
+    TreeNode actual = tree(100, 50);
+    TreeNode expected = tree(100, 50);
+    expected.children.get(42).children.get(7).name = "different";
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .withParallelism(4)
+                .ignoringFields("children.children.name")
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_if_compared_fields_do_not_exist_when_comparing_in_parallel() {
+    // GIVEN
+    TreeNode actual = tree(1, 1);
+    TreeNode expected = tree(1, 1);
+    recursiveComparisonConfiguration.compareOnlyFields("unknown");
+    recursiveComparisonConfiguration.setParallelism(2);
+    RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+    // WHEN/THEN
+    thenIllegalArgumentException().isThrownBy(() -> calculator.determineDifferences(actual, expected,
+                                                                                    recursiveComparisonConfiguration))
+                                  .withMessage("The following fields don't exist: {unknown}");
+  }
+
+  @Test
+  void should_fail_if_parallelism_is_not_positive() {
+    thenIllegalArgumentException().isThrownBy(() -> assertThat(tree(1, 1)).usingRecursiveComparison()
+                                                                           .withParallelism(0))
+                                  .withMessage("The parallelism must be greater than 0 but was 0");
+  }
+
+}
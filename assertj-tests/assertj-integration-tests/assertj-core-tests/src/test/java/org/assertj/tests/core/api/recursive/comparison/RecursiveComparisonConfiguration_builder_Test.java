@@ -26,6 +26,7 @@ import java.util.regex.Pattern;
 import org.apache.commons.lang3.RandomUtils;
 import org.assertj.core.api.recursive.comparison.FieldLocation;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonStatistics;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration.Builder;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonIntrospectionStrategy;
 import org.assertj.tests.core.testkit.AlwaysEqualComparator;
@@ -379,6 +380,51 @@ class RecursiveComparisonConfiguration_builder_Test {
     then(configuration.getIntrospectionStrategy()).isSameAs(myIntrospectionStrategy);
   }
 
+  @Test
+  void should_set_parallelism() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withParallelism(4).build();
+    // THEN
+    then(configuration.getParallelism()).isEqualTo(4);
+  }
+
+  @Test
+  void should_fail_to_set_a_parallelism_lower_than_one() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> configBuilder().withParallelism(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("The parallelism must be greater than 0 but was 0");
+  }
+
+  @Test
+  void should_set_statistics() {
+    // GIVEN
+    RecursiveComparisonStatistics statistics = new RecursiveComparisonStatistics();
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withStatistics(statistics).build();
+    // THEN
+    then(configuration.getStatistics()).containsSame(statistics);
+    then(configuration.isReportingStatisticsOnFailure()).isFalse();
+  }
+
+  @Test
+  void should_collect_statistics_when_reporting_them_on_failure() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withStatisticsReportedOnFailure(true).build();
+    // THEN
+    then(configuration.getStatistics()).isPresent();
+    then(configuration.isReportingStatisticsOnFailure()).isTrue();
+  }
+
+  @Test
+  void should_not_collect_statistics_by_default() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().build();
+    // THEN
+    then(configuration.getStatistics()).isEmpty();
+  }
+
   @Test
   void should_set_the_standard_representation_if_none_is_set() {
     // WHEN
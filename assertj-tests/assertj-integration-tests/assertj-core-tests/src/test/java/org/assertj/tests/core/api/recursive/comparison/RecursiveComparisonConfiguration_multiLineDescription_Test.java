@@ -409,6 +409,24 @@ class RecursiveComparisonConfiguration_multiLineDescription_Test {
     then(multiLineDescription).contains("- the comparison was performed on any fields with types: java.lang.String, java.lang.Integer%n".formatted());
   }
 
+  @Test
+  void should_show_the_parallelism_used_for_the_comparison() {
+    // GIVEN
+    recursiveComparisonConfiguration.setParallelism(4);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains("- the comparison was performed in parallel by 4 threads%n".formatted());
+  }
+
+  @Test
+  void should_not_show_the_parallelism_for_a_sequential_comparison() {
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).doesNotContain("in parallel");
+  }
+
   @Test
   void should_show_that_enum_can_be_compared_to_string() {
     // GIVEN
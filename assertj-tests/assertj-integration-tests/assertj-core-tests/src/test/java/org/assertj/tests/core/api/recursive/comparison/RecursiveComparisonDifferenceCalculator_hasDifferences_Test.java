@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.tests.core.api.recursive.data.Address;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.assertj.tests.core.api.recursive.data.PersonDto;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonDifferenceCalculator_hasDifferences_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  private final RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+
+  @Test
+  void should_not_find_differences_when_objects_are_equivalent() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.home.address.number = 1;
+    Person expected = new Person("John");
+    expected.home.address.number = 1;
+    // WHEN
+    boolean hasDifferences = calculator.hasDifferences(actual, expected, recursiveComparisonConfiguration);
+    // THEN
+    then(hasDifferences).isFalse();
+    then(calculator.determineDifferences(actual, expected, recursiveComparisonConfiguration)).isEmpty();
+  }
+
+  @Test
+  void should_find_differences_when_objects_are_not_equivalent() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.home.address.number = 1;
+    Person expected = new Person("Jack");
+    expected.home.address.number = 2;
+    // WHEN
+    boolean hasDifferences = calculator.hasDifferences(actual, expected, recursiveComparisonConfiguration);
+    // THEN
+    then(hasDifferences).isTrue();
+    then(calculator.determineDifferences(actual, expected, recursiveComparisonConfiguration)).hasSize(2);
+  }
+
+  @Test
+  void should_find_differences_in_unordered_collection_elements() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.neighbour = new Person("Jack");
+    Person expected = new Person("John");
+    expected.neighbour = new Person("Jim");
+    recursiveComparisonConfiguration.ignoreCollectionOrder(true);
+    // WHEN
+    boolean hasDifferences = calculator.hasDifferences(list(actual, new Person("Jane")), list(new Person("Jane"), expected),
+                                                       recursiveComparisonConfiguration);
+    // THEN
+    then(hasDifferences).isTrue();
+  }
+
+  @Test
+  void should_find_differences_in_map_keys() {
+    // GIVEN
+    Map<String, String> actual = new TreeMap<>(Map.of("a", "1", "b", "2"));
+    Map<String, String> expected = new TreeMap<>(Map.of("a", "1", "c", "2"));
+    // WHEN
+    boolean hasDifferences = calculator.hasDifferences(actual, expected, recursiveComparisonConfiguration);
+    // THEN
+    then(hasDifferences).isTrue();
+  }
+
+  @Test
+  void should_only_take_into_account_differences_of_compared_types() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.home.address.number = 1;
+    Person expected = new Person("Jack");
+    expected.home.address.number = 1;
+    recursiveComparisonConfiguration.compareOnlyFieldsOfTypes(Address.class);
+    // WHEN
+    boolean hasDifferences = calculator.hasDifferences(actual, expected, recursiveComparisonConfiguration);
+    // THEN
+    then(hasDifferences).isFalse();
+  }
+
+  @Test
+  void should_find_differences_when_types_differ_in_strict_type_checking_mode() {
+    // GIVEN
+    Person actual = new Person("John");
+    PersonDto expected = new PersonDto("John");
+    recursiveComparisonConfiguration.strictTypeChecking(true);
+    // WHEN
+    boolean hasDifferences = calculator.hasDifferences(actual, expected, recursiveComparisonConfiguration);
+    // THEN
+    then(hasDifferences).isTrue();
+  }
+
+  @Test
+  void should_find_differences_of_values_visited_several_times() {
+    // GIVEN
+    Person sharedActualNeighbour = new Person("Jack");
+    Person sharedExpectedNeighbour = new Person("Jim");
+    Person actual = new Person("John");
+    actual.neighbour = sharedActualNeighbour;
+    Person expected = new Person("John");
+    expected.neighbour = sharedExpectedNeighbour;
+    recursiveComparisonConfiguration.ignoreCollectionOrder(true);
+    // WHEN
+    boolean hasDifferences = calculator.hasDifferences(list(actual, sharedActualNeighbour),
+                                                       list(expected, sharedExpectedNeighbour),
+                                                       recursiveComparisonConfiguration);
+    // THEN
+    then(hasDifferences).isTrue();
+  }
+
+}
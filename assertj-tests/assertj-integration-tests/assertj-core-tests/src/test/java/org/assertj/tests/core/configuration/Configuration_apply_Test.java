@@ -59,6 +59,7 @@ class Configuration_apply_Test {
     then(date).isEqualTo("2001_02_03")
               .isEqualTo("2001|02|03");
     then(AssumptionExceptionFactory.getPreferredAssumptionException()).isEqualTo(configuration.preferredAssumptionException());
+    then(Failures.instance().getSoftAssertionsAndAssumptionsStackTrace()).isEqualTo(configuration.softAssertionsAndAssumptionsStackTrace());
   }
 
   @Test
@@ -56,7 +56,8 @@ class Configuration_describe_Test {
                                        "- printAssertionsDescription ...................... = false%n" +
                                        "- descriptionConsumer ............................. = sysout%n" +
                                        "- removeAssertJRelatedElementsFromStackTraceEnabled = false%n" +
-                                       "- preferredAssumptionException .................... = TEST_NG(org.testng.SkipException)%n"));
+                                       "- preferredAssumptionException .................... = TEST_NG(org.testng.SkipException)%n" +
+                                       "- softAssertionsAndAssumptionsStackTrace .......... = TRUNCATED%n"));
   }
 
   @AfterEach
@@ -17,6 +17,7 @@ import static org.assertj.core.presentation.BinaryRepresentation.BINARY_REPRESEN
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.List;
+import org.assertj.core.configuration.AssertionErrorStackTrace;
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.PreferredAssumptionException;
 import org.assertj.core.presentation.Representation;
@@ -81,4 +82,9 @@ class NonDefaultConfiguration extends Configuration {
     return PreferredAssumptionException.TEST_NG;
   }
 
+  @Override
+  public AssertionErrorStackTrace softAssertionsAndAssumptionsStackTrace() {
+    return AssertionErrorStackTrace.TRUNCATED;
+  }
+
 }
@@ -74,6 +74,9 @@ class Throwables_getFirstStackTraceElementFromTest_Test {
                                      "org.pitest.",
                                      "org.assertj",
                                      "com.foo.Foo"),
-                               "com.foo.Foo.foo(Foo.java:14)"));
+                               "com.foo.Foo.foo(Foo.java:14)"),
+                     // soft assertion proxies generated at runtime and at build time
+                     arguments(array("com.foo.FooAssert$ByteBuddy$123", "com.foo.FooAssert$AssertJ$SoftProxy", "com.foo.Foo"),
+                               "com.foo.Foo.foo(Foo.java:3)"));
   }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure allow-list and deny-list assertions index one side with the standard comparison strategy, looking up
+ * 10 thousand values in 100 thousand elements one by one means a billion comparisons.
+ */
+class ContainsAnyOfPerfTest {
+
+  private static final List<String> ACTUAL = elements(0, 100_000);
+  private static final String[] VALUES_NOT_IN_ACTUAL = elements(100_000, 110_000).toArray(String[]::new);
+  private static final String[] VALUES_IN_ACTUAL = elements(90_000, 100_000).toArray(String[]::new);
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsAnyOf_failure_100kElements_10kValues() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(ACTUAL).containsAnyOf(VALUES_NOT_IN_ACTUAL));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsAnyOf_array_failure_100kElements_10kValues() {
+    String[] actual = ACTUAL.toArray(String[]::new);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(actual).containsAnyOf(VALUES_NOT_IN_ACTUAL));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotContain_100kElements_10kValues() {
+    assertThat(ACTUAL).doesNotContain(VALUES_NOT_IN_ACTUAL);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains_100kElements_10kValues() {
+    assertThat(ACTUAL).contains(VALUES_IN_ACTUAL);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSubsetOf_failure_100kElements_10kValues() {
+    // a single extra element prevents the sorted merge from succeeding, the extra elements are then looked up
+    List<String> values = elements(1, 100_000);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(ACTUAL).isSubsetOf(values));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsValues_100kEntries_10kValues() {
+    Map<String, String> actual = ACTUAL.stream().collect(Collectors.toMap(Function.identity(), Function.identity()));
+    assertThat(actual).containsValues(VALUES_IN_ACTUAL);
+  }
+
+  private static List<String> elements(int startInclusive, int endExclusive) {
+    return IntStream.range(startInclusive, endExclusive).mapToObj(i -> "element-" + i).toList();
+  }
+
+}
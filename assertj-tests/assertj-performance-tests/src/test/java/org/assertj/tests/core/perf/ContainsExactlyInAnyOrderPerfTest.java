@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure the order-insensitive assertions on lists or arrays of 1 million distinct elements run in O(N) with the
+ * standard comparison strategy, O(N^2) would take hours as each expected element was looked up and removed from a list.
+ */
+class ContainsExactlyInAnyOrderPerfTest {
+
+  private static final int SIZE = 1_000_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_1mElements() {
+    List<Integer> actual = shuffledIntegers();
+    List<Integer> expected = shuffledIntegers();
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_1mElements_array() {
+    Integer[] actual = shuffledIntegers().toArray(new Integer[0]);
+    Integer[] expected = shuffledIntegers().toArray(new Integer[0]);
+    assertThat(actual).containsExactlyInAnyOrder(expected);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_1mElements_with_differences() {
+    List<Integer> actual = shuffledIntegers();
+    List<Integer> expected = shuffledIntegers();
+    expected.set(0, -1);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(actual)
+                                                                                .containsExactlyInAnyOrderElementsOf(expected));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnlyOnce_1mElements() {
+    List<Integer> actual = shuffledIntegers();
+    Integer[] expected = shuffledIntegers().toArray(new Integer[0]);
+    assertThat(actual).containsOnlyOnce(expected);
+  }
+
+  private static List<Integer> shuffledIntegers() {
+    List<Integer> integers = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      integers.add(i);
+    }
+    Collections.shuffle(integers);
+    return integers;
+  }
+
+}
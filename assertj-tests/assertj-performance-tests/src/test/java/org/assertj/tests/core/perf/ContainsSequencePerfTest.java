@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.Collections.nCopies;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure the sequence assertions run in O(N + K) for 10 million elements and a sequence of 1000 elements, the
+ * sequence only differing from the elements by its last element, the worst case of a naive O(N * K) search.
+ */
+class ContainsSequencePerfTest {
+
+  private static final int SIZE = 10_000_000;
+  private static final int SEQUENCE_SIZE = 1_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSequence_10mElements() {
+    List<Integer> actual = zerosEndingWithOne(SIZE);
+    assertThat(actual).containsSequence(zerosEndingWithOne(SEQUENCE_SIZE));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSequence_10mElements_array() {
+    Integer[] actual = zerosEndingWithOne(SIZE).toArray(new Integer[0]);
+    assertThat(actual).containsSequence(zerosEndingWithOne(SEQUENCE_SIZE).toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotContainSequence_10mElements() {
+    List<Integer> actual = zerosEndingWithOne(SIZE);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(actual)
+                                                                                .doesNotContainSequence(zerosEndingWithOne(SEQUENCE_SIZE)));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_endsWith_10mElements() {
+    List<Integer> actual = zerosEndingWithOne(SIZE);
+    assertThat(actual).endsWith(zerosEndingWithOne(SEQUENCE_SIZE).toArray(new Integer[0]));
+  }
+
+  private static List<Integer> zerosEndingWithOne(int size) {
+    List<Integer> integers = new ArrayList<>(nCopies(size - 1, 0));
+    integers.add(1);
+    return integers;
+  }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure duplicates are looked up by hash code with the standard comparison strategy, looking up 5 million
+ * elements in a sorted set costs about 22 comparisons per element which is several times slower than one hash lookup.
+ */
+class DoesNotHaveDuplicatesPerfTest {
+
+  private static final int SIZE = 5_000_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotHaveDuplicates_5mElements() {
+    List<Integer> elements = IntStream.range(0, SIZE).boxed().toList();
+    assertThat(elements).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotHaveDuplicates_failure_5mElements() {
+    List<String> elements = IntStream.range(0, SIZE).mapToObj(i -> "element-" + i % (SIZE - 1)).toList();
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(elements).doesNotHaveDuplicates());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotHaveDuplicates_array_5mElements() {
+    Integer[] elements = IntStream.range(0, SIZE).boxed().toArray(Integer[]::new);
+    assertThat(elements).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotHaveDuplicates_arrays_1mElements() {
+    // arrays are compared by content, each one is wrapped in a key to be hashed
+    List<int[]> elements = IntStream.range(0, 1_000_000).mapToObj(i -> new int[] { i, -i }).toList();
+    assertThat(elements).doesNotHaveDuplicates();
+  }
+
+}
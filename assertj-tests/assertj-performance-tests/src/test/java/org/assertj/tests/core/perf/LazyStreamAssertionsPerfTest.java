@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure the lazy stream assertions read infinite streams in a single pass without keeping the elements read,
+ * 20 million elements are read before the assertions result is known.
+ */
+class LazyStreamAssertionsPerfTest {
+
+  private static final int SIZE = 20_000_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSequence_infinite_stream() {
+    assertThat(Stream.iterate(0, i -> i + 1)).lazily()
+                                             .containsSequence(SIZE, SIZE + 1, SIZE + 2);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains_infinite_stream() {
+    assertThat(Stream.iterate(0, i -> i + 1)).lazily()
+                                             .contains(SIZE, 0, SIZE / 2);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_allMatch_failure_infinite_stream() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(Stream.iterate(0, i -> i + 1)).lazily()
+                                                                                                              .allMatch(i -> i < SIZE));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_hasSizeLessThan_failure_infinite_stream() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(Stream.iterate(0, i -> i + 1)).lazily()
+                                                                                                              .hasSizeLessThan(SIZE));
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure the assertions on primitive arrays of 10 million elements read the elements directly instead of boxing
+ * them, and don't compare each element to every other one.
+ */
+class PrimitiveArraysPerfTest {
+
+  private static final int SIZE = 10_000_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains_10mElements() {
+    int[] actual = IntStream.range(0, SIZE).toArray();
+    assertThat(actual).contains(SIZE - 1, 0, SIZE / 2)
+                      .doesNotContain(-1, SIZE)
+                      .containsAnyOf(-1, SIZE - 1);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactly_10mElements() {
+    long[] actual = LongStream.range(0, SIZE).toArray();
+    assertThat(actual).containsExactly(actual.clone())
+                      .startsWith(0, 1, 2)
+                      .endsWith(SIZE - 2, SIZE - 1);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_10mElements() {
+    int[] actual = IntStream.range(0, SIZE).toArray();
+    assertThat(actual).containsExactlyInAnyOrder(reversedIntegers());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_10mElements() {
+    int[] actual = IntStream.range(0, SIZE).toArray();
+    assertThat(actual).containsOnly(reversedIntegers());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotHaveDuplicates_10mElements() {
+    assertThat(reversedIntegers()).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSequence_10mElements() {
+    double[] actual = new double[SIZE];
+    actual[SIZE - 1] = 1.0;
+    double[] sequence = new double[1_000];
+    sequence[sequence.length - 1] = 1.0;
+    assertThat(actual).containsSequence(sequence);
+  }
+
+  private static int[] reversedIntegers() {
+    return IntStream.range(0, SIZE).map(i -> SIZE - 1 - i).toArray();
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThatDoubleStream;
+import static org.assertj.core.api.Assertions.assertThatIntStream;
+import static org.assertj.core.api.Assertions.assertThatLongStream;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure the assertions on primitive streams of 50 million elements don't box the elements, 50 million boxed
+ * elements would need gigabytes of heap.
+ */
+class PrimitiveStreamsPerfTest {
+
+  private static final int SIZE = 50_000_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSorted_50mElements() {
+    assertThatIntStream(IntStream.range(0, SIZE)).isSorted()
+                                                 .allMatch(i -> i >= 0);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_50mElements() {
+    assertThatLongStream(LongStream.range(0, SIZE).map(l -> l % 3)).containsOnly(0, 1, 2)
+                                                                   .doesNotContain(3);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_allMatch_50mElements() {
+    assertThatDoubleStream(IntStream.range(0, SIZE).asDoubleStream()).allMatch(d -> d < SIZE)
+                                                                     .contains(SIZE - 1);
+  }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.tests.core.perf.TreeNode.tree;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Benchmarks the recursive comparison of a 100k nodes graph with an increasing parallelism, from 1 to the number of
+ * available processors, and reports the speedup of each parallelism compared to the sequential comparison.
+ * <p>
+ * The speedup depends on the machine (number of cores, other workloads...), it can't be asserted, this benchmark is
+ * meant to be run manually.
+ */
+@Disabled
+class RecursiveComparisonParallelismPerfTest {
+
+  @Test
+  void report_recursive_comparison_speedup_against_parallelism() {
+    TreeNode actual = tree(1_000, 100);
+    TreeNode expected = tree(1_000, 100);
+    // warm up
+    compare(actual, expected, 1);
+    long sequentialDuration = compare(actual, expected, 1);
+    System.out.printf("recursive comparison of 100k nodes with parallelism 1: %d ms%n",
+                      NANOSECONDS.toMillis(sequentialDuration));
+    int maxParallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+    for (int parallelism = 2; parallelism <= maxParallelism; parallelism *= 2) {
+      long duration = compare(actual, expected, parallelism);
+      System.out.printf("recursive comparison of 100k nodes with parallelism %d: %d ms (speedup x%.2f)%n",
+                        parallelism, NANOSECONDS.toMillis(duration), (double) sequentialDuration / duration);
+    }
+  }
+
+  private static long compare(TreeNode actual, TreeNode expected, int parallelism) {
+    long start = System.nanoTime();
+    assertThat(actual).usingRecursiveComparison()
+                      .withParallelism(parallelism)
+                      .isEqualTo(expected);
+    return System.nanoTime() - start;
+  }
+
+}
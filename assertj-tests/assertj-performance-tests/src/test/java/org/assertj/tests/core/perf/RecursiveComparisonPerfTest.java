@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.tests.core.perf.TreeNode.tree;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure the recursive comparison of an object graph is linear in the number of its nodes.
+ * <p>
+ * The recursive comparison keeps track of the visited nodes to detect cycles, if that lookup was a linear scan, comparing
+ * a graph of 100k nodes would need billions of lookups, which takes from several minutes to dozens of minutes, instead of
+ * a few seconds (introspecting each node is not free).
+ * <p>
+ * Therefore, 30 seconds (the limit used in the tests below) seems to be a good threshold that would clearly distinguish
+ * a linear recursive comparison from a quadratic one on any test agent.
+ */
+class RecursiveComparisonPerfTest {
+
+  @Test
+  @Timeout(value = 30)
+  void test_recursive_comparison_100k_nodes() {
+    TreeNode actual = tree(1_000, 100);
+    TreeNode expected = tree(1_000, 100);
+    assertThat(actual).usingRecursiveComparison()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 30)
+  void test_recursive_comparison_100k_nodes_with_difference() {
+    TreeNode actual = tree(1_000, 100);
+    TreeNode expected = tree(1_000, 100);
+    expected.children.get(500).children.get(50).value = -1;
+    assertThat(actual).usingRecursiveComparison()
+                      .isNotEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 30)
+  void test_recursive_comparison_100k_nodes_ignoring_fields_matching_40_regexes() {
+    TreeNode actual = tree(1_000, 100);
+    TreeNode expected = tree(1_000, 100);
+    String[] regexes = new String[40];
+    for (int i = 0; i < regexes.length; i++) {
+      regexes[i] = ".*field" + i;
+    }
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringFieldsMatchingRegexes(regexes)
+                      .isEqualTo(expected);
+  }
+
+}
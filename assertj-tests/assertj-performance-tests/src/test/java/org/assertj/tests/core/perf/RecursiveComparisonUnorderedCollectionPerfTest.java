@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure the recursive comparison of unordered collections of objects not overriding equals/hashCode does not
+ * compare every expected element to every actual element.
+ * <p>
+ * Comparing each pair of elements of two 10k elements collections means 50M recursive comparisons on average which takes
+ * dozens of minutes, while comparing the elements with the same fingerprint first takes less than a second.
+ * <p>
+ * Therefore, 10 seconds (the limit used in the tests below) seems to be a good threshold that would clearly distinguish
+ * both approaches on any test agent.
+ */
+class RecursiveComparisonUnorderedCollectionPerfTest {
+
+  private static final int SIZE = 10_000;
+
+  @Test
+  @Timeout(value = 10)
+  void test_recursive_comparison_of_10k_elements_lists_ignoring_collection_order() {
+    List<Person> actual = people();
+    List<Person> expected = people();
+    Collections.shuffle(expected, new Random(42));
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_recursive_comparison_of_10k_elements_sets() {
+    Set<Person> actual = new HashSet<>(people());
+    Set<Person> expected = new HashSet<>(people());
+    assertThat(actual).usingRecursiveComparison()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_recursive_comparison_of_10k_elements_lists_ignoring_collection_order_and_some_fields() {
+    List<Person> actual = people();
+    List<Person> expected = people();
+    expected.forEach(person -> person.lastLogin = -1);
+    Collections.shuffle(expected, new Random(42));
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .ignoringFields("lastLogin")
+                      .isEqualTo(expected);
+  }
+
+  private static List<Person> people() {
+    List<Person> people = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      people.add(new Person(i, "name " + i, new Address("street " + i % 100, i % 1_000), i));
+    }
+    return people;
+  }
+
+  static class Person {
+    final int id;
+    final String name;
+    final Address address;
+    long lastLogin;
+
+    Person(int id, String name, Address address, long lastLogin) {
+      this.id = id;
+      this.name = name;
+      this.address = address;
+      this.lastLogin = lastLogin;
+    }
+  }
+
+  static class Address {
+    final String street;
+    final int number;
+
+    Address(String street, int number) {
+      this.street = street;
+      this.number = number;
+    }
+  }
+
+}
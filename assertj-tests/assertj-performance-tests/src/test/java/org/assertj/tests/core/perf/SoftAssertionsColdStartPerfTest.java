@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.io.File.pathSeparator;
+import static java.lang.ProcessBuilder.Redirect.INHERIT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AssertionProxiesGenerator;
+import org.assertj.core.api.ListAssert;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.StringAssert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * These tests ensure the first {@code softly.assertThat(...)} calls of a fresh JVM use the soft assertion proxy classes
+ * generated at build time by {@link AssertionProxiesGenerator} when they are on the classpath, which avoids generating them
+ * at runtime, and otherwise generate them.
+ * <p>
+ * The JVM is started with AssertJ on the classpath since the proxy classes generated at build time are not used when
+ * AssertJ is a named module.
+ */
+class SoftAssertionsColdStartPerfTest {
+
+  @TempDir
+  Path pregeneratedClassesDirectory;
+
+  // the timeouts include starting the JVM
+
+  @Test
+  @Timeout(value = 10)
+  void test_first_soft_assertions_with_runtime_generated_proxies() throws Exception {
+    String proxyClassName = firstSoftAssertionsInNewJvm(classpath());
+    assertThat(proxyClassName).doesNotEndWith("$AssertJ$SoftProxy");
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_first_soft_assertions_with_pregenerated_proxies() throws Exception {
+    AssertionProxiesGenerator.generate(pregeneratedClassesDirectory.toFile(), List.of(StringAssert.class, ListAssert.class));
+    String proxyClassName = firstSoftAssertionsInNewJvm(pregeneratedClassesDirectory + pathSeparator + classpath());
+    assertThat(proxyClassName).isEqualTo(StringAssert.class.getName() + "$AssertJ$SoftProxy");
+  }
+
+  private static String firstSoftAssertionsInNewJvm(String classpath) throws IOException, InterruptedException {
+    Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+    ProcessBuilder processBuilder = new ProcessBuilder(java.toString(), "-cp", classpath, FirstSoftAssertions.class.getName());
+    Process process = processBuilder.redirectError(INHERIT).start();
+    List<String> output = List.of(new String(process.getInputStream().readAllBytes(), UTF_8).split("\\R"));
+    assertThat(process.waitFor()).as("exit code, output: %s", output).isZero();
+    return output.get(0);
+  }
+
+  // the current JVM may run the tests on the module path
+  private static String classpath() {
+    return Stream.of(System.getProperty("jdk.module.path"), System.getProperty("java.class.path"))
+                 .filter(path -> path != null && !path.isEmpty())
+                 .collect(Collectors.joining(pathSeparator));
+  }
+
+  static class FirstSoftAssertions {
+
+    // prints the class of the soft assertion proxies
+    public static void main(String[] args) {
+      SoftAssertions softly = new SoftAssertions();
+      StringAssert stringAssert = softly.assertThat("foo");
+      stringAssert.isEqualTo("foo");
+      softly.assertThat(List.of("foo", "bar")).contains("bar");
+      softly.assertAll();
+      System.out.println(stringAssert.getClass().getName());
+    }
+
+  }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.DefaultAssertionErrorCollector;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests share soft assertions between many threads collecting errors, checking their success and registering
+ * callbacks at the same time, every collected error must be kept and notified to the callbacks registered before it was
+ * collected.
+ */
+class SoftAssertionsConcurrencyStressTest {
+
+  private static final int TASKS = 200;
+  private static final int FAILURES_PER_TASK = 20;
+
+  @BeforeAll
+  static void generateSoftAssertionsProxyClasses() {
+    // not part of what is measured
+    new SoftAssertions().assertThat(0).isZero();
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_collect_errors_from_platform_threads() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    try {
+      collectErrorsConcurrently(executor);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_collect_errors_from_virtual_threads() throws Exception {
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      collectErrorsConcurrently(executor);
+    }
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_collect_errors_concurrently_in_a_delegate_collector() throws Exception {
+    DefaultAssertionErrorCollector delegate = new DefaultAssertionErrorCollector();
+    SoftAssertions softly = new SoftAssertions();
+    softly.setDelegate(delegate);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<?>> tasks = new ArrayList<>();
+      for (int task = 0; task < TASKS; task++) {
+        tasks.add(executor.submit(() -> failSoftly(softly)));
+      }
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    }
+    assertThat(delegate.assertionErrorsCollected()).hasSize(TASKS * FAILURES_PER_TASK);
+    assertThat(delegate.wasSuccess()).isFalse();
+  }
+
+  private static void collectErrorsConcurrently(ExecutorService executor) throws Exception {
+    SoftAssertions softly = new SoftAssertions();
+    AtomicInteger notifiedErrors = new AtomicInteger();
+    softly.addAfterAssertionErrorCollected(error -> notifiedErrors.incrementAndGet());
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> tasks = new ArrayList<>();
+    for (int task = 0; task < TASKS; task++) {
+      boolean registersCallback = task % 10 == 0;
+      tasks.add(executor.submit(() -> {
+        start.await();
+        // callbacks registered while errors are collected must not disturb the other callbacks
+        if (registersCallback) softly.addAfterAssertionErrorCollected(error -> {});
+        failSoftly(softly);
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> task : tasks) {
+      task.get();
+    }
+    assertThat(softly.errorsCollected()).hasSize(TASKS * FAILURES_PER_TASK);
+    assertThat(notifiedErrors).hasValue(TASKS * FAILURES_PER_TASK);
+    assertThat(softly.wasSuccess()).isFalse();
+  }
+
+  private static void failSoftly(SoftAssertions softly) {
+    for (int i = 0; i < FAILURES_PER_TASK; i++) {
+      softly.assertThat(i).isNotNegative();
+      softly.assertThat(i).isNegative();
+    }
+  }
+
+}
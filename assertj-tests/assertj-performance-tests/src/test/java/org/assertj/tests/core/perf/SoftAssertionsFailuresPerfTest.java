@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure collecting a failed soft assertion does not look for nested proxied calls in the current stack trace,
+ * the stack trace is deep when tests run in a test framework and used to be captured again for each collected error.
+ */
+class SoftAssertionsFailuresPerfTest {
+
+  private static final int SIZE = 10_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_collect_10k_failures() {
+    SoftAssertions softly = new SoftAssertions();
+    AtomicInteger collectedErrors = new AtomicInteger();
+    softly.setAfterAssertionErrorCollected(error -> collectedErrors.incrementAndGet());
+    for (int i = 0; i < SIZE; i++) {
+      softly.assertThat(i).isNegative();
+    }
+    assertThat(collectedErrors).hasValue(SIZE);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_collect_10k_failures_of_chained_assertions() {
+    SoftAssertions softly = new SoftAssertions();
+    AtomicInteger collectedErrors = new AtomicInteger();
+    softly.setAfterAssertionErrorCollected(error -> collectedErrors.incrementAndGet());
+    for (int i = 0; i < SIZE / 2; i++) {
+      softly.assertThat("element-" + i).startsWith("item")
+                                       .endsWith("-" + i)
+                                       .hasSize(0);
+    }
+    assertThat(collectedErrors).hasValue(SIZE);
+  }
+
+}
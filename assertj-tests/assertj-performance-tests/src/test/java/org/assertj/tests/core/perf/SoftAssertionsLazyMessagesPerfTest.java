@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure soft assertions limiting the number of rendered errors only render the messages of these errors,
+ * the messages of large actual values are costly to render and nobody reads thousands of them.
+ */
+class SoftAssertionsLazyMessagesPerfTest {
+
+  private static final int SIZE = 5_000;
+  private static final int MAX_RENDERED_ERRORS = 100;
+
+  private static final List<Integer> LARGE_LIST = IntStream.range(0, 1_000).boxed().toList();
+
+  @BeforeAll
+  static void generateSoftAssertionProxyClass() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(LARGE_LIST).contains(0);
+    softly.assertAll();
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_assert_all_5k_failures_with_100_rendered_errors() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.setMaxRenderedErrors(MAX_RENDERED_ERRORS);
+    for (int i = 0; i < SIZE; i++) {
+      softly.assertThat(LARGE_LIST).contains(-i - 1);
+    }
+    Throwable error = catchThrowable(() -> softly.assertAll());
+    then(error).hasMessageContaining("%s more soft assertion errors were collected but not rendered",
+                                     SIZE - MAX_RENDERED_ERRORS);
+  }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.perf.DeepStackSoftAssertions.failSoftAssertionsAtDepth;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.configuration.AssertionErrorStackTrace;
+import org.assertj.core.configuration.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure the errors of soft assertions failing deep in the stack only look up the elements of the code
+ * calling AssertJ when their stack trace is {@link AssertionErrorStackTrace#TRUNCATED truncated} or not at all when
+ * there is {@link AssertionErrorStackTrace#NONE none}.
+ */
+class SoftAssertionsStackTracePerfTest {
+
+  private static final int SIZE = 10_000;
+  private static final int STACK_DEPTH = 500;
+
+  @BeforeAll
+  static void warmUp() {
+    SoftAssertions softly = new SoftAssertions();
+    failSoftAssertionsAtDepth(softly, 1_000, STACK_DEPTH);
+    assertThat(softly.errorsCollected()).hasSize(1_000);
+  }
+
+  @AfterEach
+  void afterEach() {
+    Configuration.DEFAULT_CONFIGURATION.apply();
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_collect_10k_failures_deep_in_the_stack_with_truncated_stack_traces() {
+    useSoftAssertionsAndAssumptionsStackTrace(AssertionErrorStackTrace.TRUNCATED);
+    SoftAssertions softly = new SoftAssertions();
+    failSoftAssertionsAtDepth(softly, SIZE, STACK_DEPTH);
+    assertThat(softly.errorsCollected()).hasSize(SIZE);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_collect_10k_failures_deep_in_the_stack_without_stack_traces() {
+    useSoftAssertionsAndAssumptionsStackTrace(AssertionErrorStackTrace.NONE);
+    SoftAssertions softly = new SoftAssertions();
+    failSoftAssertionsAtDepth(softly, SIZE, STACK_DEPTH);
+    assertThat(softly.errorsCollected()).hasSize(SIZE);
+  }
+
+  private static void useSoftAssertionsAndAssumptionsStackTrace(AssertionErrorStackTrace stackTrace) {
+    Configuration configuration = new Configuration();
+    configuration.setSoftAssertionsAndAssumptionsStackTrace(stackTrace);
+    configuration.apply();
+  }
+
+}
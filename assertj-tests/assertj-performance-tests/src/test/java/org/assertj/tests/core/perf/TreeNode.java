@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A node of the trees compared in the recursive comparison tests, {@link #tree(int, int)} builds a root node with
+ * {@code width} children having {@code leavesPerChild} leaves each.
+ */
+public class TreeNode {
+  public String name;
+  public int value;
+  public List<TreeNode> children;
+
+  public TreeNode(String name, int value, List<TreeNode> children) {
+    this.name = name;
+    this.value = value;
+    this.children = children;
+  }
+
+  public static TreeNode tree(int width, int leavesPerChild) {
+    List<TreeNode> children = new ArrayList<>(width);
+    int value = 0;
+    for (int i = 0; i < width; i++) {
+      List<TreeNode> leaves = new ArrayList<>(leavesPerChild);
+      for (int j = 0; j < leavesPerChild; j++) {
+        leaves.add(new TreeNode("leaf", value++, new ArrayList<>()));
+      }
+      children.add(new TreeNode("child", value++, leaves));
+    }
+    return new TreeNode("root", value, children);
+  }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure the order-insensitive assertions on lists of 500k distinct elements compared with an element comparator
+ * run in O(N log N) by sorting and merging the elements rather than comparing each element to every other one.
+ */
+class UsingElementComparatorPerfTest {
+
+  private static final int SIZE = 500_000;
+  private static final Comparator<String> CASE_INSENSITIVE = String.CASE_INSENSITIVE_ORDER;
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_500kElements_usingElementComparator() {
+    assertThat(shuffledStrings(false)).usingElementComparator(CASE_INSENSITIVE)
+                                      .containsExactlyInAnyOrderElementsOf(shuffledStrings(true));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_500kElements_usingElementComparator() {
+    assertThat(shuffledStrings(false)).usingElementComparator(CASE_INSENSITIVE)
+                                      .containsOnly(shuffledStrings(true).toArray(new String[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_hasSameElementsAs_500kElements_usingElementComparator() {
+    assertThat(shuffledStrings(false)).usingElementComparator(CASE_INSENSITIVE)
+                                      .hasSameElementsAs(shuffledStrings(true));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSubsetOf_500kElements_usingElementComparator() {
+    assertThat(shuffledStrings(false)).usingElementComparator(CASE_INSENSITIVE)
+                                      .isSubsetOf(shuffledStrings(true));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_500kElements_array_usingElementComparator() {
+    assertThat(shuffledStrings(false).toArray(new String[0])).usingElementComparator(CASE_INSENSITIVE)
+                                                             .containsExactlyInAnyOrder(shuffledStrings(true).toArray(new String[0]));
+  }
+
+  private static List<String> shuffledStrings(boolean upperCase) {
+    List<String> strings = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      strings.add((upperCase ? "ELEMENT-" : "element-") + i);
+    }
+    Collections.shuffle(strings);
+    return strings;
+  }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.example.perf;
+
+import org.assertj.core.api.SoftAssertions;
+
+/**
+ * Fails soft assertions deep in the stack like tests running in a test framework.
+ * <p>
+ * This class has to be in a package other than org.assertj because otherwise its elements would be considered as AssertJ
+ * ones when looking for the code calling AssertJ.
+ */
+public final class DeepStackSoftAssertions {
+
+  private DeepStackSoftAssertions() {}
+
+  public static void failSoftAssertionsAtDepth(SoftAssertions softly, int failures, int depth) {
+    if (depth > 0) {
+      failSoftAssertionsAtDepth(softly, failures, depth - 1);
+      return;
+    }
+    for (int i = 0; i < failures; i++) {
+      softly.assertThat(i).isNegative();
+    }
+  }
+
+}